@@ -29,12 +29,29 @@ COMMIT;
 INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376384', '24', 'mapType', 'mapType', 3, 2, 3, '{\"required\":\"0\",\"defaultValue\":\"all\",\"rule\":\"\"}', '2023-03-01 10:41:41', '2023-03-01 10:42:21');
 /* insert plugin_handle data for plugin cryptorResponse */
 INSERT INTO "public"."plugin_handle" VALUES ('1630768384280514560', '25', 'mapType', 'mapType', 3, 2, 4, '{\"required\":\"0\",\"defaultValue\":\"all\",\"rule\":\"\"}', '2023-03-01 11:14:15', '2023-03-01 11:15:14');
+/* insert plugin_handle data for plugin cache */
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376390', '30', 'maxBodySize', 'maxBodySize', 1, 2, 1, '{"required":"0","defaultValue":"1048576","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376391', '30', 'staleSeconds', 'staleSeconds', 1, 2, 2, '{"required":"0","defaultValue":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+/* insert plugin_handle data for logging plugins */
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376392', '18', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376393', '29', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376394', '32', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376395', '33', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376396', '34', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376397', '35', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376398', '36', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376399', '38', 'maxBodyBytes', 'maxBodyBytes', 1, 2, 3, '{"required":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1630760188111376400', '4', 'leaseSize', 'leaseSize', 1, 2, 5, '{"required":"0","defaultValue":"0","rule":""}', '2023-03-20 10:00:00', '2023-03-20 10:00:00');
 
 /* insert plugin_handle data for plugin_handle mapType */
 INSERT INTO "public"."shenyu_dict" VALUES ('1630761573833920512', 'mapType', 'mapType', 'all', 'all', '', 0, 1, '2023-03-01 10:47:11', '2023-03-01 10:47:11');
 INSERT INTO "public"."shenyu_dict" VALUES ('1630761984393367552', 'mapType', 'mapType', 'field', 'field', '', 1, 1, '2023-03-01 10:48:49', '2023-03-01 10:48:49');
 INSERT INTO "public"."shenyu_dict" VALUES ('1572621976689762308', 'loadBalance', 'LOAD_BALANCE', 'p2c', 'p2c', 'p2c', 4, 1, '2023-03-07 22:15:16.846', '2023-03-07 22:15:16.846');
 INSERT INTO "public"."shenyu_dict" VALUES ('1572621976689762309', 'loadBalance', 'LOAD_BALANCE', 'shortestResponse', 'shortestResponse', 'shortestResponse', 5, 1, '2023-03-17 10:15:16.846', '2023-03-07 10:15:16.846');
+INSERT INTO "public"."shenyu_dict" VALUES ('1572621976689762310', 'loadBalance', 'LOAD_BALANCE', 'maglev', 'maglev', 'maglev', 6, 1, '2023-03-17 10:15:16.846', '2023-03-07 10:15:16.846');
+INSERT INTO "public"."shenyu_dict" VALUES ('1630760188111376401', 'algorithmName', 'ALGORITHM_LEASEDTOKENBUCKET', 'leasedTokenBucket', 'leasedTokenBucket', 'Leased token bucket algorithm', 4, 1, '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."shenyu_dict" VALUES ('1630760188111376402', 'algorithmName', 'ALGORITHM_SLIDINGWINDOWCOUNTER', 'slidingWindowCounter', 'slidingWindowCounter', 'Sliding window counter algorithm', 5, 1, '2023-03-20 10:00:00', '2023-03-20 10:00:00');
+INSERT INTO "public"."shenyu_dict" VALUES ('1630760188111376403', 'mode', 'MODE', 'local', 'local', 'local', 3, 1, '2023-03-20 10:00:00', '2023-03-20 10:00:00');
 
 /* add column into plugin table */
 ALTER TABLE "public"."plugin" ADD COLUMN plugin_jar bytea NULL;
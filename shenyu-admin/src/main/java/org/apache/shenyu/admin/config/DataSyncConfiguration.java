@@ -227,11 +227,13 @@ public class DataSyncConfiguration {
         /**
          * Websocket collector.
          *
+         * @param websocketSyncProperties the websocket sync properties
          * @return the websocket collector
          */
         @Bean
         @ConditionalOnMissingBean(WebsocketCollector.class)
-        public WebsocketCollector websocketCollector() {
+        public WebsocketCollector websocketCollector(final WebsocketSyncProperties websocketSyncProperties) {
+            WebsocketCollector.configure(websocketSyncProperties.getSendQueueSize(), websocketSyncProperties.getSlowConsumerPolicy());
             return new WebsocketCollector();
         }
 
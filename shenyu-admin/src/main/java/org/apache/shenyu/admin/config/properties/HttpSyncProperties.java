@@ -42,6 +42,11 @@ public class HttpSyncProperties {
      */
     private int notifyBatchSize = 100;
 
+    /**
+     * Threads writing the long polling responses, default: the number of processors.
+     */
+    private int notifyThreads = Runtime.getRuntime().availableProcessors();
+
     /**
      * Gets the value of enabled.
      *
@@ -95,4 +100,22 @@ public class HttpSyncProperties {
     public void setNotifyBatchSize(final int notifyBatchSize) {
         this.notifyBatchSize = notifyBatchSize;
     }
+
+    /**
+     * Gets the value of notifyThreads.
+     *
+     * @return the value of notifyThreads
+     */
+    public int getNotifyThreads() {
+        return notifyThreads;
+    }
+
+    /**
+     * Sets the notifyThreads.
+     *
+     * @param notifyThreads notifyThreads
+     */
+    public void setNotifyThreads(final int notifyThreads) {
+        this.notifyThreads = notifyThreads;
+    }
 }
@@ -40,6 +40,16 @@ public class WebsocketSyncProperties {
      */
     private String allowOrigins;
 
+    /**
+     * the max messages waiting to be sent to one gateway, default is 64.
+     */
+    private int sendQueueSize = 64;
+
+    /**
+     * what to do with a gateway whose send queue is full, resync or disconnect, default is resync.
+     */
+    private String slowConsumerPolicy = "resync";
+
     /**
      * Gets the value of enabled.
      *
@@ -91,4 +101,40 @@ public class WebsocketSyncProperties {
     public void setAllowOrigins(final String allowOrigins) {
         this.allowOrigins = allowOrigins;
     }
+
+    /**
+     * get sendQueueSize.
+     *
+     * @return sendQueueSize
+     */
+    public int getSendQueueSize() {
+        return sendQueueSize;
+    }
+
+    /**
+     * set sendQueueSize.
+     *
+     * @param sendQueueSize sendQueueSize
+     */
+    public void setSendQueueSize(final int sendQueueSize) {
+        this.sendQueueSize = sendQueueSize;
+    }
+
+    /**
+     * get slowConsumerPolicy.
+     *
+     * @return slowConsumerPolicy
+     */
+    public String getSlowConsumerPolicy() {
+        return slowConsumerPolicy;
+    }
+
+    /**
+     * set slowConsumerPolicy.
+     *
+     * @param slowConsumerPolicy slowConsumerPolicy
+     */
+    public void setSlowConsumerPolicy(final String slowConsumerPolicy) {
+        this.slowConsumerPolicy = slowConsumerPolicy;
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.shenyu.admin.controller;
 
 import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
@@ -32,6 +34,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.constraints.NotNull;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * This Controller only when HttpLongPollingDataChangedListener exist, will take effect.
@@ -48,15 +51,22 @@ public class ConfigController {
     
     /**
      * Fetch configs shenyu result.
+     * A group param of {@code md5,revision} asks for the changes since that revision of the group.
      *
      * @param groupKeys the group keys
+     * @param request   the request
      * @return the shenyu result
      */
     @GetMapping("/fetch")
-    public ShenyuAdminResult fetchConfigs(@NotNull final String[] groupKeys) {
+    public ShenyuAdminResult fetchConfigs(@NotNull final String[] groupKeys, final HttpServletRequest request) {
         Map<String, ConfigData<?>> result = Maps.newHashMap();
         for (String groupKey : groupKeys) {
-            ConfigData<?> data = longPollingListener.fetchConfig(ConfigGroupEnum.valueOf(groupKey));
+            ConfigGroupEnum group = ConfigGroupEnum.valueOf(groupKey);
+            // md5,revision
+            String[] params = StringUtils.split(request.getParameter(groupKey), ',');
+            ConfigData<?> data = Objects.nonNull(params) && params.length == 2
+                    ? longPollingListener.fetchConfig(group, params[0], NumberUtils.toLong(params[1]))
+                    : longPollingListener.fetchConfig(group);
             result.put(groupKey, data);
         }
         return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
@@ -19,12 +19,14 @@ package org.apache.shenyu.admin.listener;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.service.AppAuthService;
 import org.apache.shenyu.admin.service.MetaDataService;
 import org.apache.shenyu.admin.service.PluginService;
 import org.apache.shenyu.admin.service.RuleService;
 import org.apache.shenyu.admin.service.SelectorService;
 import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.ConfigChange;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.PluginData;
@@ -38,9 +40,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 
 import javax.annotation.Resource;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -58,8 +65,25 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      */
     protected static final ConcurrentMap<String, ConfigDataCache> CACHE = new ConcurrentHashMap<>();
 
+    /**
+     * The change log of every group, updated together with {@link #CACHE} under its lock.
+     */
+    protected static final ConfigChangeLog CHANGE_LOG = new ConfigChangeLog(ConfigChangeLog.DEFAULT_MAX_CHANGES);
+
     private static final Logger LOG = LoggerFactory.getLogger(AbstractDataChangedListener.class);
 
+    private static final ConfigGroupEnum[] CACHED_GROUPS = {ConfigGroupEnum.APP_AUTH, ConfigGroupEnum.PLUGIN, ConfigGroupEnum.RULE, ConfigGroupEnum.SELECTOR, ConfigGroupEnum.META_DATA};
+
+    /**
+     * The tickets of the data loads, a load with a greater ticket started later and sees every change the earlier ones saw.
+     */
+    private static final AtomicLong LOADS = new AtomicLong();
+
+    /**
+     * The ticket of the load swapped into {@link #CACHE} of every group, guarded by the lock of {@link #CHANGE_LOG}.
+     */
+    private static final Map<String, Long> SWAPPED = new HashMap<>();
+
     @Resource
     private AppAuthService appAuthService;
 
@@ -91,21 +115,43 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      * @return the configuration data
      */
     public ConfigData<?> fetchConfig(final ConfigGroupEnum groupKey) {
-        ConfigDataCache config = CACHE.get(groupKey.name());
-        switch (groupKey) {
-            case APP_AUTH:
-                return buildConfigData(config, AppAuthData.class);
-            case PLUGIN:
-                return buildConfigData(config, PluginData.class);
-            case RULE:
-                return buildConfigData(config, RuleData.class);
-            case SELECTOR:
-                return buildConfigData(config, SelectorData.class);
-            case META_DATA:
-                return buildConfigData(config, MetaData.class);
-            default:
-                throw new IllegalStateException("Unexpected groupKey: " + groupKey);
+        ConfigDataCache config;
+        long revision;
+        synchronized (CHANGE_LOG) {
+            config = CACHE.get(groupKey.name());
+            revision = CHANGE_LOG.getRevision(groupKey.name());
         }
+        return buildConfigData(groupKey, config).setRevision(revision);
+    }
+
+    /**
+     * fetch the changes since the revision of the client, or the whole configuration
+     * when the revision is no longer in the change log.
+     *
+     * @param groupKey the group key
+     * @param md5      the md5 of the client
+     * @param revision the revision of the client
+     * @return the configuration data
+     */
+    public ConfigData<?> fetchConfig(final ConfigGroupEnum groupKey, final String md5, final long revision) {
+        ConfigDataCache config;
+        List<ConfigChange<Object>> changes;
+        long current;
+        synchronized (CHANGE_LOG) {
+            config = CACHE.get(groupKey.name());
+            changes = CHANGE_LOG.since(groupKey.name(), revision, md5);
+            if (!StringUtils.equals(config.getMd5(), CHANGE_LOG.getMd5(groupKey.name()))) {
+                changes = null;
+            }
+            current = CHANGE_LOG.getRevision(groupKey.name());
+        }
+        // the snapshot is decoded outside the lock, so the fetches of the gateways run in parallel
+        if (Objects.isNull(changes)) {
+            return buildConfigData(groupKey, config).setRevision(current);
+        }
+        return new ConfigData<>(config.getMd5(), config.getLastModifyTime(), null)
+                .setRevision(current)
+                .setChanges(changes);
     }
     
     @Override
@@ -113,7 +159,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateAppAuthCache();
+        this.refreshCache(ConfigGroupEnum.APP_AUTH, changed, eventType);
         this.afterAppAuthChanged(changed, eventType);
     }
     
@@ -131,7 +177,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateMetaDataCache();
+        this.refreshCache(ConfigGroupEnum.META_DATA, changed, eventType);
         this.afterMetaDataChanged(changed, eventType);
     }
     
@@ -149,7 +195,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updatePluginCache();
+        this.refreshCache(ConfigGroupEnum.PLUGIN, changed, eventType);
         this.afterPluginChanged(changed, eventType);
     }
     
@@ -167,7 +213,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateRuleCache();
+        this.refreshCache(ConfigGroupEnum.RULE, changed, eventType);
         this.afterRuleChanged(changed, eventType);
     }
     
@@ -185,7 +231,7 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
         if (CollectionUtils.isEmpty(changed)) {
             return;
         }
-        this.updateSelectorCache();
+        this.refreshCache(ConfigGroupEnum.SELECTOR, changed, eventType);
         this.afterSelectorChanged(changed, eventType);
     }
     
@@ -213,56 +259,101 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      * @param data the new config data
      */
     protected <T> void updateCache(final ConfigGroupEnum group, final List<T> data) {
-        String json = GsonUtils.getInstance().toJson(data);
-        ConfigDataCache newVal = new ConfigDataCache(group.name(), json, DigestUtils.md5Hex(json), System.currentTimeMillis());
+        ConfigDataCache newVal = buildCache(group, data);
         ConfigDataCache oldVal = CACHE.put(newVal.getGroup(), newVal);
         LOG.info("update config cache[{}], old: {}, updated: {}", group, oldVal, newVal);
     }
     
     /**
      * refresh local cache.
+     * The data is loaded from the database outside the lock, only the swap of the caches holds it.
      */
     protected void refreshLocalCache() {
-        this.updateAppAuthCache();
-        this.updatePluginCache();
-        this.updateRuleCache();
-        this.updateSelectorCache();
-        this.updateMetaDataCache();
+        long ticket = LOADS.incrementAndGet();
+        Map<ConfigGroupEnum, ConfigDataCache> loaded = new EnumMap<>(ConfigGroupEnum.class);
+        for (ConfigGroupEnum group : CACHED_GROUPS) {
+            loaded.put(group, buildCache(group, load(group)));
+        }
+        synchronized (CHANGE_LOG) {
+            for (ConfigGroupEnum group : CACHED_GROUPS) {
+                swap(group, loaded.get(group), ticket);
+                // a change that was not logged, e.g. made by another admin, starts the group over
+                ConfigDataCache config = CACHE.get(group.name());
+                if (Objects.nonNull(config) && !StringUtils.equals(config.getMd5(), CHANGE_LOG.getMd5(group.name()))) {
+                    CHANGE_LOG.reset(group.name(), config.getMd5());
+                }
+            }
+        }
     }
     
     /**
-     * Update selector cache.
+     * Reload the group from the database outside the lock, then swap the cache and log the change under the lock,
+     * so the revision and the snapshot move together.
      */
-    protected void updateSelectorCache() {
-        this.updateCache(ConfigGroupEnum.SELECTOR, selectorService.listAll());
+    private void refreshCache(final ConfigGroupEnum group, final List<?> changed, final DataEventTypeEnum eventType) {
+        long ticket = LOADS.incrementAndGet();
+        ConfigDataCache newVal = buildCache(group, load(group));
+        synchronized (CHANGE_LOG) {
+            if (swap(group, newVal, ticket)) {
+                CHANGE_LOG.append(group.name(), eventType, changed, newVal.getMd5());
+            } else {
+                // a later load already holds this change, the order of the logged changes is lost, so start the group over
+                CHANGE_LOG.reset(group.name(), CACHE.get(group.name()).getMd5());
+            }
+        }
     }
     
     /**
-     * Update rule cache.
+     * Swap the cache of the group unless a later load was already swapped, the caller holds the lock of {@link #CHANGE_LOG}.
      */
-    protected void updateRuleCache() {
-        this.updateCache(ConfigGroupEnum.RULE, ruleService.listAll());
+    private boolean swap(final ConfigGroupEnum group, final ConfigDataCache newVal, final long ticket) {
+        Long swapped = SWAPPED.get(group.name());
+        if (Objects.nonNull(swapped) && swapped > ticket && CACHE.containsKey(group.name())) {
+            return false;
+        }
+        SWAPPED.put(group.name(), ticket);
+        ConfigDataCache oldVal = CACHE.put(newVal.getGroup(), newVal);
+        LOG.info("update config cache[{}], old: {}, updated: {}", group, oldVal, newVal);
+        return true;
     }
     
-    /**
-     * Update plugin cache.
-     */
-    protected void updatePluginCache() {
-        this.updateCache(ConfigGroupEnum.PLUGIN, pluginService.listAll());
+    private List<?> load(final ConfigGroupEnum group) {
+        switch (group) {
+            case APP_AUTH:
+                return appAuthService.listAll();
+            case PLUGIN:
+                return pluginService.listAll();
+            case RULE:
+                return ruleService.listAll();
+            case SELECTOR:
+                return selectorService.listAll();
+            case META_DATA:
+                return metaDataService.listAll();
+            default:
+                throw new IllegalStateException("Unexpected groupKey: " + group);
+        }
     }
     
-    /**
-     * Update app auth cache.
-     */
-    protected void updateAppAuthCache() {
-        this.updateCache(ConfigGroupEnum.APP_AUTH, appAuthService.listAll());
+    private static ConfigDataCache buildCache(final ConfigGroupEnum group, final List<?> data) {
+        String json = GsonUtils.getInstance().toJson(data);
+        return new ConfigDataCache(group.name(), json, DigestUtils.md5Hex(json), System.currentTimeMillis());
     }
     
-    /**
-     * Update meta data cache.
-     */
-    protected void updateMetaDataCache() {
-        this.updateCache(ConfigGroupEnum.META_DATA, metaDataService.listAll());
+    private ConfigData<?> buildConfigData(final ConfigGroupEnum groupKey, final ConfigDataCache config) {
+        switch (groupKey) {
+            case APP_AUTH:
+                return buildConfigData(config, AppAuthData.class);
+            case PLUGIN:
+                return buildConfigData(config, PluginData.class);
+            case RULE:
+                return buildConfigData(config, RuleData.class);
+            case SELECTOR:
+                return buildConfigData(config, SelectorData.class);
+            case META_DATA:
+                return buildConfigData(config, MetaData.class);
+            default:
+                throw new IllegalStateException("Unexpected groupKey: " + groupKey);
+        }
     }
     
     private <T> ConfigData<T> buildConfigData(final ConfigDataCache config, final Class<T> dataType) {
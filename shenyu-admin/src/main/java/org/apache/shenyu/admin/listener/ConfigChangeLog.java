@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConfigChange;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded log of the changes of every config group.
+ * Every change gets the next revision of its group, a client that knows a revision and the md5 of the
+ * group at that revision can catch up with the changes logged since then instead of a full snapshot.
+ * A {@link DataEventTypeEnum#REFRESH} that changed the group, a change nobody logged, or a revision that
+ * aged out of the log leaves the client with a full snapshot.
+ */
+public class ConfigChangeLog {
+
+    /**
+     * The default max changes kept per group.
+     */
+    public static final int DEFAULT_MAX_CHANGES = 1024;
+
+    private final int maxChanges;
+
+    private final Map<String, GroupLog> groups = new HashMap<>();
+
+    /**
+     * Instantiates a new Config change log.
+     *
+     * @param maxChanges the max changes kept per group
+     */
+    public ConfigChangeLog(final int maxChanges) {
+        this.maxChanges = maxChanges;
+    }
+
+    /**
+     * Log a change of the group.
+     *
+     * @param group     the group
+     * @param eventType the event type
+     * @param changed   the changed data
+     * @param md5       the md5 of the group after the change
+     * @return the revision of the group after the change
+     */
+    public synchronized long append(final String group, final DataEventTypeEnum eventType, final List<?> changed, final String md5) {
+        if (DataEventTypeEnum.CREATE != eventType && DataEventTypeEnum.UPDATE != eventType && DataEventTypeEnum.DELETE != eventType) {
+            // a refresh that changed nothing, e.g. the resync of one gateway, keeps the logged changes
+            return StringUtils.equals(md5, getMd5(group)) ? getRevision(group) : reset(group, md5);
+        }
+        GroupLog groupLog = groups.computeIfAbsent(group, key -> new GroupLog());
+        Entry entry = new Entry(++groupLog.revision, eventType.name(), new ArrayList<>(changed), md5);
+        groupLog.entries.addLast(entry);
+        groupLog.size += entry.data.size();
+        while (groupLog.size > maxChanges && groupLog.entries.size() > 1) {
+            Entry aged = groupLog.entries.removeFirst();
+            groupLog.size -= aged.data.size();
+            groupLog.baseRevision = aged.revision;
+            groupLog.baseMd5 = aged.md5;
+        }
+        return groupLog.revision;
+    }
+
+    /**
+     * Drop the changes of the group, the group restarts at a new revision with the md5.
+     *
+     * @param group the group
+     * @param md5   the md5 of the group
+     * @return the revision of the group
+     */
+    public synchronized long reset(final String group, final String md5) {
+        GroupLog groupLog = groups.computeIfAbsent(group, key -> new GroupLog());
+        groupLog.entries.clear();
+        groupLog.size = 0;
+        groupLog.baseRevision = ++groupLog.revision;
+        groupLog.baseMd5 = md5;
+        return groupLog.revision;
+    }
+
+    /**
+     * Gets the current revision of the group.
+     *
+     * @param group the group
+     * @return the revision, 0 when nothing was logged
+     */
+    public synchronized long getRevision(final String group) {
+        GroupLog groupLog = groups.get(group);
+        return Objects.isNull(groupLog) ? 0 : groupLog.revision;
+    }
+
+    /**
+     * Gets the md5 of the group at the current revision.
+     *
+     * @param group the group
+     * @return the md5, null when nothing was logged
+     */
+    public synchronized String getMd5(final String group) {
+        GroupLog groupLog = groups.get(group);
+        if (Objects.isNull(groupLog)) {
+            return null;
+        }
+        return groupLog.entries.isEmpty() ? groupLog.baseMd5 : groupLog.entries.getLast().md5;
+    }
+
+    /**
+     * Gets the changes of the group since the revision.
+     *
+     * @param group    the group
+     * @param revision the revision of the client
+     * @param md5      the md5 of the client at the revision
+     * @return the changes, or null when the client needs a full snapshot
+     */
+    public synchronized List<ConfigChange<Object>> since(final String group, final long revision, final String md5) {
+        GroupLog groupLog = groups.get(group);
+        if (revision <= 0 || Objects.isNull(groupLog) || revision < groupLog.baseRevision || revision > groupLog.revision) {
+            return null;
+        }
+        if (revision == groupLog.baseRevision) {
+            return StringUtils.equals(md5, groupLog.baseMd5) ? toChanges(groupLog.entries.iterator()) : null;
+        }
+        Iterator<Entry> iterator = groupLog.entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.revision == revision) {
+                return StringUtils.equals(md5, entry.md5) ? toChanges(iterator) : null;
+            }
+        }
+        return null;
+    }
+
+    private static List<ConfigChange<Object>> toChanges(final Iterator<Entry> iterator) {
+        List<ConfigChange<Object>> changes = new ArrayList<>();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            changes.add(new ConfigChange<>(entry.eventType, entry.data));
+        }
+        return changes;
+    }
+
+    private static final class GroupLog {
+
+        private final Deque<Entry> entries = new ArrayDeque<>();
+
+        private long revision;
+
+        private long baseRevision;
+
+        private String baseMd5;
+
+        private int size;
+    }
+
+    private static final class Entry {
+
+        private final long revision;
+
+        private final String eventType;
+
+        private final List<Object> data;
+
+        private final String md5;
+
+        Entry(final long revision, final String eventType, final List<Object> data, final String md5) {
+            this.revision = revision;
+            this.eventType = eventType;
+            this.data = data;
+            this.md5 = md5;
+        }
+    }
+}
@@ -37,6 +37,10 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.timer.TaskEntity;
+import org.apache.shenyu.common.timer.Timer;
+import org.apache.shenyu.common.timer.TimerTask;
+import org.apache.shenyu.common.timer.WheelTimerFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,16 +51,17 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Future;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * HTTP long polling, which blocks the client's request thread
@@ -64,6 +69,9 @@ import java.util.concurrent.TimeUnit;
  * when there are data changes. If there is no data change after the specified time,
  * the client will make a listening request again.
  *
+ * <p>The hold timeouts of the blocked clients are kept in the shared hierarchical wheel timer,
+ * and the responses are written by a pool of notify threads, so neither of them runs on the refresh scheduler.
+ *
  * @since 2.0.0
  */
 @SuppressWarnings("all")
@@ -80,10 +88,14 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
     /**
      * Blocked client.
      */
-    private final BlockingQueue<LongPollingClient> clients;
+    private final Set<LongPollingClient> clients;
 
     private final ScheduledExecutorService scheduler;
 
+    private final ExecutorService notifyExecutor;
+
+    private final Timer timer;
+
     private final HttpSyncProperties httpSyncProperties;
 
     /**
@@ -91,9 +103,13 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
      * @param httpSyncProperties the HttpSyncProperties
      */
     public HttpLongPollingDataChangedListener(final HttpSyncProperties httpSyncProperties) {
-        this.clients = new ArrayBlockingQueue<>(1024);
+        this.clients = ConcurrentHashMap.newKeySet();
         this.scheduler = new ScheduledThreadPoolExecutor(1,
                 ShenyuThreadFactory.create("long-polling", true));
+        int notifyThreads = Math.max(1, httpSyncProperties.getNotifyThreads());
+        this.notifyExecutor = new ThreadPoolExecutor(notifyThreads, notifyThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), ShenyuThreadFactory.create("long-polling-notify", true));
+        this.timer = WheelTimerFactory.getSharedTimer();
         this.httpSyncProperties = httpSyncProperties;
     }
 
@@ -135,37 +151,56 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         // AsyncContext.settimeout() does not timeout properly, so you have to control it yourself
         asyncContext.setTimeout(0L);
         // block client's thread.
-        scheduler.execute(new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT));
+        LongPollingClient client = new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT);
+        client.start();
+        // a change between the comparison and the registration has not notified this client.
+        List<ConfigGroupEnum> missedGroup = compareChangedGroup(request);
+        if (CollectionUtils.isNotEmpty(missedGroup)) {
+            client.sendResponse(missedGroup);
+        }
+    }
+
+    /**
+     * Gets the number of blocked clients.
+     *
+     * @return the number of blocked clients
+     */
+    public int getClientSize() {
+        return clients.size();
     }
 
     @Override
     protected void afterAppAuthChanged(final List<AppAuthData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.APP_AUTH));
+        notifyExecutor.execute(new DataChangeTask(ConfigGroupEnum.APP_AUTH));
     }
 
     @Override
     protected void afterMetaDataChanged(final List<MetaData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.META_DATA));
+        notifyExecutor.execute(new DataChangeTask(ConfigGroupEnum.META_DATA));
     }
 
     @Override
     protected void afterPluginChanged(final List<PluginData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.PLUGIN));
+        notifyExecutor.execute(new DataChangeTask(ConfigGroupEnum.PLUGIN));
     }
 
     @Override
     protected void afterRuleChanged(final List<RuleData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.RULE));
+        notifyExecutor.execute(new DataChangeTask(ConfigGroupEnum.RULE));
     }
 
     @Override
     protected void afterSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
-        scheduler.execute(new DataChangeTask(ConfigGroupEnum.SELECTOR));
+        notifyExecutor.execute(new DataChangeTask(ConfigGroupEnum.SELECTOR));
     }
 
     private List<ConfigGroupEnum> compareChangedGroup(final HttpServletRequest request) {
         List<ConfigGroupEnum> changedGroup = new ArrayList<>(ConfigGroupEnum.values().length);
         for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            ConfigDataCache serverCache = CACHE.get(group.name());
+            if (Objects.isNull(serverCache)) {
+                continue;
+            }
             // md5,lastModifyTime
             String[] params = StringUtils.split(request.getParameter(group.name()), ',');
             if (Objects.isNull(params) || params.length != 2) {
@@ -173,7 +208,6 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
             }
             String clientMd5 = params[0];
             long clientModifyTime = NumberUtils.toLong(params[1]);
-            ConfigDataCache serverCache = CACHE.get(group.name());
             // do check.
             if (this.checkCacheDelayAndUpdate(serverCache, clientMd5, clientModifyTime)) {
                 changedGroup.add(group);
@@ -278,22 +312,20 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
 
         @Override
         public void run() {
-            if (clients.size() > httpSyncProperties.getNotifyBatchSize()) {
-                List<LongPollingClient> targetClients = new ArrayList<>(clients.size());
-                clients.drainTo(targetClients);
+            List<LongPollingClient> targetClients = new ArrayList<>(clients);
+            if (targetClients.size() > httpSyncProperties.getNotifyBatchSize()) {
                 List<List<LongPollingClient>> partitionClients = Lists.partition(targetClients, httpSyncProperties.getNotifyBatchSize());
-                partitionClients.forEach(item -> scheduler.execute(() -> doRun(item)));
+                partitionClients.forEach(item -> notifyExecutor.execute(() -> doRun(item)));
             } else {
-                doRun(clients);
+                doRun(targetClients);
             }
         }
 
-        private void doRun(final Collection<LongPollingClient> clients) {
-            for (Iterator<LongPollingClient> iter = clients.iterator(); iter.hasNext();) {
-                LongPollingClient client = iter.next();
-                iter.remove();
-                client.sendResponse(Collections.singletonList(groupKey));
-                LOG.info("send response with the changed group,ip={}, group={}, changeTime={}", client.ip, groupKey, changeTime);
+        private void doRun(final List<LongPollingClient> clients) {
+            for (LongPollingClient client : clients) {
+                if (client.sendResponse(Collections.singletonList(groupKey))) {
+                    LOG.info("send response with the changed group,ip={}, group={}, changeTime={}", client.ip, groupKey, changeTime);
+                }
             }
         }
     }
@@ -303,9 +335,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
      * empty data is returned. If the data changes within this time frame, the DataChangeTask
      * cancellations the timed task and responds to the changed group data.
      */
-    class LongPollingClient implements Runnable {
-
-        private final Logger log = LoggerFactory.getLogger(LongPollingClient.class);
+    class LongPollingClient {
 
         /**
          * The Async context.
@@ -318,14 +348,14 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         private final String ip;
 
         /**
-         * The Timeout time.
+         * The hold timeout task.
          */
-        private final long timeoutTime;
+        private final TimerTask timeoutTask;
 
         /**
-         * The Async timeout future.
+         * Whether the response has been sent.
          */
-        private Future<?> asyncTimeoutFuture;
+        private final AtomicBoolean responded = new AtomicBoolean(false);
 
         /**
          * Instantiates a new Long polling client.
@@ -337,35 +367,46 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         LongPollingClient(final AsyncContext ac, final String ip, final long timeoutTime) {
             this.asyncContext = ac;
             this.ip = ip;
-            this.timeoutTime = timeoutTime;
+            this.timeoutTask = new TimerTask(timeoutTime) {
+                @Override
+                public void run(final TaskEntity taskEntity) {
+                    notifyExecutor.execute(LongPollingClient.this::timeout);
+                }
+            };
         }
 
-        @Override
-        public void run() {
+        /**
+         * Block the client until a data change or the hold timeout.
+         */
+        void start() {
+            clients.add(this);
+            timer.add(timeoutTask);
+        }
+
+        private void timeout() {
             try {
-                this.asyncTimeoutFuture = scheduler.schedule(() -> {
-                    clients.remove(LongPollingClient.this);
-                    List<ConfigGroupEnum> changedGroups = compareChangedGroup((HttpServletRequest) asyncContext.getRequest());
-                    sendResponse(changedGroups);
-                }, timeoutTime, TimeUnit.MILLISECONDS);
-                clients.add(this);
+                sendResponse(compareChangedGroup((HttpServletRequest) asyncContext.getRequest()));
             } catch (Exception ex) {
-                log.error("add long polling client error", ex);
+                LOG.error("long polling client timeout error, ip={}", ip, ex);
+                sendResponse(Collections.emptyList());
             }
         }
 
         /**
-         * Send response.
+         * Send response, only the first call responds.
          *
          * @param changedGroups the changed groups
+         * @return whether the response was sent by this call
          */
-        void sendResponse(final List<ConfigGroupEnum> changedGroups) {
-            // cancel scheduler
-            if (Objects.nonNull(asyncTimeoutFuture)) {
-                asyncTimeoutFuture.cancel(false);
+        boolean sendResponse(final List<ConfigGroupEnum> changedGroups) {
+            if (!responded.compareAndSet(false, true)) {
+                return false;
             }
+            clients.remove(this);
+            timeoutTask.cancel();
             generateResponse((HttpServletResponse) asyncContext.getResponse(), changedGroups);
             asyncContext.complete();
+            return true;
         }
     }
 }
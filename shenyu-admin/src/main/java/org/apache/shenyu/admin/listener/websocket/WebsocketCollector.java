@@ -18,10 +18,12 @@
 package org.apache.shenyu.admin.listener.websocket;
 
 import org.apache.commons.collections4.MapUtils;
+import io.micrometer.core.instrument.Metrics;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,12 +34,15 @@ import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
-import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Websocket data changed listener.
@@ -49,10 +54,30 @@ public class WebsocketCollector {
     
     private static final Logger LOG = LoggerFactory.getLogger(WebsocketCollector.class);
     
-    private static final Set<Session> SESSION_SET = new CopyOnWriteArraySet<>();
+    private static final ConcurrentMap<Session, WebsocketSessionSender> SESSION_SENDERS = new ConcurrentHashMap<>();
     
     private static final String SESSION_KEY = "sessionKey";
     
+    private static final String DISCONNECT = "disconnect";
+    
+    private static final ExecutorService RESYNC_EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), ShenyuThreadFactory.create("websocket-resync", true));
+    
+    private static volatile int sendQueueSize = 64;
+    
+    private static volatile String slowConsumerPolicy = "resync";
+    
+    /**
+     * Configure the send queue of every session.
+     *
+     * @param queueSize the max messages waiting to be sent to one session
+     * @param policy    the slow consumer policy, resync or disconnect
+     */
+    public static void configure(final int queueSize, final String policy) {
+        sendQueueSize = queueSize;
+        slowConsumerPolicy = policy;
+    }
+    
     /**
      * On open.
      *
@@ -62,7 +87,7 @@ public class WebsocketCollector {
     public void onOpen(final Session session) {
         LOG.info("websocket on client[{}] open successful,maxTextMessageBufferSize:{}",
                 getClientIp(session), session.getMaxTextMessageBufferSize());
-        SESSION_SET.add(session);
+        SESSION_SENDERS.put(session, new WebsocketSessionSender(session, getClientIp(session), sendQueueSize));
     }
     
     private static String getClientIp(final Session session) {
@@ -87,14 +112,16 @@ public class WebsocketCollector {
         if (!Objects.equals(message, DataEventTypeEnum.MYSELF.name())) {
             return;
         }
-        
+        syncSelf(session);
+    }
+    
+    private static void syncSelf(final Session session) {
         try {
             ThreadLocalUtils.put(SESSION_KEY, session);
             SpringBeanUtils.getInstance().getBean(SyncDataService.class).syncAll(DataEventTypeEnum.MYSELF);
         } finally {
             ThreadLocalUtils.clear();
         }
-
     }
     
     /**
@@ -121,7 +148,7 @@ public class WebsocketCollector {
     }
     
     /**
-     * Send.
+     * Send, the message is queued to every session and sent asynchronously.
      *
      * @param message the message
      * @param type    the type
@@ -137,21 +164,39 @@ public class WebsocketCollector {
                 sendMessageBySession(session, message);
             }
         } else {
-            SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+            SESSION_SENDERS.keySet().forEach(session -> sendMessageBySession(session, message));
         }
         
     }
     
-    private static synchronized void sendMessageBySession(final Session session, final String message) {
-        try {
-            session.getBasicRemote().sendText(message);
-        } catch (IOException e) {
-            LOG.error("websocket send result is exception: ", e);
+    private static void sendMessageBySession(final Session session, final String message) {
+        WebsocketSessionSender sender = SESSION_SENDERS.get(session);
+        if (Objects.isNull(sender) || sender.offer(message)) {
+            return;
         }
+        // the session has fallen behind, a second overflow without progress disconnects it
+        if (DISCONNECT.equalsIgnoreCase(slowConsumerPolicy) || sender.overflow()) {
+            LOG.warn("websocket client[{}] is too slow, disconnect it", sender.getClientIp());
+            SESSION_SENDERS.remove(session, sender);
+            sender.close("slow consumer");
+            Metrics.counter("shenyu.admin.websocket.slow.consumer", "action", DISCONNECT).increment();
+            return;
+        }
+        LOG.warn("websocket client[{}] is too slow, drop its queued messages and resync", sender.getClientIp());
+        sender.clear();
+        RESYNC_EXECUTOR.execute(() -> {
+            if (SESSION_SENDERS.get(session) == sender) {
+                syncSelf(session);
+            }
+        });
+        Metrics.counter("shenyu.admin.websocket.slow.consumer", "action", "resync").increment();
     }
     
     private void clearSession(final Session session) {
-        SESSION_SET.remove(session);
+        WebsocketSessionSender sender = SESSION_SENDERS.remove(session);
+        if (Objects.nonNull(sender)) {
+            sender.dispose();
+        }
         ThreadLocalUtils.clear();
     }
 }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.websocket.CloseReason;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sends the messages of one websocket session in order, with at most one async send in flight.
+ * The other messages wait in a bounded queue, so a slow gateway only holds up its own messages.
+ */
+final class WebsocketSessionSender {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebsocketSessionSender.class);
+
+    private final Session session;
+
+    private final String clientIp;
+
+    private final int maxQueueSize;
+
+    private final Deque<PendingMessage> queue = new ArrayDeque<>();
+
+    private final List<Meter> meters = new ArrayList<>(2);
+
+    private PendingMessage sending;
+
+    private PendingMessage overflowAt;
+
+    private boolean closed;
+
+    /**
+     * Instantiates a new websocket session sender.
+     *
+     * @param session      the session
+     * @param clientIp     the client ip
+     * @param maxQueueSize the max messages waiting to be sent
+     */
+    WebsocketSessionSender(final Session session, final String clientIp, final int maxQueueSize) {
+        this.session = session;
+        this.clientIp = clientIp;
+        this.maxQueueSize = maxQueueSize;
+        String sessionId = StringUtils.defaultString(session.getId());
+        meters.add(Gauge.builder("shenyu.admin.websocket.send.lag", this, WebsocketSessionSender::getLag)
+                .description("milliseconds the oldest unsent message has waited").baseUnit("milliseconds")
+                .tag("session", sessionId).tag("client", clientIp).register(Metrics.globalRegistry));
+        meters.add(Gauge.builder("shenyu.admin.websocket.send.queue", this, WebsocketSessionSender::getQueueSize)
+                .description("messages waiting to be sent").tag("session", sessionId).tag("client", clientIp)
+                .register(Metrics.globalRegistry));
+    }
+
+    /**
+     * Queue the message, it is sent at once when no other message is in flight.
+     *
+     * @param message the message
+     * @return false when the queue is full and the message was not queued
+     */
+    boolean offer(final String message) {
+        PendingMessage next;
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            if (queue.size() >= maxQueueSize) {
+                return false;
+            }
+            queue.addLast(new PendingMessage(message));
+            if (Objects.nonNull(sending)) {
+                return true;
+            }
+            next = queue.pollFirst();
+            sending = next;
+        }
+        send(next);
+        return true;
+    }
+
+    /**
+     * Note a full queue.
+     *
+     * @return true when the message in flight at the previous overflow is still not sent
+     */
+    synchronized boolean overflow() {
+        boolean stalled = Objects.nonNull(sending) && sending == overflowAt;
+        overflowAt = sending;
+        return stalled;
+    }
+
+    /**
+     * Drop the queued messages, the message in flight is still sent.
+     */
+    synchronized void clear() {
+        queue.clear();
+    }
+
+    /**
+     * Close the session, the gateway resyncs after it reconnects.
+     *
+     * @param reason the reason
+     */
+    void close(final String reason) {
+        dispose();
+        try {
+            session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, reason));
+        } catch (IOException e) {
+            LOG.error("websocket close client[{}] error: ", clientIp, e);
+        }
+    }
+
+    /**
+     * Drop the queued messages and the metrics of the session.
+     */
+    void dispose() {
+        synchronized (this) {
+            closed = true;
+            queue.clear();
+        }
+        meters.forEach(Metrics.globalRegistry::remove);
+    }
+
+    /**
+     * Gets the milliseconds the oldest unsent message has waited.
+     *
+     * @return the lag
+     */
+    synchronized long getLag() {
+        return Objects.isNull(sending) ? 0 : System.currentTimeMillis() - sending.createTime;
+    }
+
+    /**
+     * Gets the messages waiting to be sent.
+     *
+     * @return the queue size
+     */
+    synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the client ip.
+     *
+     * @return the client ip
+     */
+    String getClientIp() {
+        return clientIp;
+    }
+
+    private void send(final PendingMessage message) {
+        try {
+            session.getAsyncRemote().sendText(message.text, this::onResult);
+        } catch (IllegalStateException e) {
+            onResult(new SendResult(e));
+        }
+    }
+
+    private void onResult(final SendResult result) {
+        if (!result.isOK()) {
+            LOG.error("websocket send to client[{}] error: ", clientIp, result.getException());
+        }
+        PendingMessage next;
+        synchronized (this) {
+            next = closed ? null : queue.pollFirst();
+            sending = next;
+        }
+        if (Objects.nonNull(next)) {
+            send(next);
+        }
+    }
+
+    private static final class PendingMessage {
+
+        private final String text;
+
+        private final long createTime = System.currentTimeMillis();
+
+        PendingMessage(final String text) {
+            this.text = text;
+        }
+    }
+}
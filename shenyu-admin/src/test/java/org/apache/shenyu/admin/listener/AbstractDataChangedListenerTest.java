@@ -39,8 +39,10 @@ import java.lang.reflect.Field;
 import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -133,6 +135,27 @@ public final class AbstractDataChangedListenerTest {
         assertNotNull(result5);
     }
 
+    @Test
+    public void testFetchConfigChanges() {
+        listener.afterPropertiesSet();
+        ConfigData<?> snapshot = listener.fetchConfig(ConfigGroupEnum.PLUGIN);
+        PluginData changed = PluginData.builder().id("1").name("divide").enabled(true).build();
+        when(pluginService.listAll()).thenReturn(Lists.newArrayList(changed));
+        listener.onPluginChanged(Lists.newArrayList(changed), DataEventTypeEnum.UPDATE);
+
+        ConfigData<?> delta = listener.fetchConfig(ConfigGroupEnum.PLUGIN, snapshot.getMd5(), snapshot.getRevision());
+        assertNull(delta.getData());
+        assertEquals(1, delta.getChanges().size());
+        assertEquals(DataEventTypeEnum.UPDATE.name(), delta.getChanges().get(0).getEventType());
+        assertEquals(snapshot.getRevision() + 1, delta.getRevision());
+        assertEquals(listener.getCache().get(ConfigGroupEnum.PLUGIN.name()).getMd5(), delta.getMd5());
+
+        ConfigData<?> full = listener.fetchConfig(ConfigGroupEnum.PLUGIN, "md5", snapshot.getRevision());
+        assertNull(full.getChanges());
+        assertEquals(1, full.getData().size());
+        assertEquals(delta.getRevision(), full.getRevision());
+    }
+
     @Test
     public void testOnAppAuthChanged() {
         List<AppAuthData> empty = Lists.newArrayList();
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.common.dto.ConfigChange;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The TestCase for {@link ConfigChangeLog}.
+ */
+public final class ConfigChangeLogTest {
+
+    private static final String GROUP = "SELECTOR";
+
+    @Test
+    public void testSince() {
+        ConfigChangeLog changeLog = new ConfigChangeLog(10);
+        long base = changeLog.reset(GROUP, "md5-0");
+        changeLog.append(GROUP, DataEventTypeEnum.UPDATE, Collections.singletonList("a"), "md5-1");
+        long revision = changeLog.append(GROUP, DataEventTypeEnum.DELETE, Collections.singletonList("b"), "md5-2");
+        assertEquals(base + 2, revision);
+        assertEquals(revision, changeLog.getRevision(GROUP));
+        assertEquals("md5-2", changeLog.getMd5(GROUP));
+
+        List<ConfigChange<Object>> changes = changeLog.since(GROUP, base, "md5-0");
+        assertEquals(2, changes.size());
+        assertEquals(DataEventTypeEnum.UPDATE.name(), changes.get(0).getEventType());
+        assertEquals(Collections.singletonList("b"), changes.get(1).getData());
+        assertEquals(1, changeLog.since(GROUP, base + 1, "md5-1").size());
+        assertTrue(changeLog.since(GROUP, revision, "md5-2").isEmpty());
+    }
+
+    @Test
+    public void testSnapshotNeeded() {
+        ConfigChangeLog changeLog = new ConfigChangeLog(10);
+        assertNull(changeLog.since(GROUP, 1, "md5-0"));
+        long base = changeLog.reset(GROUP, "md5-0");
+        changeLog.append(GROUP, DataEventTypeEnum.UPDATE, Collections.singletonList("a"), "md5-1");
+        // unknown revision, or a revision of another admin
+        assertNull(changeLog.since(GROUP, 0, "md5-0"));
+        assertNull(changeLog.since(GROUP, base + 5, "md5-0"));
+        assertNull(changeLog.since(GROUP, base, "md5-other"));
+        // a refresh that changed nothing keeps the changes
+        assertEquals(base + 1, changeLog.append(GROUP, DataEventTypeEnum.MYSELF, Collections.singletonList("a"), "md5-1"));
+        assertEquals(1, changeLog.since(GROUP, base, "md5-0").size());
+        // a refresh starts over
+        long revision = changeLog.append(GROUP, DataEventTypeEnum.REFRESH, Collections.singletonList("a"), "md5-2");
+        assertNull(changeLog.since(GROUP, base, "md5-0"));
+        assertTrue(changeLog.since(GROUP, revision, "md5-2").isEmpty());
+    }
+
+    @Test
+    public void testAgedOut() {
+        ConfigChangeLog changeLog = new ConfigChangeLog(3);
+        long base = changeLog.reset(GROUP, "md5-0");
+        changeLog.append(GROUP, DataEventTypeEnum.CREATE, Arrays.asList("a", "b"), "md5-1");
+        changeLog.append(GROUP, DataEventTypeEnum.CREATE, Arrays.asList("c", "d"), "md5-2");
+        assertNull(changeLog.since(GROUP, base, "md5-0"));
+        assertEquals(1, changeLog.since(GROUP, base + 1, "md5-1").size());
+    }
+}
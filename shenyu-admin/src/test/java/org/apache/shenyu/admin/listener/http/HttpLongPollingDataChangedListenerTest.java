@@ -18,9 +18,12 @@
 package org.apache.shenyu.admin.listener.http;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.config.properties.HttpSyncProperties;
+import org.apache.shenyu.admin.listener.ConfigDataCache;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
@@ -29,6 +32,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -128,4 +133,71 @@ public final class HttpLongPollingDataChangedListenerTest {
             assertEquals(2, params.length);
         }
     }
+
+    /**
+     * test a blocked client is notified of the changed group.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testNotifyBlockedClient() throws Exception {
+        CacheableListener listener = new CacheableListener();
+        listener.putCache(ConfigGroupEnum.PLUGIN, "F1887D3F9E6EE7A32FE5E76F4AB80D63");
+        try {
+            listener.setClientParameters(httpServletRequest);
+            httpServletRequest.setAsyncSupported(true);
+            listener.doLongPolling(httpServletRequest, httpServletResponse);
+            assertTrue(httpServletRequest.isAsyncStarted());
+            assertEquals(1, listener.getClientSize());
+            listener.afterPluginChanged(Collections.emptyList(), DataEventTypeEnum.UPDATE);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (listener.getClientSize() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, listener.getClientSize());
+            assertTrue(httpServletResponse.getContentAsString().contains(ConfigGroupEnum.PLUGIN.name()));
+        } finally {
+            listener.removeCache(ConfigGroupEnum.PLUGIN);
+        }
+    }
+
+    /**
+     * test a client with a different md5 is responded immediately.
+     *
+     * @throws UnsupportedEncodingException throw not support encoding
+     */
+    @Test
+    public void testRespondChangedGroupImmediately() throws UnsupportedEncodingException {
+        CacheableListener listener = new CacheableListener();
+        listener.putCache(ConfigGroupEnum.PLUGIN, "F1887D3F9E6EE7A32FE5E76F4AB80D63");
+        try {
+            listener.setClientParameters(httpServletRequest);
+            httpServletRequest.setParameter(ConfigGroupEnum.PLUGIN.name(), "E10ADC3949BA59ABBE56E057F20F883E,0");
+            listener.doLongPolling(httpServletRequest, httpServletResponse);
+            assertFalse(httpServletRequest.isAsyncStarted());
+            assertEquals(0, listener.getClientSize());
+            assertTrue(httpServletResponse.getContentAsString().contains(ConfigGroupEnum.PLUGIN.name()));
+        } finally {
+            listener.removeCache(ConfigGroupEnum.PLUGIN);
+        }
+    }
+
+    private static final class CacheableListener extends HttpLongPollingDataChangedListener {
+
+        CacheableListener() {
+            super(new HttpSyncProperties());
+        }
+
+        void putCache(final ConfigGroupEnum group, final String md5) {
+            CACHE.put(group.name(), new ConfigDataCache(group.name(), "[]", md5, 1L));
+        }
+
+        void removeCache(final ConfigGroupEnum group) {
+            CACHE.remove(group.name());
+        }
+
+        void setClientParameters(final MockHttpServletRequest request) {
+            CACHE.values().forEach(cache -> request.setParameter(cache.getGroup(), cache.getMd5() + "," + cache.getLastModifyTime()));
+        }
+    }
 }
@@ -36,15 +36,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.websocket.CloseReason;
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 import java.io.IOException;
-import java.util.Set;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -134,26 +140,50 @@ public final class WebsocketCollectorTest {
     }
 
     @Test
-    public void testSend() throws IOException {
-        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
-        when(session.getBasicRemote()).thenReturn(basic);
+    public void testSend() {
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        when(session.getAsyncRemote()).thenReturn(async);
+        doAnswer(invocation -> {
+            invocation.<SendHandler>getArgument(1).onResult(new SendResult());
+            return null;
+        }).when(async).sendText(anyString(), any(SendHandler.class));
         websocketCollector.onOpen(session);
         assertEquals(1L, getSessionSetSize());
         WebsocketCollector.send(null, DataEventTypeEnum.MYSELF);
-        verify(basic, times(0)).sendText(null);
+        verify(async, times(0)).sendText(any(), any(SendHandler.class));
         ThreadLocalUtils.put("sessionKey", session);
         WebsocketCollector.send("test_message_1", DataEventTypeEnum.MYSELF);
-        verify(basic, times(1)).sendText("test_message_1");
+        verify(async, times(1)).sendText(eq("test_message_1"), any(SendHandler.class));
         WebsocketCollector.send("test_message_2", DataEventTypeEnum.CREATE);
-        verify(basic, times(1)).sendText("test_message_2");
+        verify(async, times(1)).sendText(eq("test_message_2"), any(SendHandler.class));
         doNothing().when(loggerSpy).warn(anyString(), anyString());
         websocketCollector.onClose(session);
         ThreadLocalUtils.remove("sessionKey");
     }
 
+    @Test
+    public void testSlowConsumer() throws IOException {
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        when(session.getAsyncRemote()).thenReturn(async);
+        WebsocketCollector.configure(1, "disconnect");
+        try {
+            websocketCollector.onOpen(session);
+            // the first message stays in flight, the second waits and the third overflows
+            WebsocketCollector.send("test_message_1", DataEventTypeEnum.CREATE);
+            WebsocketCollector.send("test_message_2", DataEventTypeEnum.CREATE);
+            assertEquals(1L, getSessionSetSize());
+            WebsocketCollector.send("test_message_3", DataEventTypeEnum.CREATE);
+            verify(async, times(1)).sendText(anyString(), any(SendHandler.class));
+            verify(session).close(any(CloseReason.class));
+            assertEquals(0L, getSessionSetSize());
+        } finally {
+            WebsocketCollector.configure(64, "resync");
+        }
+    }
+
     private long getSessionSetSize() {
-        Set sessionSet = (Set) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SET");
-        return sessionSet == null ? -1 : sessionSet.size();
+        Map sessionSenders = (Map) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SENDERS");
+        return sessionSenders == null ? -1 : sessionSenders.size();
     }
 
     private Session getSession() {
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.cache;
+
+import org.apache.shenyu.common.cache.MemorySafeWindowTinyLFUMap;
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the hit path of {@link WindowTinyLFUMap} and {@link MemorySafeWindowTinyLFUMap},
+ * the maps behind the selector/rule match cache.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TinyLfuMapBenchmark {
+
+    private static final int MAX_FREE_MEMORY = 64 * 1024 * 1024;
+
+    @Param({"1000", "65536"})
+    private int size;
+
+    private String[] keys;
+
+    private Map<String, String> windowTinyLfuMap;
+
+    private Map<String, String> memorySafeMap;
+
+    /**
+     * Fill both maps with the same keys.
+     */
+    @Setup
+    public void setUp() {
+        keys = new String[size];
+        windowTinyLfuMap = new WindowTinyLFUMap<>(size * 2L);
+        memorySafeMap = new MemorySafeWindowTinyLFUMap<>(MAX_FREE_MEMORY, size);
+        for (int i = 0; i < size; i++) {
+            keys[i] = "/service" + (i % 100) + "/api/" + i;
+            windowTinyLfuMap.put(keys[i], keys[i]);
+            memorySafeMap.put(keys[i], keys[i]);
+        }
+    }
+
+    /**
+     * Hit {@link WindowTinyLFUMap}.
+     *
+     * @param cursor the thread cursor
+     * @return the value
+     */
+    @Benchmark
+    public String windowTinyLfuHit(final Cursor cursor) {
+        return windowTinyLfuMap.get(keys[cursor.next(size)]);
+    }
+
+    /**
+     * Hit {@link MemorySafeWindowTinyLFUMap}.
+     *
+     * @param cursor the thread cursor
+     * @return the value
+     */
+    @Benchmark
+    public String memorySafeHit(final Cursor cursor) {
+        return memorySafeMap.get(keys[cursor.next(size)]);
+    }
+
+    /**
+     * A thread local cursor over the keys.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        /**
+         * Next index.
+         *
+         * @param bound the bound
+         * @return the index
+         */
+        public int next(final int bound) {
+            index = index + 1 == bound ? 0 : index + 1;
+            return index;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.loadbalancer;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of every {@link org.apache.shenyu.loadbalancer.spi.LoadBalancer} SPI through {@link LoadBalancerFactory}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoadBalancerBenchmark {
+
+    @Param({"random", "roundRobin", "hash", "leastActive", "p2c", "shortestResponse", "maglev"})
+    private String algorithm;
+
+    @Param({"2", "10", "50", "500"})
+    private int upstreamCount;
+
+    private List<Upstream> upstreams;
+
+    /**
+     * Build the weighted upstreams.
+     */
+    @Setup
+    public void setUp() {
+        upstreams = new ArrayList<>(upstreamCount);
+        for (int i = 0; i < upstreamCount; i++) {
+            upstreams.add(Upstream.builder()
+                    .protocol("http://")
+                    .url("10.0." + i / 250 + "." + i % 250 + ":8080")
+                    .weight(50 + i % 50)
+                    .status(true)
+                    .timestamp(System.currentTimeMillis() - 60_000)
+                    .warmup(10)
+                    .build());
+        }
+    }
+
+    /**
+     * Select one upstream.
+     *
+     * @param client the client ip of the thread
+     * @return the upstream
+     */
+    @Benchmark
+    public Upstream select(final ClientState client) {
+        return LoadBalancerFactory.selector(upstreams, algorithm, client.nextIp());
+    }
+
+    /**
+     * A thread local client ip, so the hash balancer sees a spread of clients.
+     */
+    @State(Scope.Thread)
+    public static class ClientState {
+
+        private int counter;
+
+        /**
+         * Next client ip.
+         *
+         * @return the ip
+         */
+        public String nextIp() {
+            counter = (counter + 1) & 1023;
+            return "192.168." + (counter >> 8) + "." + (counter & 255);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.match;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.plugin.base.condition.index.DecisionIndex;
+import org.apache.shenyu.plugin.base.condition.judge.CompiledCondition;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of selector matching with a realistic condition mix:
+ * every selector has a uri condition, some add a request method, header or query condition.
+ * {@code linearScan} is the former default strategy, {@code decisionIndex} the compiled index.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SelectorMatchBenchmark {
+
+    @Param({"100", "1000", "4000"})
+    private int selectorCount;
+
+    private List<SelectorData> selectors;
+
+    private DecisionIndex<SelectorData> index;
+
+    private ServerWebExchange[] exchanges;
+
+    private int cursor;
+
+    /**
+     * Build the selectors and a set of requests hitting the first, middle and last selectors, plus a miss.
+     */
+    @Setup
+    public void setUp() {
+        selectors = new ArrayList<>(selectorCount);
+        for (int i = 0; i < selectorCount; i++) {
+            List<ConditionData> conditions = new ArrayList<>();
+            conditions.add(condition(ParamTypeEnum.URI, OperatorEnum.MATCH, null, "/service" + i + "/**"));
+            if (i % 5 == 0) {
+                conditions.add(condition(ParamTypeEnum.REQUEST_METHOD, OperatorEnum.EQ, null, i % 10 == 0 ? "GET" : "POST"));
+            }
+            if (i % 3 == 0) {
+                conditions.add(condition(ParamTypeEnum.HEADER, OperatorEnum.EQ, "X-Env", "gray"));
+            }
+            if (i % 7 == 0) {
+                conditions.add(condition(ParamTypeEnum.QUERY, OperatorEnum.CONTAINS, "tenant", "vip"));
+            }
+            CompiledCondition.compile(conditions);
+            selectors.add(SelectorData.builder().id(String.valueOf(i)).pluginName("divide").name("selector" + i)
+                    .enabled(true).matchMode(0).sort(i).type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                    .conditionList(conditions).build());
+        }
+        index = DecisionIndex.ofSelectors(selectors);
+        int last = selectorCount - 1;
+        exchanges = new ServerWebExchange[]{
+            exchange(MockServerHttpRequest.get("/service1/order/detail")),
+            exchange(MockServerHttpRequest.get("/service" + selectorCount / 2 + "/order/detail")),
+            exchange(MockServerHttpRequest.post("/service" + last + "/order/detail").header("X-Env", "gray")),
+            exchange(MockServerHttpRequest.get("/unknown/order/detail")),
+        };
+    }
+
+    /**
+     * The former default strategy: evaluate every selector, then pick by condition count and sort.
+     *
+     * @return the winner
+     */
+    @Benchmark
+    public SelectorData linearScan() {
+        ServerWebExchange exchange = nextExchange();
+        List<SelectorData> matched = new ArrayList<>();
+        for (SelectorData selector : selectors) {
+            if (selector.getEnabled() && MatchStrategyFactory.match(selector.getMatchMode(), selector.getConditionList(), exchange)) {
+                matched.add(selector);
+            }
+        }
+        return matched.stream()
+                .min(Comparator.comparing((SelectorData s) -> -s.getConditionList().size()).thenComparing(SelectorData::getSort))
+                .orElse(null);
+    }
+
+    /**
+     * The compiled decision index.
+     *
+     * @return the winner
+     */
+    @Benchmark
+    public SelectorData decisionIndex() {
+        return index.match(nextExchange());
+    }
+
+    private ServerWebExchange nextExchange() {
+        ServerWebExchange exchange = exchanges[cursor++];
+        if (cursor == exchanges.length) {
+            cursor = 0;
+        }
+        return exchange;
+    }
+
+    private static ServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> builder) {
+        return MockServerWebExchange.from(builder.build());
+    }
+
+    private static ConditionData condition(final ParamTypeEnum paramType, final OperatorEnum operator, final String paramName, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType.getName());
+        conditionData.setOperator(operator.getAlias());
+        conditionData.setParamName(paramName);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
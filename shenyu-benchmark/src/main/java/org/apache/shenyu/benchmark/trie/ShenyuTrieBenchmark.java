@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.trie;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ShenyuTrie} insert and match.
+ * The paths are a mix of exact, wildcard, match all and path variable segments under one selector.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ShenyuTrieBenchmark {
+
+    private static final String SELECTOR_ID = "benchmark-selector";
+
+    @Param({"10000", "100000"})
+    private int pathCount;
+
+    @Param({"antPathMatch", "pathPattern"})
+    private String matchMode;
+
+    private String[] paths;
+
+    private RuleData[] rules;
+
+    private String[] requestPaths;
+
+    private ShenyuTrie trie;
+
+    private int cursor;
+
+    /**
+     * Build the paths and the trie to match against.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        paths = new String[pathCount];
+        rules = new RuleData[pathCount];
+        requestPaths = new String[pathCount];
+        for (int i = 0; i < pathCount; i++) {
+            String service = "/service" + (i % 100);
+            switch (i % 4) {
+                case 0:
+                    paths[i] = service + "/api" + i + "/detail";
+                    requestPaths[i] = paths[i];
+                    break;
+                case 1:
+                    paths[i] = service + "/api" + i + "/**";
+                    requestPaths[i] = service + "/api" + i + "/a/b/c";
+                    break;
+                case 2:
+                    paths[i] = service + "/api" + i + "/{id}/detail";
+                    requestPaths[i] = service + "/api" + i + "/10086/detail";
+                    break;
+                default:
+                    paths[i] = service + "/api" + i + "/find*";
+                    requestPaths[i] = service + "/api" + i + "/findById";
+                    break;
+            }
+            rules[i] = RuleData.builder().id(String.valueOf(i)).name(paths[i]).selectorId(SELECTOR_ID)
+                    .pluginName("divide").enabled(true).sort(i).build();
+        }
+        trie = buildTrie();
+    }
+
+    /**
+     * Insert all paths into an empty trie.
+     *
+     * @return the trie
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ShenyuTrie insert() {
+        return buildTrie();
+    }
+
+    /**
+     * Match one request path per invocation, cycling over all inserted paths.
+     *
+     * @return the matched node
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object match() {
+        int index = cursor++;
+        if (cursor == pathCount) {
+            cursor = 0;
+        }
+        return trie.match(requestPaths[index], SELECTOR_ID);
+    }
+
+    /**
+     * Match a path that is not in the trie.
+     *
+     * @return the matched node, always null
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object miss() {
+        return trie.match("/unknown/path/not/found", SELECTOR_ID);
+    }
+
+    private ShenyuTrie buildTrie() {
+        ShenyuTrie shenyuTrie = new ShenyuTrie((long) pathCount * 2, TrieMatchModeEnum.acquireTrieMatch(matchMode).getMatchMode());
+        for (int i = 0; i < pathCount; i++) {
+            shenyuTrie.putNode(paths[i], rules[i], TrieCacheTypeEnum.RULE);
+        }
+        return shenyuTrie;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.web;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.web.handler.ShenyuWebHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * End to end benchmark of {@link ShenyuWebHandler#handle} through the default plugin list.
+ * Every plugin is a pass-through {@link AbstractShenyuPlugin}, so the numbers cover the chain,
+ * the plugin/selector/rule lookups and the match caches, but no real upstream call.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShenyuWebHandlerBenchmark {
+
+    private static final Set<String> ENABLED_PLUGINS = Collections.unmodifiableSet(Arrays.stream(new PluginEnum[]{
+        PluginEnum.GLOBAL, PluginEnum.SIGN, PluginEnum.WAF, PluginEnum.RATE_LIMITER, PluginEnum.PARAM_MAPPING,
+        PluginEnum.DIVIDE, PluginEnum.NETTY_HTTP_CLIENT, PluginEnum.RESPONSE,
+    }).map(PluginEnum::getName).collect(Collectors.toSet()));
+
+    private static final int DISTINCT_PATHS = 1024;
+
+    @Param({"10", "1000"})
+    private int selectorCount;
+
+    private ShenyuWebHandler webHandler;
+
+    private String[] paths;
+
+    private int cursor;
+
+    /**
+     * Register the plugins, selectors and rules.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ShenyuConfig.class, ShenyuConfig::new);
+        context.registerBean(TrieCacheTypeEnum.SELECTOR.getTrieType(), ShenyuTrie.class,
+            () -> new ShenyuTrie(10000L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode()));
+        context.registerBean(TrieCacheTypeEnum.RULE.getTrieType(), ShenyuTrie.class,
+            () -> new ShenyuTrie(10000L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode()));
+        context.refresh();
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        List<ShenyuPlugin> plugins = new ArrayList<>();
+        for (PluginEnum pluginEnum : PluginEnum.values()) {
+            if (pluginEnum == PluginEnum.TCP || pluginEnum == PluginEnum.MQTT) {
+                continue;
+            }
+            plugins.add(new PassThroughPlugin(pluginEnum));
+            boolean enabled = ENABLED_PLUGINS.contains(pluginEnum.getName());
+            BaseDataCache.getInstance().cachePluginData(PluginData.builder().id(String.valueOf(pluginEnum.getCode()))
+                    .name(pluginEnum.getName()).enabled(enabled).build());
+            if (enabled) {
+                cacheSelectorsAndRules(pluginEnum.getName());
+            }
+        }
+        webHandler = new ShenyuWebHandler(plugins, null, new ShenyuConfig());
+        paths = new String[DISTINCT_PATHS];
+        for (int i = 0; i < DISTINCT_PATHS; i++) {
+            paths[i] = "/service" + i % selectorCount + "/order/" + i;
+        }
+    }
+
+    /**
+     * Clean the caches.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BaseDataCache.getInstance().cleanPluginData();
+        BaseDataCache.getInstance().cleanSelectorData();
+        BaseDataCache.getInstance().cleanRuleData();
+        MatchDataCache.getInstance().cleanSelectorData();
+        MatchDataCache.getInstance().cleanRuleDataData();
+    }
+
+    /**
+     * Handle one request.
+     */
+    @Benchmark
+    public void handle() {
+        String path = paths[cursor++];
+        if (cursor == DISTINCT_PATHS) {
+            cursor = 0;
+        }
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path).header("X-Env", "prod").build());
+        webHandler.handle(exchange).block();
+    }
+
+    private void cacheSelectorsAndRules(final String pluginName) {
+        for (int i = 0; i < selectorCount; i++) {
+            String selectorId = pluginName + "-" + i;
+            BaseDataCache.getInstance().cacheSelectData(SelectorData.builder().id(selectorId).pluginName(pluginName)
+                    .name(selectorId).enabled(true).matchMode(0).sort(i).continued(true).logged(false)
+                    .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                    .conditionList(Collections.singletonList(condition(ParamTypeEnum.URI, OperatorEnum.MATCH, null, "/service" + i + "/**")))
+                    .build());
+            BaseDataCache.getInstance().cacheRuleData(RuleData.builder().id(selectorId + "-gray").selectorId(selectorId)
+                    .pluginName(pluginName).name("gray").enabled(true).loged(false).matchMode(0).sort(1)
+                    .conditionDataList(Arrays.asList(condition(ParamTypeEnum.URI, OperatorEnum.MATCH, null, "/service" + i + "/order/**"),
+                            condition(ParamTypeEnum.HEADER, OperatorEnum.EQ, "X-Env", "gray")))
+                    .build());
+            BaseDataCache.getInstance().cacheRuleData(RuleData.builder().id(selectorId + "-default").selectorId(selectorId)
+                    .pluginName(pluginName).name("default").enabled(true).loged(false).matchMode(0).sort(2)
+                    .conditionDataList(Collections.singletonList(condition(ParamTypeEnum.URI, OperatorEnum.MATCH, null, "/service" + i + "/**")))
+                    .build());
+        }
+    }
+
+    private static ConditionData condition(final ParamTypeEnum paramType, final OperatorEnum operator, final String paramName, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType.getName());
+        conditionData.setOperator(operator.getAlias());
+        conditionData.setParamName(paramName);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+
+    private static final class PassThroughPlugin extends AbstractShenyuPlugin {
+
+        private final PluginEnum pluginEnum;
+
+        PassThroughPlugin(final PluginEnum pluginEnum) {
+            this.pluginEnum = pluginEnum;
+        }
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return pluginEnum.getCode();
+        }
+
+        @Override
+        public String named() {
+            return pluginEnum.getName();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * The plugin timing, samples the time each plugin takes in the plugin chain, configured by {@code shenyu.pluginTiming}.
+ */
+public class PluginTimingConfig {
+
+    private boolean enabled;
+
+    private double sampleRate = 0.01;
+
+    /**
+     * Gets enabled.
+     *
+     * @return the enabled
+     */
+    public boolean getEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets enabled.
+     *
+     * @param enabled the enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the rate of the requests timed, from 0 to 1.
+     *
+     * @return the sample rate
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the rate of the requests timed, from 0 to 1.
+     *
+     * @param sampleRate the sample rate
+     */
+    public void setSampleRate(final double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
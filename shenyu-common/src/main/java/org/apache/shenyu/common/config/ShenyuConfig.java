@@ -68,6 +68,8 @@ public class ShenyuConfig {
     
     private SpringCloudCacheConfig springCloudCache = new SpringCloudCacheConfig();
     
+    private PluginTimingConfig pluginTiming = new PluginTimingConfig();
+    
     /**
      * Gets health.
      *
@@ -374,6 +376,24 @@ public class ShenyuConfig {
         this.springCloudCache = springCloudCache;
     }
     
+    /**
+     * Gets plugin timing.
+     *
+     * @return the plugin timing
+     */
+    public PluginTimingConfig getPluginTiming() {
+        return pluginTiming;
+    }
+    
+    /**
+     * Sets plugin timing.
+     *
+     * @param pluginTiming the plugin timing
+     */
+    public void setPluginTiming(final PluginTimingConfig pluginTiming) {
+        this.pluginTiming = pluginTiming;
+    }
+    
     /**
      * The type Scheduler.
      */
@@ -961,6 +981,8 @@ public class ShenyuConfig {
         private boolean printEnabled;
         
         private Integer printInterval = 60000;
+        
+        private UpstreamProbeConfig probe = new UpstreamProbeConfig();
     
         /**
          * Gets enabled.
@@ -1105,6 +1127,24 @@ public class ShenyuConfig {
         public void setPrintInterval(final Integer printInterval) {
             this.printInterval = printInterval;
         }
+    
+        /**
+         * Gets the probe.
+         *
+         * @return the probe
+         */
+        public UpstreamProbeConfig getProbe() {
+            return probe;
+        }
+    
+        /**
+         * Sets the probe.
+         *
+         * @param probe the probe
+         */
+        public void setProbe(final UpstreamProbeConfig probe) {
+            this.probe = probe;
+        }
     }
     
     /**
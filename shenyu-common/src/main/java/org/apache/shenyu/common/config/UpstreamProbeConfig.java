@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * The upstream check probe, configured by {@code shenyu.upstreamCheck.probe}.
+ */
+public class UpstreamProbeConfig {
+
+    private String mode = "tcp";
+
+    private String httpMethod = "HEAD";
+
+    private String httpPath = "/";
+
+    private String expectedStatus = "2xx,3xx";
+
+    /**
+     * Gets the probe mode, tcp connects to the upstream, http sends a request to it.
+     *
+     * @return the mode
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the probe mode, tcp or http.
+     *
+     * @param mode the mode
+     */
+    public void setMode(final String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Gets the http method of the http probe.
+     *
+     * @return the http method
+     */
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * Sets the http method of the http probe, GET or HEAD.
+     *
+     * @param httpMethod the http method
+     */
+    public void setHttpMethod(final String httpMethod) {
+        this.httpMethod = httpMethod;
+    }
+
+    /**
+     * Gets the request path of the http probe.
+     *
+     * @return the http path
+     */
+    public String getHttpPath() {
+        return httpPath;
+    }
+
+    /**
+     * Sets the request path of the http probe.
+     *
+     * @param httpPath the http path
+     */
+    public void setHttpPath(final String httpPath) {
+        this.httpPath = httpPath;
+    }
+
+    /**
+     * Gets the expected status of the http probe.
+     *
+     * @return the expected status
+     */
+    public String getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    /**
+     * Sets the expected status of the http probe, comma separated codes or classes, e.g. {@code 200,204} or {@code 2xx,3xx}.
+     *
+     * @param expectedStatus the expected status
+     */
+    public void setExpectedStatus(final String expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+}
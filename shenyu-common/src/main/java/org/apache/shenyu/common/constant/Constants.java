@@ -137,11 +137,36 @@ public interface Constants {
      */
     String HTTP_DOMAIN = "httpDomain";
     
+    /**
+     * The selected upstream of the http domain, the http client tracks its requests in flight.
+     */
+    String HTTP_UPSTREAM = "httpUpstream";
+    
+    /**
+     * The nanoseconds the upstream took to respond, set by the http client.
+     */
+    String UPSTREAM_LATENCY = "upstreamLatency";
+    
+    /**
+     * The route the request is proxied by, set by the proxy plugins.
+     */
+    String MATCHED_ROUTE = "matchedRoute";
+    
+    /**
+     * Marks a request sampled by the plugin timing.
+     */
+    String PLUGIN_TIMING_SAMPLED = "pluginTimingSampled";
+    
     /**
      * The constant RPC_PARAM_TRANSFORM.
      */
     String PARAM_TRANSFORM = "param_transform";
     
+    /**
+     * The constant REQUEST_BODY_CACHE.
+     */
+    String REQUEST_BODY_CACHE = "requestBodyCache";
+    
     /**
      * The constant DECODE.
      */
@@ -46,6 +46,12 @@ public class ConditionData {
      */
     private String paramValue;
 
+    /**
+     * the compiled form of this condition, built by the gateway when the data syncs.
+     * it is transient so that it never goes to the wire, and is reset on every change.
+     */
+    private transient volatile Object compiled;
+
     /**
      * get paramType.
      *
@@ -62,6 +68,7 @@ public class ConditionData {
      */
     public void setParamType(final String paramType) {
         this.paramType = paramType;
+        this.compiled = null;
     }
 
     /**
@@ -80,6 +87,7 @@ public class ConditionData {
      */
     public void setOperator(final String operator) {
         this.operator = operator;
+        this.compiled = null;
     }
 
     /**
@@ -98,6 +106,7 @@ public class ConditionData {
      */
     public void setParamName(final String paramName) {
         this.paramName = paramName;
+        this.compiled = null;
     }
 
     /**
@@ -116,6 +125,25 @@ public class ConditionData {
      */
     public void setParamValue(final String paramValue) {
         this.paramValue = paramValue;
+        this.compiled = null;
+    }
+
+    /**
+     * obtain the compiled form of this condition.
+     *
+     * @return the compiled condition, or null if not compiled yet
+     */
+    public Object obtainCompiled() {
+        return compiled;
+    }
+
+    /**
+     * cache the compiled form of this condition.
+     *
+     * @param compiled the compiled condition
+     */
+    public void cacheCompiled(final Object compiled) {
+        this.compiled = compiled;
     }
 
     @Override
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto;
+
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One change of a config group, the changed data of a {@link DataEventTypeEnum#CREATE},
+ * {@link DataEventTypeEnum#UPDATE} or {@link DataEventTypeEnum#DELETE} event.
+ *
+ * @param <T> the type parameter
+ */
+public class ConfigChange<T> {
+
+    /**
+     * event type.
+     * {@linkplain DataEventTypeEnum}
+     */
+    private String eventType;
+
+    /**
+     * changed data.
+     */
+    private List<T> data;
+
+    /**
+     * no args constructor.
+     */
+    public ConfigChange() {
+    }
+
+    /**
+     * all args constructor.
+     *
+     * @param eventType eventType
+     * @param data      data
+     */
+    public ConfigChange(final String eventType, final List<T> data) {
+        this.eventType = eventType;
+        this.data = data;
+    }
+
+    /**
+     * get eventType.
+     *
+     * @return eventType
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * set eventType.
+     *
+     * @param eventType eventType
+     * @return this
+     */
+    public ConfigChange<T> setEventType(final String eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    /**
+     * get data.
+     *
+     * @return data
+     */
+    public List<T> getData() {
+        return data;
+    }
+
+    /**
+     * set data.
+     *
+     * @param data data
+     * @return this
+     */
+    public ConfigChange<T> setData(final List<T> data) {
+        this.data = data;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConfigChange<?> that = (ConfigChange<?>) o;
+        return Objects.equals(eventType, that.eventType) && Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventType, data);
+    }
+
+    @Override
+    public String toString() {
+        return GsonUtils.getInstance().toJson(this);
+    }
+}
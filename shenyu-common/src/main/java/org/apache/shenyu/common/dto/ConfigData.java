@@ -35,6 +35,10 @@ public class ConfigData<T> {
 
     private List<T> data;
 
+    private long revision;
+
+    private List<ConfigChange<T>> changes;
+
     /**
      * no args constructor.
      */
@@ -114,6 +118,46 @@ public class ConfigData<T> {
         return this;
     }
 
+    /**
+     * get revision.
+     *
+     * @return revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * set revision.
+     *
+     * @param revision revision
+     * @return this
+     */
+    public ConfigData<T> setRevision(final long revision) {
+        this.revision = revision;
+        return this;
+    }
+
+    /**
+     * get changes, the delta since the revision of the client, null when this is a full snapshot.
+     *
+     * @return changes
+     */
+    public List<ConfigChange<T>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * set changes.
+     *
+     * @param changes changes
+     * @return this
+     */
+    public ConfigData<T> setChanges(final List<ConfigChange<T>> changes) {
+        this.changes = changes;
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -123,12 +167,13 @@ public class ConfigData<T> {
             return false;
         }
         ConfigData<?> that = (ConfigData<?>) o;
-        return lastModifyTime == that.lastModifyTime && Objects.equals(md5, that.md5) && Objects.equals(data, that.data);
+        return lastModifyTime == that.lastModifyTime && revision == that.revision && Objects.equals(md5, that.md5)
+                && Objects.equals(data, that.data) && Objects.equals(changes, that.changes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(md5, lastModifyTime, data);
+        return Objects.hash(md5, lastModifyTime, data, revision, changes);
     }
 
     @Override
@@ -53,6 +53,11 @@ public class RateLimiterHandle {
      * key resolver name.
      */
     private String keyResolverName;
+
+    /**
+     * the tokens leased from redis at once by the leased token bucket, derived from the replenish rate when not positive.
+     */
+    private double leaseSize;
     
     /**
      * New default instance rate limiter handle.
@@ -176,6 +181,24 @@ public class RateLimiterHandle {
     public void setKeyResolverName(final String keyResolverName) {
         this.keyResolverName = keyResolverName;
     }
+    
+    /**
+     * get leaseSize.
+     *
+     * @return leaseSize lease size
+     */
+    public double getLeaseSize() {
+        return leaseSize;
+    }
+    
+    /**
+     * set leaseSize.
+     *
+     * @param leaseSize leaseSize
+     */
+    public void setLeaseSize(final double leaseSize) {
+        this.leaseSize = leaseSize;
+    }
 
     @Override
     public boolean equals(final Object o) {
@@ -188,12 +211,13 @@ public class RateLimiterHandle {
         RateLimiterHandle that = (RateLimiterHandle) o;
         return Double.compare(that.replenishRate, replenishRate) == 0 && Double.compare(that.burstCapacity, burstCapacity) == 0
                 && Double.compare(that.requestCount, requestCount) == 0 && loged == that.loged
+                && Double.compare(that.leaseSize, leaseSize) == 0
                 && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName);
+        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName, leaseSize);
     }
 
     @Override
@@ -213,6 +237,8 @@ public class RateLimiterHandle {
                 + ", keyResolverName='"
                 + keyResolverName
                 + '\''
+                + ", leaseSize="
+                + leaseSize
                 + '}';
     }
 }
@@ -28,6 +28,16 @@ public class CacheRuleHandle implements RuleHandle {
      * the cache timeout seconds.
      */
     private Long timeoutSeconds = 60L;
+
+    /**
+     * the max bytes of a cached response body, a larger response is not cached.
+     */
+    private Long maxBodySize = 1024L * 1024;
+
+    /**
+     * how long an expired response is still served while one request refreshes it, 0 disables.
+     */
+    private Long staleSeconds = 0L;
     
     /**
      * Get the timeout seconds.
@@ -47,6 +57,42 @@ public class CacheRuleHandle implements RuleHandle {
         this.timeoutSeconds = timeoutSeconds;
     }
     
+    /**
+     * Get the max body size.
+     *
+     * @return the max body size in bytes
+     */
+    public Long getMaxBodySize() {
+        return maxBodySize;
+    }
+    
+    /**
+     * Set the max body size.
+     *
+     * @param maxBodySize the max body size in bytes
+     */
+    public void setMaxBodySize(final Long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+    
+    /**
+     * Get the stale seconds.
+     *
+     * @return the stale seconds
+     */
+    public Long getStaleSeconds() {
+        return staleSeconds;
+    }
+    
+    /**
+     * Set the stale seconds.
+     *
+     * @param staleSeconds the stale seconds
+     */
+    public void setStaleSeconds(final Long staleSeconds) {
+        this.staleSeconds = staleSeconds;
+    }
+    
     /**
      * New instance cache rule handle.
      *
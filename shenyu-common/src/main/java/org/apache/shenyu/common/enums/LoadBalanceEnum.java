@@ -50,7 +50,12 @@ public enum LoadBalanceEnum {
     /**
      * shortest response load balance enum.
      */
-    SHORTEST_RESPONSE(6, "shortestResponse", true);
+    SHORTEST_RESPONSE(6, "shortestResponse", true),
+
+    /**
+     * maglev consistent hash load balance enum.
+     */
+    MAGLEV(7, "maglev", true);
 
     private final int code;
 
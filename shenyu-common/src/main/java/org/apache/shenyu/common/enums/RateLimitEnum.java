@@ -28,7 +28,11 @@ public enum RateLimitEnum {
 
     CONCURRENT("concurrent_request_rate_limiter", "concurrent_request_rate_limiter.lua"),
 
-    TOKEN_BUCKET("request_rate_limiter", "request_rate_limiter.lua");
+    TOKEN_BUCKET("request_rate_limiter", "request_rate_limiter.lua"),
+
+    LEASED_TOKEN_BUCKET("request_lease_rate_limiter", "request_lease_rate_limiter.lua"),
+
+    SLIDING_WINDOW_COUNTER("sliding_window_counter_rate_limiter", "sliding_window_counter_rate_limiter.lua");
 
     private final String keyName;
 
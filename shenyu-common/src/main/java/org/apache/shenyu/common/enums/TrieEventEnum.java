@@ -35,5 +35,10 @@ public enum TrieEventEnum {
     /**
      * Shenyu Trie remove event.
      */
-    REMOVE;
+    REMOVE,
+
+    /**
+     * Shenyu Trie batch insert event, the source is a list of data inserted or updated together.
+     */
+    INSERT_BATCH;
 }
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.MapType;
@@ -37,6 +38,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -92,6 +94,36 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * To json bytes.
+     *
+     * @param object the object
+     * @return the json bytes
+     */
+    public static byte[] toJsonBytes(final Object object) {
+        try {
+            return MAPPER.writeValueAsBytes(object);
+        } catch (IOException e) {
+            LOG.warn("write to json bytes error: " + object, e);
+            return Constants.EMPTY_JSON.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Json bytes to the json tree.
+     *
+     * @param json the json bytes
+     * @return the json tree, null when the bytes are not json
+     */
+    public static JsonNode toJsonNode(final byte[] json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (IOException e) {
+            LOG.debug("read to json tree error: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Object to Map.
      *
@@ -23,6 +23,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.config.ShenyuConfig.UpstreamCheck;
+import org.apache.shenyu.common.config.UpstreamProbeConfig;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
@@ -61,6 +62,14 @@ public final class UpstreamCacheManager {
 
     private int unhealthyThreshold;
 
+    private String mode;
+
+    private String httpMethod;
+
+    private String httpPath;
+
+    private String expectedStatus;
+
     /**
      * healthy upstream print parameters.
      */
@@ -81,6 +90,11 @@ public final class UpstreamCacheManager {
         healthyThreshold = upstreamCheck.getHealthyThreshold();
         unhealthyThreshold = upstreamCheck.getUnhealthyThreshold();
         checkInterval = upstreamCheck.getInterval();
+        UpstreamProbeConfig probe = upstreamCheck.getProbe();
+        mode = probe.getMode();
+        httpMethod = probe.getHttpMethod();
+        httpPath = probe.getHttpPath();
+        expectedStatus = probe.getExpectedStatus();
         printEnable = upstreamCheck.getPrintEnabled();
         printInterval = upstreamCheck.getPrintInterval();
         createTask();
@@ -93,6 +107,10 @@ public final class UpstreamCacheManager {
         task.setCheckTimeout(checkTimeout);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
+        task.setMode(mode);
+        task.setHttpMethod(httpMethod);
+        task.setHttpPath(httpPath);
+        task.setExpectedStatus(expectedStatus);
     }
 
     private void scheduleHealthCheck() {
@@ -23,17 +23,15 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.MapUtils;
-import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.LoopResources;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +40,9 @@ import java.util.stream.Collectors;
 
 /**
  * Health check manager for upstream servers.
+ *
+ * <p>A round probes every upstream without blocking, at most {@code poolSize} probes at a time,
+ * and moves an upstream between the healthy and the unhealthy map as soon as its own probe completes.</p>
  */
 public final class UpstreamCheckTask implements Runnable {
 
@@ -58,16 +59,22 @@ public final class UpstreamCheckTask implements Runnable {
 
     private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
-
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private volatile UpstreamProbe probe;
 
     private int poolSize;
 
     private int checkTimeout = 3000;
 
+    private String mode = UpstreamProbe.MODE_TCP;
+
+    private String httpMethod = "HEAD";
+
+    private String httpPath = "/";
+
+    private String expectedStatus = "2xx,3xx";
+
     private int healthyThreshold = 1;
 
     private int unhealthyThreshold = 1;
@@ -94,14 +101,11 @@ public final class UpstreamCheckTask implements Runnable {
      * Schedule health check task.
      */
     public void schedule() {
-        // executor for health check
+        probe();
+        // executor for health check, the probes run on their own event loop
         ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
         new ScheduledThreadPoolExecutor(1, healthCheckFactory)
                 .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
-
-        // executor for async request, avoid request block health check thread
-        ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
-        executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
     }
     
     /**
@@ -114,7 +118,43 @@ public final class UpstreamCheckTask implements Runnable {
     }
 
     /**
-     * get checkThreadPoolSize.
+     * Set probe mode, tcp or http.
+     *
+     * @param mode probe mode
+     */
+    public void setMode(final String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Set http method of the http probe.
+     *
+     * @param httpMethod http method
+     */
+    public void setHttpMethod(final String httpMethod) {
+        this.httpMethod = httpMethod;
+    }
+
+    /**
+     * Set request path of the http probe.
+     *
+     * @param httpPath request path
+     */
+    public void setHttpPath(final String httpPath) {
+        this.httpPath = httpPath;
+    }
+
+    /**
+     * Set expected status of the http probe, e.g. 200,204 or 2xx,3xx.
+     *
+     * @param expectedStatus expected status
+     */
+    public void setExpectedStatus(final String expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    /**
+     * get the max number of probes in flight.
      *
      * @return checkThreadPoolSize
      */
@@ -123,7 +163,7 @@ public final class UpstreamCheckTask implements Runnable {
     }
 
     /**
-     * set checkThreadPoolSize.
+     * set the max number of probes in flight.
      *
      * @param poolSize checkThreadPoolSize
      */
@@ -155,42 +195,44 @@ public final class UpstreamCheckTask implements Runnable {
     }
 
     private void healthCheck() {
+        if (!tryStartHealthCheck()) {
+            return;
+        }
         try {
-            /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
-             */
-            synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
-                }
-            }
+            List<UpstreamWithSelectorId> upstreams = Lists.newArrayList();
+            collect(healthyUpstream, upstreams);
+            collect(unhealthyUpstream, upstreams);
+            UpstreamProbe upstreamProbe = probe();
+            Flux.fromIterable(upstreams)
+                    .flatMap(entity -> upstreamProbe.probe(entity.getUpstream())
+                            .doOnNext(pass -> onProbe(entity, pass)), Math.max(poolSize, 1))
+                    .doFinally(signal -> finishHealthCheck())
+                    .subscribe(null, e -> LOG.error("[Health Check] Meet problem: ", e));
         } catch (Exception e) {
             LOG.error("[Health Check] Meet problem: ", e);
-        } finally {
             finishHealthCheck();
         }
     }
 
-    private void doHealthCheck() {
-        check(healthyUpstream);
-        check(unhealthyUpstream);
+    private static void collect(final Map<String, List<Upstream>> map, final List<UpstreamWithSelectorId> upstreams) {
+        map.forEach((selectorId, list) -> list.forEach(upstream -> upstreams.add(new UpstreamWithSelectorId(selectorId, upstream))));
     }
 
-    private void check(final Map<String, List<Upstream>> map) {
-        for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
-            String key = entry.getKey();
-            List<Upstream> value = entry.getValue();
-            for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
+    private UpstreamProbe probe() {
+        if (Objects.isNull(probe)) {
+            synchronized (lock) {
+                if (Objects.isNull(probe)) {
+                    probe = new UpstreamProbe(mode, checkTimeout, httpMethod, httpPath, expectedStatus,
+                            LoopResources.create("upstream-health-check-request", 1, true));
+                }
             }
         }
+        return probe;
     }
 
-    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
-        boolean pass = UpstreamCheckUtils.checkUrl(upstream.getUrl(), checkTimeout);
+    private void onProbe(final UpstreamWithSelectorId entity, final boolean pass) {
+        String selectorId = entity.getSelectorId();
+        Upstream upstream = entity.getUpstream();
         if (pass) {
             if (upstream.isHealthy()) {
                 upstream.setLastHealthTimestamp(System.currentTimeMillis());
@@ -218,30 +260,26 @@ public final class UpstreamCheckTask implements Runnable {
                 }
             }
         }
-        return new UpstreamWithSelectorId(selectorId, upstream);
+        moveIfChanged(selectorId, upstream);
     }
 
     private boolean tryStartHealthCheck() {
         return checkStarted.compareAndSet(false, true);
     }
 
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
-        }
-
-        futures.clear();
-    }
-
-    private void putEntityToMap(final UpstreamWithSelectorId entity) {
-        Upstream upstream = entity.getUpstream();
-        if (upstream.isHealthy()) {
-            putToMap(healthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-        } else {
-            putToMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(healthyUpstream, entity.getSelectorId(), upstream);
+    /*
+     * Only the upstream just probed moves, and only when it is still registered,
+     * a trigger of the registry that ran while the probe was in flight wins.
+     */
+    private void moveIfChanged(final String selectorId, final Upstream upstream) {
+        synchronized (lock) {
+            boolean healthy = upstream.isHealthy();
+            Map<String, List<Upstream>> from = healthy ? unhealthyUpstream : healthyUpstream;
+            List<Upstream> list = from.get(selectorId);
+            if (Objects.nonNull(list) && list.contains(upstream)) {
+                removeFromMap(from, selectorId, upstream);
+                putToMap(healthy ? healthyUpstream : unhealthyUpstream, selectorId, upstream);
+            }
         }
     }
 
@@ -270,11 +308,18 @@ public final class UpstreamCheckTask implements Runnable {
         removeFromMap(unhealthyUpstream, selectorId, upstream);
     }
 
+    /*
+     * The lists are copied on write, a published list is never modified again.
+     * So a reader never sees a list changing under it, the load balancers cache what they derive from a list
+     * (e.g. the hash ring) by the url, weight and status of its upstreams, see UpstreamListCache.
+     */
     private void putToMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
         synchronized (lock) {
             List<Upstream> list = MapUtils.computeIfAbsent(map, selectorId, k -> Lists.newArrayList());
             if (!list.contains(upstream)) {
-                list.add(upstream);
+                List<Upstream> copy = Lists.newArrayList(list);
+                copy.add(upstream);
+                map.put(selectorId, copy);
             }
         }
     }
@@ -282,8 +327,10 @@ public final class UpstreamCheckTask implements Runnable {
     private void removeFromMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
         synchronized (lock) {
             List<Upstream> list = map.get(selectorId);
-            if (CollectionUtils.isNotEmpty(list)) {
-                list.remove(upstream);
+            if (CollectionUtils.isNotEmpty(list) && list.contains(upstream)) {
+                List<Upstream> copy = Lists.newArrayList(list);
+                copy.remove(upstream);
+                map.put(selectorId, copy);
             }
         }
     }
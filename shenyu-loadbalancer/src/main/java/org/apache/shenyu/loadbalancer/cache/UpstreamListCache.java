@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of a structure derived from an upstream list, e.g. the ring of a consistent hash load balancer.
+ *
+ * <p>The key is a fingerprint of the url, weight and status of each upstream in order, and a hit is checked
+ * against the upstreams the structure was built from, so a list built anew per request with the same upstreams
+ * reuses the structure, and a list changed in place is rebuilt. The structure refers to the upstreams
+ * by their index in the list, the upstream is always taken from the list of the caller.</p>
+ *
+ * @param <T> the type of the derived structure
+ */
+public final class UpstreamListCache<T> {
+
+    private static final long MAXIMUM_SIZE = 4096L;
+
+    private final Cache<Long, Entry<T>> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    private final Function<List<Upstream>, T> builder;
+
+    /**
+     * Instantiates a new upstream list cache.
+     *
+     * @param builder build the structure from the upstream list
+     */
+    public UpstreamListCache(final Function<List<Upstream>, T> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Get the structure of the upstream list, build it if absent or stale.
+     *
+     * @param upstreamList the upstream list
+     * @return the structure
+     */
+    public T get(final List<Upstream> upstreamList) {
+        long fingerprint = fingerprint(upstreamList);
+        Entry<T> entry = cache.getIfPresent(fingerprint);
+        if (Objects.isNull(entry) || !entry.matches(upstreamList)) {
+            entry = new Entry<>(upstreamList, builder.apply(upstreamList));
+            cache.put(fingerprint, entry);
+        }
+        return entry.value;
+    }
+
+    /**
+     * Invalidate all the cached structures.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static long fingerprint(final List<Upstream> upstreamList) {
+        long hash = upstreamList.size();
+        for (Upstream upstream : upstreamList) {
+            hash = 31 * hash + Objects.hashCode(upstream.getUrl());
+            hash = 31 * hash + upstream.getWeight();
+            hash = 31 * hash + (upstream.isStatus() ? 1 : 0);
+        }
+        return hash;
+    }
+
+    private static final class Entry<T> {
+
+        private final String[] urls;
+
+        private final int[] weights;
+
+        private final boolean[] status;
+
+        private final T value;
+
+        Entry(final List<Upstream> upstreamList, final T value) {
+            int size = upstreamList.size();
+            this.urls = new String[size];
+            this.weights = new int[size];
+            this.status = new boolean[size];
+            int index = 0;
+            for (Upstream upstream : upstreamList) {
+                urls[index] = upstream.getUrl();
+                weights[index] = upstream.getWeight();
+                status[index] = upstream.isStatus();
+                index++;
+            }
+            this.value = value;
+        }
+
+        boolean matches(final List<Upstream> upstreamList) {
+            if (upstreamList.size() != urls.length) {
+                return false;
+            }
+            int index = 0;
+            for (Upstream upstream : upstreamList) {
+                if (!Objects.equals(urls[index], upstream.getUrl()) || weights[index] != upstream.getWeight() || status[index] != upstream.isStatus()) {
+                    return false;
+                }
+                index++;
+            }
+            return true;
+        }
+    }
+}
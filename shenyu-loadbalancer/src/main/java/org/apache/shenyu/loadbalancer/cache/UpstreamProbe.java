@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpMethod;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.LogUtils;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import reactor.netty.tcp.TcpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Non-blocking probe of an upstream, a tcp connect or an http request with an expected status.
+ * Every probe opens a new connection and fails, instead of erroring, on timeout or any connect problem.
+ */
+public final class UpstreamProbe {
+
+    /**
+     * tcp probe mode, the upstream is healthy when it accepts a connection.
+     */
+    public static final String MODE_TCP = "tcp";
+
+    /**
+     * http probe mode, the upstream is healthy when it answers the request with an expected status.
+     */
+    public static final String MODE_HTTP = "http";
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamProbe.class);
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private static final String HTTPS = "https";
+
+    private static final int MAX_STATUS = 600;
+
+    private final boolean http;
+
+    private final Duration timeout;
+
+    private final HttpMethod httpMethod;
+
+    private final String httpPath;
+
+    private final BitSet expectedStatus;
+
+    private final TcpClient tcpClient;
+
+    private final HttpClient httpClient;
+
+    /**
+     * Instantiates a new upstream probe.
+     *
+     * @param mode the probe mode, {@link #MODE_TCP} or {@link #MODE_HTTP}
+     * @param timeout the timeout of one probe, in milliseconds
+     * @param httpMethod the http method of the http probe
+     * @param httpPath the request path of the http probe
+     * @param expectedStatus the expected status of the http probe, e.g. {@code 200,204} or {@code 2xx,3xx}
+     * @param loopResources the event loops running the probes
+     */
+    public UpstreamProbe(final String mode, final int timeout, final String httpMethod, final String httpPath,
+                         final String expectedStatus, final LoopResources loopResources) {
+        this.http = MODE_HTTP.equalsIgnoreCase(mode);
+        this.timeout = Duration.ofMillis(timeout);
+        this.httpMethod = HttpMethod.valueOf(StringUtils.defaultIfBlank(httpMethod, "HEAD").trim().toUpperCase(Locale.ROOT));
+        String path = StringUtils.defaultIfBlank(httpPath, "/").trim();
+        this.httpPath = path.startsWith("/") ? path : "/" + path;
+        this.expectedStatus = parseExpectedStatus(expectedStatus);
+        this.tcpClient = TcpClient.create(ConnectionProvider.newConnection())
+                .runOn(loopResources)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout);
+        this.httpClient = HttpClient.create(ConnectionProvider.newConnection())
+                .runOn(loopResources)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
+                .responseTimeout(this.timeout);
+    }
+
+    /**
+     * Probe the upstream.
+     *
+     * @param upstream the upstream
+     * @return whether the upstream passed, never an error
+     */
+    public Mono<Boolean> probe(final Upstream upstream) {
+        return Mono.defer(() -> {
+            URI uri = toUri(upstream);
+            if (uri == null) {
+                return Mono.just(false);
+            }
+            return http ? probeHttp(uri) : probeTcp(uri);
+        }).timeout(timeout, Mono.just(false)).onErrorResume(e -> {
+            LogUtils.debug(LOG, "[Health Check] probe upstream {} failed: {}", upstream.getUrl(), e.getMessage());
+            return Mono.just(false);
+        });
+    }
+
+    private Mono<Boolean> probeTcp(final URI uri) {
+        return tcpClient.host(uri.getHost()).port(port(uri))
+                .connect()
+                .map(connection -> {
+                    connection.dispose();
+                    return true;
+                });
+    }
+
+    private Mono<Boolean> probeHttp(final URI uri) {
+        return httpClient.request(httpMethod)
+                .uri(uri.getScheme() + SCHEME_SEPARATOR + uri.getRawAuthority() + httpPath)
+                .response()
+                .map(response -> expectedStatus.get(response.status().code()));
+    }
+
+    private static URI toUri(final Upstream upstream) {
+        String url = StringUtils.trim(upstream.getUrl());
+        if (StringUtils.isBlank(url)) {
+            return null;
+        }
+        String domain = url.contains(SCHEME_SEPARATOR) ? url : StringUtils.defaultIfBlank(upstream.getProtocol(), "http://") + url;
+        URI uri = URI.create(domain);
+        return StringUtils.isBlank(uri.getHost()) ? null : uri;
+    }
+
+    private static int port(final URI uri) {
+        if (uri.getPort() > 0) {
+            return uri.getPort();
+        }
+        return HTTPS.equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static BitSet parseExpectedStatus(final String expectedStatus) {
+        BitSet status = new BitSet(MAX_STATUS);
+        for (String each : StringUtils.split(StringUtils.defaultIfBlank(expectedStatus, "2xx,3xx"), ',')) {
+            String code = each.trim().toLowerCase(Locale.ROOT);
+            if (code.length() == 3 && code.endsWith("xx")) {
+                int from = Integer.parseInt(code.substring(0, 1)) * 100;
+                status.set(from, from + 100);
+            } else if (StringUtils.isNotEmpty(code)) {
+                status.set(Integer.parseInt(code));
+            }
+        }
+        return status;
+    }
+}
@@ -20,13 +20,20 @@ package org.apache.shenyu.loadbalancer.entity;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * this is upstream.
  */
 public final class Upstream {
 
+    /**
+     * decay time of the response time ewma, in nanoseconds.
+     */
+    private static final double DECAY_NANOS = TimeUnit.MILLISECONDS.toNanos(600);
+
     /**
      * protocol.
      */
@@ -83,24 +90,24 @@ public final class Upstream {
     private String version;
 
     /**
-     * ewma value.
+     * ewma of the response time, in microseconds.
      */
-    private long lag;
+    private volatile long lag;
 
     /**
-     * response stamp.
+     * nano time of the last response.
      */
-    private long responseStamp;
+    private volatile long responseStamp;
 
     /**
      * Last selected timestamp.
      */
-    private long lastPicked;
+    private volatile long lastPicked;
 
     /**
      * Total number of requests being processed.
      */
-    private AtomicLong inflight = new AtomicLong(1);
+    private final LongAdder inflight = new LongAdder();
 
     private AtomicLong succeeded = new AtomicLong(0);
 
@@ -297,7 +304,7 @@ public final class Upstream {
     }
 
     /**
-     * Gets responseStamp.
+     * Gets responseStamp, the nano time of the last response.
      *
      * @return the responseStamp
      */
@@ -331,20 +338,43 @@ public final class Upstream {
     }
 
     /**
-     * Gets inflight.
+     * Gets the number of requests being processed.
      *
      * @return the inflight
      */
-    public AtomicLong getInflight() {
-        return inflight;
+    public long getInflight() {
+        return inflight.sum();
     }
 
     /**
-     * Sets inflight.
-     * @param inflight the inflight
+     * Mark a request sent to this upstream, the caller must {@link #completeRequest(long, boolean)} it.
+     *
+     * @return the start nano time of the request
      */
-    public void setInflight(final AtomicLong inflight) {
-        this.inflight = inflight;
+    public long startRequest() {
+        inflight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Mark a request of this upstream completed, update the inflight count and the response time ewma.
+     * Concurrent completions may overwrite each other's ewma update, which only slows the average down.
+     *
+     * @param startNanos the start nano time returned by {@link #startRequest()}
+     * @param success whether the request succeeded
+     */
+    public void completeRequest(final long startNanos, final boolean success) {
+        inflight.decrement();
+        final long now = System.nanoTime();
+        final long elapsed = Math.max(now - startNanos, 0);
+        final long oldLag = lag;
+        final double w = oldLag == 0 ? 0 : Math.exp(-Math.max(now - responseStamp, 0) / DECAY_NANOS);
+        responseStamp = now;
+        lag = (long) (oldLag * w + TimeUnit.NANOSECONDS.toMicros(elapsed) * (1.0 - w));
+        if (success) {
+            succeededElapsed.addAndGet(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            succeeded.incrementAndGet();
+        }
     }
 
     /**
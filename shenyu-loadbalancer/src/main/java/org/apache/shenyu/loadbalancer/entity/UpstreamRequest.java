@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One request in flight to an {@link Upstream}, completed exactly once.
+ *
+ * <p>The rpc plugins select the upstream inside the rpc framework's load balance, on the invoking thread,
+ * so the selection binds the request to that thread and the plugin takes it back once the invocation returns.</p>
+ */
+public final class UpstreamRequest {
+
+    private static final UpstreamRequest NONE = new UpstreamRequest(null, 0L);
+
+    private static final ThreadLocal<UpstreamRequest> CURRENT = new ThreadLocal<>();
+
+    private final Upstream upstream;
+
+    private final long startNanos;
+
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private UpstreamRequest(final Upstream upstream, final long startNanos) {
+        this.upstream = upstream;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Start a request to the upstream.
+     *
+     * @param upstream the upstream, may be null
+     * @return the request, a no-op request when the upstream is null
+     */
+    public static UpstreamRequest start(final Upstream upstream) {
+        if (Objects.isNull(upstream)) {
+            return NONE;
+        }
+        return new UpstreamRequest(upstream, upstream.startRequest());
+    }
+
+    /**
+     * Start a request to the upstream and bind it to the current thread.
+     * A request the thread still holds was not sent, e.g. the rpc framework selected again, it is completed as failed.
+     *
+     * @param upstream the upstream
+     */
+    public static void startOnCurrentThread(final Upstream upstream) {
+        take().complete(false);
+        CURRENT.set(start(upstream));
+    }
+
+    /**
+     * Take the request bound to the current thread.
+     *
+     * @return the request, a no-op request when none is bound
+     */
+    public static UpstreamRequest take() {
+        UpstreamRequest request = CURRENT.get();
+        if (Objects.isNull(request)) {
+            return NONE;
+        }
+        CURRENT.remove();
+        return request;
+    }
+
+    /**
+     * Complete the request, only the first call counts.
+     *
+     * @param success whether the request succeeded
+     */
+    public void complete(final boolean success) {
+        if (Objects.nonNull(upstream) && completed.compareAndSet(false, true)) {
+            upstream.completeRequest(startNanos, success);
+        }
+    }
+
+    /**
+     * Gets upstream.
+     *
+     * @return the upstream, null for a no-op request
+     */
+    public Upstream getUpstream() {
+        return upstream;
+    }
+}
@@ -20,10 +20,13 @@ package org.apache.shenyu.loadbalancer.spi;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.stream.IntStream;
+import org.apache.shenyu.loadbalancer.cache.UpstreamListCache;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
@@ -38,6 +41,11 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     private static final int VIRTUAL_NODE_NUM = 5;
 
+    /**
+     * the ring is built once per upstream list, a request only hashes its ip.
+     */
+    private final UpstreamListCache<Ring> rings = new UpstreamListCache<>(Ring::new);
+
     /**
      * consistent hash with virtual node to select upstream.
      *
@@ -47,17 +55,7 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, Upstream> treeMap = new ConcurrentSkipListMap<>();
-        upstreamList.forEach(upstream -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
-            long addressHash = hash("SHENYU-" + upstream.getUrl() + "-HASH-" + i);
-            treeMap.put(addressHash, upstream);
-        }));
-        long hash = hash(ip);
-        SortedMap<Long, Upstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
-        }
-        return treeMap.firstEntry().getValue();
+        return upstreamList.get(rings.get(upstreamList).select(hash(ip)));
     }
 
     private static long hash(final String key) {
@@ -80,4 +78,39 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
                 | (digest[0] & 0xFF);
         return hashCode & 0xffffffffL;
     }
+
+    /**
+     * The immutable hash ring, the sorted hashes of the virtual nodes and the indexes of their upstreams in the list.
+     */
+    private static final class Ring {
+
+        private final long[] hashes;
+
+        private final int[] indexes;
+
+        Ring(final List<Upstream> upstreamList) {
+            // same placement as the former per request ring, a later upstream wins a hash collision
+            final SortedMap<Long, Integer> treeMap = new TreeMap<>();
+            IntStream.range(0, upstreamList.size()).forEach(index -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
+                long addressHash = hash("SHENYU-" + upstreamList.get(index).getUrl() + "-HASH-" + i);
+                treeMap.put(addressHash, index);
+            }));
+            hashes = new long[treeMap.size()];
+            indexes = new int[treeMap.size()];
+            int index = 0;
+            for (Map.Entry<Long, Integer> entry : treeMap.entrySet()) {
+                hashes[index] = entry.getKey();
+                indexes[index] = entry.getValue();
+                index++;
+            }
+        }
+
+        int select(final long hash) {
+            int index = Arrays.binarySearch(hashes, hash);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < hashes.length ? indexes[index] : indexes[0];
+        }
+    }
 }
@@ -17,42 +17,47 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 /**
  * least active algorithm impl.
+ *
+ * <p>The active count is the live {@link Upstream#getInflight()}, maintained by the plugins calling the upstream.
+ * Upstreams sharing the least active count are picked at random by weight, in a single pass.</p>
  */
 @Join
 public class LeastActiveLoadBalance extends AbstractLoadBalancer {
 
-    private final Map<String, Long> countMap = new ConcurrentHashMap<>();
-
     @Override
     protected Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        Map<String, Upstream> domainMap = upstreamList.stream()
-                .collect(Collectors.toConcurrentMap(Upstream::buildDomain, upstream -> upstream));
-
-        domainMap.keySet().stream()
-                .filter(key -> !countMap.containsKey(key))
-                .forEach(domain -> countMap.put(domain, Long.MIN_VALUE));
-
-        final String domain = countMap.entrySet().stream()
-                // Ensure that the filtered domain is included in the domainMap.
-                .filter(entry -> domainMap.containsKey(entry.getKey()))
-                .min(Comparator.comparingLong(Map.Entry::getValue))
-                .map(Map.Entry::getKey)
-                .orElse(upstreamList.get(0).buildDomain());
-
-        countMap.computeIfPresent(domain, (key, actived) -> Optional.of(actived).orElse(Long.MIN_VALUE) + 1);
-        return domainMap.get(domain);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        Upstream selected = null;
+        long leastActive = Long.MAX_VALUE;
+        int leastCount = 0;
+        int leastTotalWeight = 0;
+        final int size = upstreamList.size();
+        for (int i = 0; i < size; i++) {
+            final Upstream upstream = upstreamList.get(i);
+            final long active = upstream.getInflight();
+            final int weight = getWeight(upstream);
+            if (active < leastActive) {
+                leastActive = active;
+                leastCount = 1;
+                leastTotalWeight = weight;
+                selected = upstream;
+            } else if (active == leastActive) {
+                leastCount++;
+                leastTotalWeight += weight;
+                // weighted reservoir sampling, upstreams without weight only compete while no tied upstream has one
+                if (weight > 0 ? random.nextInt(leastTotalWeight) < weight : leastTotalWeight == 0 && random.nextInt(leastCount) == 0) {
+                    selected = upstream;
+                }
+            }
+        }
+        return selected;
     }
-    
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.spi;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.apache.shenyu.loadbalancer.cache.UpstreamListCache;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.spi.Join;
+
+/**
+ * maglev consistent hash algorithm impl.
+ *
+ * <p>Every upstream fills the slots of a lookup table in the order of its own permutation,
+ * in proportion to its weight. A request is one murmur3 hash of its ip and one table read.
+ * Adding or removing an upstream only moves the slots of that upstream and a few others.</p>
+ */
+@Join
+public class MaglevLoadBalancer extends AbstractLoadBalancer {
+
+    /**
+     * the table has at least this many slots per upstream, keeps the imbalance around 1%.
+     */
+    private static final int SLOTS_PER_UPSTREAM = 100;
+
+    /**
+     * prime table sizes. The size only changes when the upstream count crosses a step,
+     * a changed size moves most of the clients.
+     */
+    private static final int[] TABLE_SIZES = {5003, 65537};
+
+    private static final HashFunction OFFSET_HASH = Hashing.murmur3_32_fixed(0x5368656e);
+
+    private static final HashFunction SKIP_HASH = Hashing.murmur3_32_fixed(0x7955554d);
+
+    private static final HashFunction KEY_HASH = Hashing.murmur3_32_fixed();
+
+    private final UpstreamListCache<int[]> tables = new UpstreamListCache<>(MaglevLoadBalancer::buildTable);
+
+    @Override
+    public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
+        int[] table = tables.get(upstreamList);
+        int hash = KEY_HASH.hashString(Objects.toString(ip, ""), StandardCharsets.UTF_8).asInt();
+        return upstreamList.get(table[(hash & Integer.MAX_VALUE) % table.length]);
+    }
+
+    private static int[] buildTable(final List<Upstream> upstreamList) {
+        final Upstream[] upstreams = upstreamList.toArray(new Upstream[0]);
+        final int count = upstreams.length;
+        final int size = tableSize(count);
+        final int[] weights = weights(upstreams);
+        final int maxWeight = Arrays.stream(weights).max().orElse(1);
+        final long[] position = new long[count];
+        final long[] skip = new long[count];
+        for (int i = 0; i < count; i++) {
+            String key = "SHENYU-" + upstreams[i].getUrl();
+            position[i] = Integer.toUnsignedLong(OFFSET_HASH.hashString(key, StandardCharsets.UTF_8).asInt()) % size;
+            skip[i] = Integer.toUnsignedLong(SKIP_HASH.hashString(key, StandardCharsets.UTF_8).asInt()) % (size - 1) + 1;
+        }
+        final int[] table = new int[size];
+        Arrays.fill(table, -1);
+        final long[] credit = new long[count];
+        int filled = 0;
+        while (filled < size) {
+            for (int i = 0; i < count && filled < size; i++) {
+                credit[i] += weights[i];
+                if (credit[i] < maxWeight) {
+                    continue;
+                }
+                credit[i] -= maxWeight;
+                while (table[(int) position[i]] >= 0) {
+                    position[i] = (position[i] + skip[i]) % size;
+                }
+                table[(int) position[i]] = i;
+                position[i] = (position[i] + skip[i]) % size;
+                filled++;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * The configured weights, the warmup is left out as the table outlives it.
+     * Upstreams without weight are only used when no upstream has one.
+     *
+     * @param upstreams the upstreams
+     * @return the weights
+     */
+    private static int[] weights(final Upstream[] upstreams) {
+        int[] weights = new int[upstreams.length];
+        boolean weighted = false;
+        for (int i = 0; i < upstreams.length; i++) {
+            weights[i] = Math.max(upstreams[i].getWeight(), 0);
+            weighted |= weights[i] > 0;
+        }
+        if (!weighted) {
+            Arrays.fill(weights, 1);
+        }
+        return weights;
+    }
+
+    private static int tableSize(final int count) {
+        final int minSize = count * SLOTS_PER_UPSTREAM;
+        for (int size : TABLE_SIZES) {
+            if (size >= minSize) {
+                return size;
+            }
+        }
+        return nextPrime(minSize);
+    }
+
+    private static int nextPrime(final int from) {
+        int candidate = from | 1;
+        while (!isPrime(candidate)) {
+            candidate += 2;
+        }
+        return candidate;
+    }
+
+    private static boolean isPrime(final int number) {
+        for (int i = 3; (long) i * i <= number; i += 2) {
+            if (number % i == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,7 +21,7 @@ import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * p2c algorithm impl.
@@ -34,18 +34,11 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
      */
     private static final int FORCE_GAP = 3 * 1000;
 
-    /**
-     * penalty value.
-     */
-    private static final int PENALTY = 250 * 1000;
-
     /**
      * pick times.
      */
     private static final int PICK_TIMES = 3;
 
-    private Random random = new Random();
-
     /**
      * pick of 2 choices to select upstream.
      *
@@ -55,67 +48,49 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     protected Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        long start = System.currentTimeMillis();
-        Upstream[] upstreams = pickTwoUpstreams(upstreamList);
-        Upstream picked;
-        Upstream unpicked;
-        if (load(upstreams[0]) > load(upstreams[1])) {
-            picked = upstreams[1];
-            unpicked = upstreams[0];
-        } else {
-            picked = upstreams[0];
-            unpicked = upstreams[1];
-        }
-        // If the failed node is not selected once in the forceGap period, it is forced to be selected once.
-        long pick = unpicked.getLastPicked();
-        if ((start - pick) > FORCE_GAP) {
-            unpicked.setLastPicked(start);
-            picked = unpicked;
-        }
-
-        if (picked != unpicked) {
-            picked.setLastPicked(start);
-        }
-        picked.getInflight().incrementAndGet();
-        return picked;
-    }
-
-    /**
-     * select two nodes randomly.
-     *
-     * @param upstreamList the upstream list
-     * @return two upstream
-     */
-    private Upstream[] pickTwoUpstreams(final List<Upstream> upstreamList) {
-        Upstream[] upstreams = new Upstream[2];
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int size = upstreamList.size();
+        Upstream first = null;
+        Upstream second = null;
         for (int i = 0; i < PICK_TIMES; i++) {
-            int a = random.nextInt(upstreamList.size());
-            int b = random.nextInt(upstreamList.size() - 1);
+            int a = random.nextInt(size);
+            int b = random.nextInt(size - 1);
             // prevent random nodes from being the same.
             if (b >= a) {
                 b += 1;
             }
-            upstreams[0] = upstreamList.get(a);
-            upstreams[1] = upstreamList.get(b);
-            if (upstreams[0].isHealthy() && upstreams[1].isHealthy()) {
+            first = upstreamList.get(a);
+            second = upstreamList.get(b);
+            if (first.isHealthy() && second.isHealthy()) {
                 break;
             }
         }
-        return upstreams;
+        Upstream picked;
+        Upstream unpicked;
+        if (load(first) > load(second)) {
+            picked = second;
+            unpicked = first;
+        } else {
+            picked = first;
+            unpicked = second;
+        }
+        // If the failed node is not selected once in the forceGap period, it is forced to be selected once.
+        long now = System.currentTimeMillis();
+        if (now - unpicked.getLastPicked() > FORCE_GAP) {
+            picked = unpicked;
+        }
+        picked.setLastPicked(now);
+        return picked;
     }
 
     /**
-     * calculate load.
+     * calculate load, the response time ewma weighted by the requests in flight.
      *
      * @param upstream the upstream
      * @return load
      */
     public long load(final Upstream upstream) {
         long lag = (long) (Math.sqrt((double) upstream.getLag()) + 1);
-        long load = lag * upstream.getInflight().get();
-        if (load == 0) {
-            load = PENALTY;
-        }
-        return load;
+        return lag * (upstream.getInflight() + 1);
     }
 }
@@ -22,7 +22,6 @@ import org.apache.shenyu.spi.Join;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * shortestResponse algorithm impl.
@@ -43,9 +42,8 @@ public class ShortestResponseLoadBalancer extends AbstractLoadBalancer {
 
         for (int i = 0; i < upstreamList.size(); i++) {
             Upstream upstream = upstreamList.get(i);
-            AtomicLong inflight = upstream.getInflight();
-            // Calculate the estimated response time from the product of active connections and succeeded average elapsed time.
-            long estimateResponse = upstream.getSucceededAverageElapsed() * inflight.get();
+            // Calculate the estimated response time from the product of active connections, this one included, and succeeded average elapsed time.
+            long estimateResponse = upstream.getSucceededAverageElapsed() * (upstream.getInflight() + 1);
             int afterWarmup = getWeight(upstream);
             weights[i] = afterWarmup;
             if (estimateResponse < shortestResponse) {
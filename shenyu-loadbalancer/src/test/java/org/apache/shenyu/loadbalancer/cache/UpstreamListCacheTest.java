@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The Test Case For UpstreamListCache.
+ */
+public final class UpstreamListCacheTest {
+
+    @Test
+    public void sameUpstreamsTest() {
+        AtomicInteger builds = new AtomicInteger();
+        UpstreamListCache<Object> cache = new UpstreamListCache<>(list -> {
+            builds.incrementAndGet();
+            return new Object();
+        });
+        List<Upstream> upstreamList = upstreams();
+        Object structure = cache.get(upstreamList);
+        assertSame(structure, cache.get(upstreamList));
+        assertSame(structure, cache.get(upstreams()));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void changedInPlaceTest() {
+        UpstreamListCache<Object> cache = new UpstreamListCache<>(list -> new Object());
+        List<Upstream> upstreamList = upstreams();
+        Object structure = cache.get(upstreamList);
+        upstreamList.set(0, Upstream.builder().url("upstream-2").weight(50).build());
+        assertNotSame(structure, cache.get(upstreamList));
+        Object weighted = cache.get(upstreamList);
+        upstreamList.get(1).setStatus(false);
+        assertNotSame(weighted, cache.get(upstreamList));
+    }
+
+    private static List<Upstream> upstreams() {
+        List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("upstream-0").weight(50).build());
+        upstreamList.add(Upstream.builder().url("upstream-1").weight(50).build());
+        return upstreamList;
+    }
+}
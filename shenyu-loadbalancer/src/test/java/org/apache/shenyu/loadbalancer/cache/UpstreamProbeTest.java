@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The type upstream probe test.
+ */
+public class UpstreamProbeTest {
+
+    private static final Duration BLOCK = Duration.ofSeconds(5);
+
+    private static LoopResources loopResources;
+
+    private static DisposableServer server;
+
+    @BeforeAll
+    public static void setUp() {
+        loopResources = LoopResources.create("upstream-probe-test", 1, true);
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/health", (request, response) -> response.status(204).send()))
+                .bindNow();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        server.disposeNow();
+        loopResources.dispose();
+    }
+
+    @Test
+    public void tcpProbeTest() throws IOException {
+        UpstreamProbe probe = new UpstreamProbe("tcp", 1000, null, null, null, loopResources);
+        assertEquals(true, probe.probe(upstream("127.0.0.1:" + server.port())).block(BLOCK));
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        assertEquals(false, probe.probe(upstream("127.0.0.1:" + closedPort)).block(BLOCK));
+        assertEquals(false, probe.probe(upstream("")).block(BLOCK));
+    }
+
+    @Test
+    public void httpProbeTest() {
+        String url = "http://127.0.0.1:" + server.port();
+        assertEquals(true, new UpstreamProbe("http", 1000, "GET", "/health", "2xx", loopResources).probe(upstream(url)).block(BLOCK));
+        assertEquals(true, new UpstreamProbe("http", 1000, "GET", "health", "200, 204", loopResources).probe(upstream(url)).block(BLOCK));
+        assertEquals(false, new UpstreamProbe("http", 1000, "GET", "/health", "200", loopResources).probe(upstream(url)).block(BLOCK));
+        assertEquals(false, new UpstreamProbe("http", 1000, "GET", "/missing", "2xx,3xx", loopResources).probe(upstream(url)).block(BLOCK));
+    }
+
+    private static Upstream upstream(final String url) {
+        return Upstream.builder().url(url).build();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.entity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The type upstream request test.
+ */
+public class UpstreamRequestTest {
+
+    @Test
+    public void completeOnceTest() {
+        Upstream upstream = Upstream.builder().url("upstream").build();
+        UpstreamRequest request = UpstreamRequest.start(upstream);
+        Assertions.assertEquals(1, upstream.getInflight());
+        request.complete(true);
+        request.complete(false);
+        Assertions.assertEquals(0, upstream.getInflight());
+        Assertions.assertEquals(1, upstream.getSucceeded().get());
+        Assertions.assertTrue(upstream.getResponseStamp() > 0);
+    }
+
+    @Test
+    public void failedRequestTest() {
+        Upstream upstream = Upstream.builder().url("upstream").build();
+        UpstreamRequest.start(upstream).complete(false);
+        Assertions.assertEquals(0, upstream.getInflight());
+        Assertions.assertEquals(0, upstream.getSucceeded().get());
+    }
+
+    @Test
+    public void currentThreadTest() {
+        Upstream first = Upstream.builder().url("first").build();
+        Upstream second = Upstream.builder().url("second").build();
+        UpstreamRequest.startOnCurrentThread(first);
+        // selected again before sending, the first request is dropped
+        UpstreamRequest.startOnCurrentThread(second);
+        Assertions.assertEquals(0, first.getInflight());
+        Assertions.assertEquals(1, second.getInflight());
+        UpstreamRequest request = UpstreamRequest.take();
+        Assertions.assertSame(second, request.getUpstream());
+        Assertions.assertNull(UpstreamRequest.take().getUpstream());
+        request.complete(true);
+        Assertions.assertEquals(0, second.getInflight());
+    }
+
+    @Test
+    public void noUpstreamTest() {
+        UpstreamRequest request = UpstreamRequest.start(null);
+        Assertions.assertNull(request.getUpstream());
+        request.complete(true);
+    }
+
+    @Test
+    public void lagTest() throws InterruptedException {
+        Upstream upstream = Upstream.builder().url("upstream").build();
+        long start = upstream.startRequest();
+        Thread.sleep(5);
+        upstream.completeRequest(start, true);
+        Assertions.assertTrue(upstream.getLag() >= 5000);
+        Assertions.assertTrue(upstream.getSucceededAverageElapsed() >= 5);
+    }
+}
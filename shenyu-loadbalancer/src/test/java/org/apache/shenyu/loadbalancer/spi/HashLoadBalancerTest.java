@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * HashLoadBalancer unit test.
@@ -42,4 +43,19 @@ class HashLoadBalancerTest {
         assertEquals(upstreamList.get(2).getUrl(), upstream.getUrl());
     }
 
+    @Test
+    void doSelectAfterUpstreamListChanged() {
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer();
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("http://1.1.1.1/api").build());
+        upstreamList.add(Upstream.builder().url("http://2.2.2.2/api").build());
+        upstreamList.add(Upstream.builder().url("http://3.3.3.3/api").build());
+        assertEquals(upstreamList.get(2).getUrl(), hashLoadBalancer.doSelect(upstreamList, "127.0.0.1").getUrl());
+
+        upstreamList.remove(2);
+        final Upstream upstream = hashLoadBalancer.doSelect(upstreamList, "127.0.0.1");
+        assertTrue(upstreamList.contains(upstream));
+        assertEquals(upstream, hashLoadBalancer.doSelect(new ArrayList<>(upstreamList), "127.0.0.1"));
+    }
+
 }
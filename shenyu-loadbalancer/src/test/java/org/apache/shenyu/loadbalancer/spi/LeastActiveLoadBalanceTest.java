@@ -50,8 +50,32 @@ public class LeastActiveLoadBalanceTest {
         buildUpstreamList();
         final LeastActiveLoadBalance leastActiveLoadBalance = new LeastActiveLoadBalance();
         Upstream upstream = leastActiveLoadBalance.doSelect(onlyOneList, "localhost");
+        long start = upstream.startRequest();
         Upstream upstream1 = leastActiveLoadBalance.doSelect(onlyOneList, "localhost");
         Assertions.assertTrue((upstream.getUrl().equals("baidu.com") && upstream1.getUrl().equals("pro.jd.com"))
                 || upstream1.getUrl().equals("baidu.com") && upstream.getUrl().equals("pro.jd.com"));
+        upstream.completeRequest(start, true);
+        Assertions.assertEquals(0, upstream.getInflight());
+    }
+
+    @Test
+    public void testLeastActiveWeightTie() {
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("upstream-0").weight(0).build());
+        upstreamList.add(Upstream.builder().url("upstream-10").weight(10).build());
+        upstreamList.add(Upstream.builder().url("upstream-90").weight(90).build());
+        upstreamList.add(Upstream.builder().url("upstream-busy").weight(100).build());
+        upstreamList.get(3).startRequest();
+        final LeastActiveLoadBalance leastActiveLoadBalance = new LeastActiveLoadBalance();
+        int heavy = 0;
+        for (int i = 0; i < 10000; i++) {
+            String url = leastActiveLoadBalance.doSelect(upstreamList, "localhost").getUrl();
+            Assertions.assertNotEquals("upstream-0", url);
+            Assertions.assertNotEquals("upstream-busy", url);
+            if ("upstream-90".equals(url)) {
+                heavy++;
+            }
+        }
+        Assertions.assertTrue(heavy > 8500 && heavy < 9500);
     }
 }
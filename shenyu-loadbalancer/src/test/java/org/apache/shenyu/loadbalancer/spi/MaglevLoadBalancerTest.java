@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.spi;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type maglev load balancer test.
+ */
+public class MaglevLoadBalancerTest {
+
+    private static final int CLIENTS = 10000;
+
+    @Test
+    public void sameIpSelectsSameUpstreamTest() {
+        final MaglevLoadBalancer loadBalancer = new MaglevLoadBalancer();
+        final List<Upstream> upstreamList = upstreams(5, 10);
+        final Upstream upstream = loadBalancer.select(upstreamList, "127.0.0.1");
+        assertNotNull(upstream);
+        for (int i = 0; i < 10; i++) {
+            assertSame(upstream, loadBalancer.select(upstreamList, "127.0.0.1"));
+            assertEquals(upstream, loadBalancer.select(new ArrayList<>(upstreamList), "127.0.0.1"));
+        }
+    }
+
+    @Test
+    public void weightedDistributionTest() {
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("upstream-10").weight(10).build());
+        upstreamList.add(Upstream.builder().url("upstream-30").weight(30).build());
+        final Map<String, Integer> counter = count(new MaglevLoadBalancer(), upstreamList);
+        final double heavyShare = counter.get("upstream-30") / (double) CLIENTS;
+        assertTrue(heavyShare > 0.7 && heavyShare < 0.8, "share of the heavy upstream: " + heavyShare);
+    }
+
+    @Test
+    public void zeroWeightTest() {
+        final List<Upstream> upstreamList = upstreams(3, 0);
+        final Map<String, Integer> counter = count(new MaglevLoadBalancer(), upstreamList);
+        assertEquals(3, counter.size());
+    }
+
+    @Test
+    public void removeUpstreamOnlyMovesItsClientsTest() {
+        final MaglevLoadBalancer loadBalancer = new MaglevLoadBalancer();
+        final List<Upstream> upstreamList = upstreams(10, 10);
+        final List<Upstream> removed = new ArrayList<>(upstreamList);
+        final Upstream gone = removed.remove(3);
+        int moved = 0;
+        for (int i = 0; i < CLIENTS; i++) {
+            final String ip = ip(i);
+            final Upstream before = loadBalancer.select(upstreamList, ip);
+            final Upstream after = loadBalancer.select(removed, ip);
+            if (before != gone && before != after) {
+                moved++;
+            }
+        }
+        assertTrue(moved < CLIENTS / 10, "clients moved between remaining upstreams: " + moved);
+    }
+
+    private static Map<String, Integer> count(final MaglevLoadBalancer loadBalancer, final List<Upstream> upstreamList) {
+        final Map<String, Integer> counter = new HashMap<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            counter.merge(loadBalancer.select(upstreamList, ip(i)).getUrl(), 1, Integer::sum);
+        }
+        return counter;
+    }
+
+    private static List<Upstream> upstreams(final int count, final int weight) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Upstream.builder().url("10.0.0." + i + ":8080").weight(weight).build())
+                .collect(Collectors.toList());
+    }
+
+    private static String ip(final int index) {
+        return "192.168." + (index >> 8 & 255) + "." + (index & 255);
+    }
+}
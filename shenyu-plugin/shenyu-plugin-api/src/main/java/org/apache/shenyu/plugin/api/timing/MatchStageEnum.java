@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.timing;
+
+/**
+ * The stage deciding the selector or rule of a request.
+ */
+public enum MatchStageEnum {
+    
+    /**
+     * the L1 match cache.
+     */
+    CACHE("cache"),
+    
+    /**
+     * the L2 trie.
+     */
+    TRIE("trie"),
+    
+    /**
+     * the default strategy.
+     */
+    DEFAULT("default");
+    
+    private final String stage;
+    
+    MatchStageEnum(final String stage) {
+        this.stage = stage;
+    }
+    
+    /**
+     * get stage.
+     *
+     * @return stage
+     */
+    public String getStage() {
+        return stage;
+    }
+}
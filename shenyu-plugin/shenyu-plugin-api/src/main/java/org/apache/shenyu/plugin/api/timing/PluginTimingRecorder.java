@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.timing;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records the time each plugin takes for a sample of the requests.
+ * A request is sampled once when the plugin chain starts, the requests not sampled only pay a field read.
+ */
+public final class PluginTimingRecorder {
+    
+    private static final Map<String, PluginTimingStats> STATS = new ConcurrentHashMap<>();
+    
+    private static volatile boolean enabled;
+    
+    private static volatile double sampleRate = 1D;
+    
+    private PluginTimingRecorder() {
+    }
+    
+    /**
+     * Configure the recorder.
+     *
+     * @param enabled whether the timing is enabled
+     * @param sampleRate the rate of the requests timed, from 0 to 1
+     */
+    public static void configure(final boolean enabled, final double sampleRate) {
+        PluginTimingRecorder.sampleRate = Math.max(0D, Math.min(1D, sampleRate));
+        PluginTimingRecorder.enabled = enabled;
+    }
+    
+    /**
+     * Whether the timing is enabled.
+     *
+     * @return whether the timing is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Gets the rate of the requests timed.
+     *
+     * @return the sample rate
+     */
+    public static double getSampleRate() {
+        return sampleRate;
+    }
+    
+    /**
+     * Decide whether to time a new request.
+     *
+     * @return whether the request is sampled
+     */
+    public static boolean sample() {
+        if (!enabled) {
+            return false;
+        }
+        double rate = sampleRate;
+        return rate >= 1D || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+    
+    /**
+     * Whether the request is sampled.
+     *
+     * @param exchange the exchange
+     * @return whether the request is sampled
+     */
+    public static boolean isSampled(final ServerWebExchange exchange) {
+        return enabled && Boolean.TRUE.equals(exchange.getAttribute(Constants.PLUGIN_TIMING_SAMPLED));
+    }
+    
+    /**
+     * Record the execute of a plugin.
+     *
+     * @param plugin the plugin name
+     * @param nanos the nanoseconds from the subscription until the plugin went on with the chain
+     * @param total the nanoseconds from the subscription until the plugin completed
+     */
+    public static void recordExecute(final String plugin, final long nanos, final long total) {
+        stats(plugin).recordExecute(nanos, total);
+    }
+    
+    /**
+     * Record the skip of a plugin.
+     *
+     * @param plugin the plugin name
+     * @param nanos the nanoseconds the skip took
+     */
+    public static void recordSkip(final String plugin, final long nanos) {
+        stats(plugin).recordSkip(nanos);
+    }
+    
+    /**
+     * Record the selector match of a plugin.
+     *
+     * @param plugin the plugin name
+     * @param stage the stage deciding the selector
+     * @param nanos the nanoseconds the match took
+     */
+    public static void recordSelectorMatch(final String plugin, final MatchStageEnum stage, final long nanos) {
+        stats(plugin).recordSelectorMatch(stage, nanos);
+    }
+    
+    /**
+     * Record the rule match of a plugin.
+     *
+     * @param plugin the plugin name
+     * @param stage the stage deciding the rule
+     * @param nanos the nanoseconds the match took
+     */
+    public static void recordRuleMatch(final String plugin, final MatchStageEnum stage, final long nanos) {
+        stats(plugin).recordRuleMatch(stage, nanos);
+    }
+    
+    /**
+     * Gets the timing of all plugins.
+     *
+     * @return plugin name -> timing
+     */
+    public static Map<String, PluginTimingStats> getStats() {
+        return Collections.unmodifiableMap(STATS);
+    }
+    
+    /**
+     * Clear the timing of all plugins.
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+    
+    private static PluginTimingStats stats(final String plugin) {
+        PluginTimingStats stats = STATS.get(plugin);
+        return Objects.nonNull(stats) ? stats : STATS.computeIfAbsent(plugin, key -> new PluginTimingStats());
+    }
+}
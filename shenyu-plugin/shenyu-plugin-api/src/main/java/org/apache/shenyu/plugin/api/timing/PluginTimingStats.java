@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The sampled timing of a plugin, the adders are striped per thread so recording never contends on a lock.
+ */
+public final class PluginTimingStats {
+    
+    private static final MatchStageEnum[] STAGES = MatchStageEnum.values();
+    
+    private final LongAdder executeCount = new LongAdder();
+    
+    private final LongAdder executeNanos = new LongAdder();
+    
+    private final LongAdder totalNanos = new LongAdder();
+    
+    private final LongAdder skipCount = new LongAdder();
+    
+    private final LongAdder skipNanos = new LongAdder();
+    
+    private final LongAdder[] selectorMatchCount = adders();
+    
+    private final LongAdder[] selectorMatchNanos = adders();
+    
+    private final LongAdder[] ruleMatchCount = adders();
+    
+    private final LongAdder[] ruleMatchNanos = adders();
+    
+    /**
+     * Record an execute.
+     *
+     * @param nanos the nanoseconds the execute took until the plugin went on with the chain
+     * @param total the nanoseconds the execute took with the plugins after it
+     */
+    void recordExecute(final long nanos, final long total) {
+        executeCount.increment();
+        executeNanos.add(nanos);
+        totalNanos.add(total);
+    }
+    
+    /**
+     * Record a skip.
+     *
+     * @param nanos the nanoseconds the skip took
+     */
+    void recordSkip(final long nanos) {
+        skipCount.increment();
+        skipNanos.add(nanos);
+    }
+    
+    /**
+     * Record a selector match.
+     *
+     * @param stage the stage deciding the selector
+     * @param nanos the nanoseconds the match took
+     */
+    void recordSelectorMatch(final MatchStageEnum stage, final long nanos) {
+        selectorMatchCount[stage.ordinal()].increment();
+        selectorMatchNanos[stage.ordinal()].add(nanos);
+    }
+    
+    /**
+     * Record a rule match.
+     *
+     * @param stage the stage deciding the rule
+     * @param nanos the nanoseconds the match took
+     */
+    void recordRuleMatch(final MatchStageEnum stage, final long nanos) {
+        ruleMatchCount[stage.ordinal()].increment();
+        ruleMatchNanos[stage.ordinal()].add(nanos);
+    }
+    
+    /**
+     * Gets the sampled executes.
+     *
+     * @return the execute count
+     */
+    public long getExecuteCount() {
+        return executeCount.sum();
+    }
+    
+    /**
+     * Gets the nanoseconds of the sampled executes, without the plugins after it in the chain.
+     *
+     * @return the execute nanos
+     */
+    public long getExecuteNanos() {
+        return executeNanos.sum();
+    }
+    
+    /**
+     * Gets the nanoseconds of the sampled executes, with the plugins after it in the chain.
+     *
+     * @return the total nanos
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+    
+    /**
+     * Gets the sampled skips.
+     *
+     * @return the skip count
+     */
+    public long getSkipCount() {
+        return skipCount.sum();
+    }
+    
+    /**
+     * Gets the nanoseconds of the sampled skips.
+     *
+     * @return the skip nanos
+     */
+    public long getSkipNanos() {
+        return skipNanos.sum();
+    }
+    
+    /**
+     * Gets the sampled selector matches by stage.
+     *
+     * @return stage -> selector match count
+     */
+    public Map<String, Long> getSelectorMatchCount() {
+        return sums(selectorMatchCount);
+    }
+    
+    /**
+     * Gets the nanoseconds of the sampled selector matches by stage.
+     *
+     * @return stage -> selector match nanos
+     */
+    public Map<String, Long> getSelectorMatchNanos() {
+        return sums(selectorMatchNanos);
+    }
+    
+    /**
+     * Gets the sampled rule matches by stage.
+     *
+     * @return stage -> rule match count
+     */
+    public Map<String, Long> getRuleMatchCount() {
+        return sums(ruleMatchCount);
+    }
+    
+    /**
+     * Gets the nanoseconds of the sampled rule matches by stage.
+     *
+     * @return stage -> rule match nanos
+     */
+    public Map<String, Long> getRuleMatchNanos() {
+        return sums(ruleMatchNanos);
+    }
+    
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[STAGES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+    
+    private static Map<String, Long> sums(final LongAdder[] adders) {
+        Map<String, Long> sums = new LinkedHashMap<>(STAGES.length << 1);
+        for (MatchStageEnum stage : STAGES) {
+            sums.put(stage.getStage(), adders[stage.ordinal()].sum());
+        }
+        return sums;
+    }
+}
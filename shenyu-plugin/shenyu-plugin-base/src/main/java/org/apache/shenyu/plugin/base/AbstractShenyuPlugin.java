@@ -33,9 +33,13 @@ import org.apache.shenyu.common.utils.ListUtil;
 import org.apache.shenyu.common.utils.LogUtils;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.timing.MatchStageEnum;
+import org.apache.shenyu.plugin.api.timing.PluginTimingRecorder;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.cache.MatchIndexCache;
+import org.apache.shenyu.plugin.base.condition.index.DecisionIndex;
 import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
@@ -102,20 +106,25 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         if (CollectionUtils.isEmpty(selectors)) {
             return handleSelectorIfNull(pluginName, exchange, chain);
         }
+        final boolean timed = PluginTimingRecorder.isSampled(exchange);
+        long matchStart = timed ? System.nanoTime() : 0L;
+        MatchStageEnum selectorStage = MatchStageEnum.CACHE;
         SelectorData selectorData = obtainSelectorDataCacheIfEnabled(path);
-        // handle Selector
-        if (Objects.nonNull(selectorData) && StringUtils.isBlank(selectorData.getId())) {
-            return handleSelectorIfNull(pluginName, exchange, chain);
-        }
         if (Objects.isNull(selectorData)) {
+            selectorStage = MatchStageEnum.TRIE;
             selectorData = trieMatchSelector(exchange, pluginName, path);
             if (Objects.isNull(selectorData)) {
-                selectorData = defaultMatchSelector(exchange, selectors, path);
-                if (Objects.isNull(selectorData)) {
-                    return handleSelectorIfNull(pluginName, exchange, chain);
-                }
+                selectorStage = MatchStageEnum.DEFAULT;
+                selectorData = defaultMatchSelector(exchange, pluginName, selectors, path);
             }
         }
+        if (timed) {
+            PluginTimingRecorder.recordSelectorMatch(pluginName, selectorStage, System.nanoTime() - matchStart);
+        }
+        // handle Selector, a cached empty selector means no selector matches
+        if (Objects.isNull(selectorData) || StringUtils.isBlank(selectorData.getId())) {
+            return handleSelectorIfNull(pluginName, exchange, chain);
+        }
         printLog(selectorData, pluginName);
         if (!selectorData.getContinued()) {
             // if continued， not match rules
@@ -134,21 +143,26 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         // lru map as L1 cache,the cache is enabled by default.
         // if the L1 cache fails to hit, using L2 cache based on trie cache.
         // if the L2 cache fails to hit, execute default strategy.
+        matchStart = timed ? System.nanoTime() : 0L;
+        MatchStageEnum ruleStage = MatchStageEnum.CACHE;
         RuleData ruleData = obtainRuleDataCacheIfEnabled(path);
-        if (Objects.nonNull(ruleData) && Objects.isNull(ruleData.getId())) {
-            return handleRuleIfNull(pluginName, exchange, chain);
-        }
         if (Objects.isNull(ruleData)) {
             // L1 cache not exist data, try to get data through trie cache
+            ruleStage = MatchStageEnum.TRIE;
             ruleData = trieMatchRule(exchange, selectorData, path);
             // trie cache fails to hit, execute default strategy
             if (Objects.isNull(ruleData)) {
-                ruleData = defaultMatchRule(exchange, rules, path);
-                if (Objects.isNull(ruleData)) {
-                    return handleRuleIfNull(pluginName, exchange, chain);
-                }
+                ruleStage = MatchStageEnum.DEFAULT;
+                ruleData = defaultMatchRule(exchange, selectorData.getId(), rules, path);
             }
         }
+        if (timed) {
+            PluginTimingRecorder.recordRuleMatch(pluginName, ruleStage, System.nanoTime() - matchStart);
+        }
+        // a cached empty rule means no rule matches
+        if (Objects.isNull(ruleData) || Objects.isNull(ruleData.getId())) {
+            return handleRuleIfNull(pluginName, exchange, chain);
+        }
         printLog(ruleData, pluginName);
         return doExecute(exchange, chain, selectorData, ruleData);
     }
@@ -222,6 +236,31 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return ruleData;
     }
     
+    /**
+     * Mark the route the request is proxied by, it is the selector name and the rule name, or the rule id when the rule has no name.
+     * Only the proxy plugins call it, so the route is not overwritten by the other plugins matching a rule.
+     *
+     * @param exchange the exchange
+     * @param selector the selector
+     * @param rule the rule
+     */
+    protected static void markMatchedRoute(final ServerWebExchange exchange, final SelectorData selector, final RuleData rule) {
+        if (Objects.isNull(selector)) {
+            return;
+        }
+        String route;
+        if (Objects.nonNull(rule) && StringUtils.isNotBlank(rule.getName())) {
+            route = selector.getName() + ":" + rule.getName();
+        } else if (Objects.nonNull(rule) && Objects.nonNull(rule.getId()) && !Constants.DEFAULT_RULE.equals(rule.getId())) {
+            route = rule.getId();
+        } else {
+            route = StringUtils.defaultIfBlank(selector.getName(), selector.getId());
+        }
+        if (Objects.nonNull(route)) {
+            exchange.getAttributes().put(Constants.MATCHED_ROUTE, route);
+        }
+    }
+
     /**
      * Handle selector if null mono.
      *
@@ -373,19 +412,20 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return ruleData;
     }
     
-    private SelectorData defaultMatchSelector(final ServerWebExchange exchange, final List<SelectorData> selectors, final String path) {
-        Pair<Boolean, SelectorData> matchSelectorPair = matchSelector(exchange, selectors);
-        SelectorData selectorData = matchSelectorPair.getRight();
+    private SelectorData defaultMatchSelector(final ServerWebExchange exchange, final String pluginName, final List<SelectorData> selectors, final String path) {
+        // the compiled index keeps the precedence of matchSelector, the result is cacheable when it only depends on the path
+        DecisionIndex<SelectorData> selectorIndex = MatchIndexCache.getInstance().obtainSelectorIndex(pluginName, selectors);
+        SelectorData selectorData = selectorIndex.match(exchange);
         if (Objects.nonNull(selectorData)) {
             LogUtils.info(LOG, "{} selector match success from default strategy", named());
             // cache selector data
-            if (matchSelectorPair.getLeft()) {
+            if (selectorIndex.isPathDeterministic()) {
                 cacheSelectorData(path, selectorData);
             }
             return selectorData;
         } else {
             // if not match selector, cache empty selector data.
-            if (matchSelectorPair.getLeft()) {
+            if (selectorIndex.isPathDeterministic()) {
                 SelectorData emptySelectorData = SelectorData.builder().pluginName(named()).build();
                 cacheSelectorData(path, emptySelectorData);
             }
@@ -393,19 +433,19 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         }
     }
     
-    private RuleData defaultMatchRule(final ServerWebExchange exchange, final List<RuleData> rules, final String path) {
-        Pair<Boolean, RuleData> matchRulePair = matchRule(exchange, rules);
-        RuleData ruleData = matchRulePair.getRight();
+    private RuleData defaultMatchRule(final ServerWebExchange exchange, final String selectorId, final List<RuleData> rules, final String path) {
+        DecisionIndex<RuleData> ruleIndex = MatchIndexCache.getInstance().obtainRuleIndex(selectorId, rules);
+        RuleData ruleData = ruleIndex.match(exchange);
         if (Objects.nonNull(ruleData)) {
             LOG.info("{} rule match path from default strategy", named());
             // cache rule data
-            if (matchRulePair.getLeft()) {
+            if (ruleIndex.isPathDeterministic()) {
                 cacheRuleData(path, ruleData);
             }
             return ruleData;
         } else {
             // if not match rule, cache empty rule data.
-            if (matchRulePair.getLeft()) {
+            if (ruleIndex.isPathDeterministic()) {
                 RuleData emptyRuleData = RuleData.builder().pluginName(named()).build();
                 cacheRuleData(path, emptyRuleData);
             }
@@ -19,14 +19,22 @@ package org.apache.shenyu.plugin.base.cache;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.condition.judge.CompiledCondition;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -125,6 +133,23 @@ public final class BaseDataCache {
         Optional.ofNullable(selectorData).ifPresent(this::selectorAccept);
     }
     
+    /**
+     * Cache a batch of selector data, the selectors of each plugin are merged, sorted and published once.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public void cacheSelectDataBatch(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        Map<String, List<SelectorData>> group = selectorDataList.stream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(SelectorData::getPluginName, LinkedHashMap::new, Collectors.toList()));
+        group.values().forEach(list -> list.forEach(data -> CompiledCondition.compile(data.getConditionList())));
+        synchronized (SELECTOR_MAP) {
+            group.forEach((key, list) -> SELECTOR_MAP.put(key, merge(SELECTOR_MAP.get(key), list, SelectorData::getId, Comparator.comparing(SelectorData::getSort))));
+        }
+    }
+    
     /**
      * Remove select data.
      *
@@ -132,9 +157,10 @@ public final class BaseDataCache {
      */
     public void removeSelectData(final SelectorData selectorData) {
         Optional.ofNullable(selectorData).ifPresent(data -> {
-            final List<SelectorData> selectorDataList = SELECTOR_MAP.get(data.getPluginName());
             synchronized (SELECTOR_MAP) {
-                Optional.ofNullable(selectorDataList).ifPresent(list -> list.removeIf(e -> e.getId().equals(data.getId())));
+                // copy on write, the compiled match index relies on the list identity
+                Optional.ofNullable(SELECTOR_MAP.get(data.getPluginName())).ifPresent(list -> SELECTOR_MAP.put(data.getPluginName(),
+                        list.stream().filter(e -> !e.getId().equals(data.getId())).collect(Collectors.toList())));
             }
         });
     }
@@ -161,7 +187,12 @@ public final class BaseDataCache {
      * @param selectorDataList the selector data list
      */
     public void cleanSelectorDataSelf(final List<SelectorData> selectorDataList) {
-        selectorDataList.forEach(this::removeSelectData);
+        Map<String, Set<String>> group = selectorDataList.stream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(SelectorData::getPluginName, Collectors.mapping(SelectorData::getId, Collectors.toSet())));
+        synchronized (SELECTOR_MAP) {
+            group.forEach((key, ids) -> Optional.ofNullable(SELECTOR_MAP.get(key)).ifPresent(list -> SELECTOR_MAP.put(key,
+                    list.stream().filter(e -> !ids.contains(e.getId())).collect(Collectors.toList()))));
+        }
     }
     
     /**
@@ -183,6 +214,23 @@ public final class BaseDataCache {
         Optional.ofNullable(ruleData).ifPresent(this::ruleAccept);
     }
     
+    /**
+     * Cache a batch of rule data, the rules of each selector are merged, sorted and published once.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public void cacheRuleDataBatch(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        Map<String, List<RuleData>> group = ruleDataList.stream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(RuleData::getSelectorId, LinkedHashMap::new, Collectors.toList()));
+        group.values().forEach(list -> list.forEach(data -> CompiledCondition.compile(data.getConditionDataList())));
+        synchronized (RULE_MAP) {
+            group.forEach((key, list) -> RULE_MAP.put(key, merge(RULE_MAP.get(key), list, RuleData::getId, Comparator.comparing(RuleData::getSort))));
+        }
+    }
+    
     /**
      * Remove rule data.
      *
@@ -190,9 +238,10 @@ public final class BaseDataCache {
      */
     public void removeRuleData(final RuleData ruleData) {
         Optional.ofNullable(ruleData).ifPresent(data -> {
-            final List<RuleData> ruleDataList = RULE_MAP.get(data.getSelectorId());
             synchronized (RULE_MAP) {
-                Optional.ofNullable(ruleDataList).ifPresent(list -> list.removeIf(rule -> rule.getId().equals(data.getId())));
+                // copy on write, the compiled match index relies on the list identity
+                Optional.ofNullable(RULE_MAP.get(data.getSelectorId())).ifPresent(list -> RULE_MAP.put(data.getSelectorId(),
+                        list.stream().filter(rule -> !rule.getId().equals(data.getId())).collect(Collectors.toList())));
             }
         });
     }
@@ -219,7 +268,12 @@ public final class BaseDataCache {
      * @param ruleDataList the rule data list
      */
     public void cleanRuleDataSelf(final List<RuleData> ruleDataList) {
-        ruleDataList.forEach(this::removeRuleData);
+        Map<String, Set<String>> group = ruleDataList.stream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(RuleData::getSelectorId, Collectors.mapping(RuleData::getId, Collectors.toSet())));
+        synchronized (RULE_MAP) {
+            group.forEach((key, ids) -> Optional.ofNullable(RULE_MAP.get(key)).ifPresent(list -> RULE_MAP.put(key,
+                    list.stream().filter(rule -> !ids.contains(rule.getId())).collect(Collectors.toList()))));
+        }
     }
     
     /**
@@ -267,6 +321,7 @@ public final class BaseDataCache {
      */
     private void ruleAccept(final RuleData data) {
         String selectorId = data.getSelectorId();
+        CompiledCondition.compile(data.getConditionDataList());
         synchronized (RULE_MAP) {
             if (RULE_MAP.containsKey(selectorId)) {
                 List<RuleData> existList = RULE_MAP.get(selectorId);
@@ -287,6 +342,7 @@ public final class BaseDataCache {
      */
     private void selectorAccept(final SelectorData data) {
         String key = data.getPluginName();
+        CompiledCondition.compile(data.getConditionList());
         synchronized (SELECTOR_MAP) {
             if (SELECTOR_MAP.containsKey(key)) {
                 List<SelectorData> existList = SELECTOR_MAP.get(key);
@@ -299,4 +355,26 @@ public final class BaseDataCache {
             }
         }
     }
+
+    /**
+     * merge the data into a copy of the exist list, a data replaces the one with the same id and moves to the end before sorting,
+     * the same order as caching the data one by one.
+     *
+     * @param existList the exist list, may be null
+     * @param dataList the data to cache
+     * @param id the id of a data
+     * @param comparator the sort comparator
+     * @return the new sorted list
+     */
+    private static <T> List<T> merge(final List<T> existList, final List<T> dataList, final Function<T, String> id, final Comparator<T> comparator) {
+        Map<String, T> merged = new LinkedHashMap<>();
+        Optional.ofNullable(existList).ifPresent(list -> list.forEach(data -> merged.put(id.apply(data), data)));
+        for (T data : dataList) {
+            merged.remove(id.apply(data));
+            merged.put(id.apply(data), data);
+        }
+        List<T> resultList = new ArrayList<>(merged.values());
+        resultList.sort(comparator);
+        return resultList;
+    }
 }
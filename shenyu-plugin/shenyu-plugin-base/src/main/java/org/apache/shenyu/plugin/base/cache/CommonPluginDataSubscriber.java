@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -138,6 +139,34 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(selectorData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onSelectorSubscribeBatch(final List<SelectorData> selectorDataList) {
+        List<SelectorData> dataList = Optional.ofNullable(selectorDataList).orElse(Collections.emptyList())
+                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (dataList.isEmpty()) {
+            return;
+        }
+        BaseDataCache.getInstance().cacheSelectDataBatch(dataList);
+        List<String> pluginNames = dataList.stream().map(SelectorData::getPluginName).distinct().collect(Collectors.toList());
+        pluginNames.forEach(MatchIndexCache.getInstance()::refreshSelectorIndex);
+        dataList.forEach(selectorData -> Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
+                .ifPresent(handler -> handler.handlerSelector(selectorData)));
+        // remove the match cache of every touched plugin once
+        pluginNames.forEach(pluginName -> {
+            if (selectorMatchConfig.getCache().getEnabled()) {
+                MatchDataCache.getInstance().removeSelectorData(pluginName);
+            }
+            if (ruleMatchCacheConfig.getCache().getEnabled()) {
+                MatchDataCache.getInstance().removeRuleData(pluginName);
+            }
+        });
+        if (selectorMatchConfig.getTrie().getEnabled()) {
+            Map<Boolean, List<SelectorData>> enabled = dataList.stream().collect(Collectors.partitioningBy(data -> Boolean.TRUE.equals(data.getEnabled())));
+            enabled.get(false).forEach(data -> eventPublisher.publishEvent(new TrieEvent(TrieEventEnum.REMOVE, TrieCacheTypeEnum.SELECTOR, data)));
+            eventPublisher.publishEvent(new TrieEvent(TrieEventEnum.INSERT_BATCH, TrieCacheTypeEnum.SELECTOR, enabled.get(true)));
+        }
+    }
+    
     @Override
     public void unSelectorSubscribe(final SelectorData selectorData) {
         subscribeDataHandler(selectorData, DataEventTypeEnum.DELETE);
@@ -147,6 +176,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
     public void refreshSelectorDataAll() {
         BaseDataCache.getInstance().cleanSelectorData();
         MatchDataCache.getInstance().cleanSelectorData();
+        MatchIndexCache.getInstance().cleanSelectorIndex();
         ShenyuTrie selectorTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
         selectorTrie.clear();
     }
@@ -157,6 +187,8 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanSelectorDataSelf(selectorDataList);
+        selectorDataList.stream().map(SelectorData::getPluginName).distinct()
+                .forEach(MatchIndexCache.getInstance()::refreshSelectorIndex);
     }
     
     @Override
@@ -164,6 +196,28 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(ruleData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onRuleSubscribeBatch(final List<RuleData> ruleDataList) {
+        List<RuleData> dataList = Optional.ofNullable(ruleDataList).orElse(Collections.emptyList())
+                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (dataList.isEmpty()) {
+            return;
+        }
+        BaseDataCache.getInstance().cacheRuleDataBatch(dataList);
+        dataList.stream().map(RuleData::getSelectorId).distinct().forEach(MatchIndexCache.getInstance()::refreshRuleIndex);
+        dataList.forEach(ruleData -> Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
+                .ifPresent(handler -> handler.handlerRule(ruleData)));
+        // remove the match cache of every touched plugin once
+        if (ruleMatchCacheConfig.getCache().getEnabled()) {
+            dataList.stream().map(RuleData::getPluginName).distinct().forEach(MatchDataCache.getInstance()::removeRuleData);
+        }
+        if (ruleMatchCacheConfig.getTrie().getEnabled()) {
+            Map<Boolean, List<RuleData>> enabled = dataList.stream().collect(Collectors.partitioningBy(data -> Boolean.TRUE.equals(data.getEnabled())));
+            enabled.get(false).forEach(data -> eventPublisher.publishEvent(new TrieEvent(TrieEventEnum.REMOVE, TrieCacheTypeEnum.RULE, data)));
+            eventPublisher.publishEvent(new TrieEvent(TrieEventEnum.INSERT_BATCH, TrieCacheTypeEnum.RULE, enabled.get(true)));
+        }
+    }
+    
     @Override
     public void unRuleSubscribe(final RuleData ruleData) {
         subscribeDataHandler(ruleData, DataEventTypeEnum.DELETE);
@@ -173,6 +227,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
     public void refreshRuleDataAll() {
         BaseDataCache.getInstance().cleanRuleData();
         MatchDataCache.getInstance().cleanRuleDataData();
+        MatchIndexCache.getInstance().cleanRuleIndex();
         ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
         ruleTrie.clear();
     }
@@ -183,6 +238,8 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanRuleDataSelf(ruleDataList);
+        ruleDataList.stream().map(RuleData::getSelectorId).distinct()
+                .forEach(MatchIndexCache.getInstance()::refreshRuleIndex);
     }
     
     private <T> void subscribeDataHandler(final T classData, final DataEventTypeEnum dataType) {
@@ -227,6 +284,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
             BaseDataCache.getInstance().cacheSelectData(selectorData);
+            MatchIndexCache.getInstance().refreshSelectorIndex(selectorData.getPluginName());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.handlerSelector(selectorData));
             // remove match cache
@@ -242,6 +300,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
             BaseDataCache.getInstance().cacheRuleData(ruleData);
+            MatchIndexCache.getInstance().refreshRuleIndex(ruleData.getSelectorId());
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.handlerRule(ruleData));
             if (ruleMatchCacheConfig.getCache().getEnabled()) {
@@ -284,6 +343,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
             BaseDataCache.getInstance().removeSelectData(selectorData);
+            MatchIndexCache.getInstance().refreshSelectorIndex(selectorData.getPluginName());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.removeSelector(selectorData));
             // remove selector match cache
@@ -298,6 +358,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
             BaseDataCache.getInstance().removeRuleData(ruleData);
+            MatchIndexCache.getInstance().refreshRuleIndex(ruleData.getSelectorId());
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.removeRule(ruleData));
             if (ruleMatchCacheConfig.getCache().getEnabled()) {
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.condition.index.DecisionIndex;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The match index cache, holds the compiled {@link DecisionIndex} of selectors and rules.
+ */
+public final class MatchIndexCache {
+
+    private static final MatchIndexCache INSTANCE = new MatchIndexCache();
+
+    /**
+     * pluginName -> selector decision index.
+     */
+    private static final ConcurrentMap<String, DecisionIndex<SelectorData>> SELECTOR_INDEX_MAP = Maps.newConcurrentMap();
+
+    /**
+     * selectorId -> rule decision index.
+     */
+    private static final ConcurrentMap<String, DecisionIndex<RuleData>> RULE_INDEX_MAP = Maps.newConcurrentMap();
+
+    private MatchIndexCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static MatchIndexCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the selector index, recompile it if it is stale for the given selectors.
+     *
+     * @param pluginName the plugin name
+     * @param selectors the current selectors of the plugin
+     * @return the selector index
+     */
+    public DecisionIndex<SelectorData> obtainSelectorIndex(final String pluginName, final List<SelectorData> selectors) {
+        DecisionIndex<SelectorData> index = SELECTOR_INDEX_MAP.get(pluginName);
+        if (Objects.isNull(index) || !index.isCompiledFrom(selectors)) {
+            index = DecisionIndex.ofSelectors(selectors);
+            SELECTOR_INDEX_MAP.put(pluginName, index);
+        }
+        return index;
+    }
+
+    /**
+     * Obtain the rule index, recompile it if it is stale for the given rules.
+     *
+     * @param selectorId the selector id
+     * @param rules the current rules of the selector
+     * @return the rule index
+     */
+    public DecisionIndex<RuleData> obtainRuleIndex(final String selectorId, final List<RuleData> rules) {
+        DecisionIndex<RuleData> index = RULE_INDEX_MAP.get(selectorId);
+        if (Objects.isNull(index) || !index.isCompiledFrom(rules)) {
+            index = DecisionIndex.ofRules(rules);
+            RULE_INDEX_MAP.put(selectorId, index);
+        }
+        return index;
+    }
+
+    /**
+     * Recompile the selector index from {@link BaseDataCache}.
+     *
+     * @param pluginName the plugin name
+     */
+    public void refreshSelectorIndex(final String pluginName) {
+        List<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorData(pluginName);
+        if (CollectionUtils.isEmpty(selectors)) {
+            SELECTOR_INDEX_MAP.remove(pluginName);
+            return;
+        }
+        SELECTOR_INDEX_MAP.put(pluginName, DecisionIndex.ofSelectors(selectors));
+    }
+
+    /**
+     * Recompile the rule index from {@link BaseDataCache}.
+     *
+     * @param selectorId the selector id
+     */
+    public void refreshRuleIndex(final String selectorId) {
+        List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorId);
+        if (CollectionUtils.isEmpty(rules)) {
+            RULE_INDEX_MAP.remove(selectorId);
+            return;
+        }
+        RULE_INDEX_MAP.put(selectorId, DecisionIndex.ofRules(rules));
+    }
+
+    /**
+     * Clean selector index.
+     */
+    public void cleanSelectorIndex() {
+        SELECTOR_INDEX_MAP.clear();
+    }
+
+    /**
+     * Clean rule index.
+     */
+    public void cleanRuleIndex() {
+        RULE_INDEX_MAP.clear();
+    }
+}
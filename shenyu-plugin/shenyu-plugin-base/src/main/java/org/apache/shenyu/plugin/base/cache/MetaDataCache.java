@@ -20,23 +20,22 @@ package org.apache.shenyu.plugin.base.cache;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.cache.WindowTinyLFUMap;
 import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * The type Meta data cache.
+ * A miss of the path cache is matched by the {@link MetaDataMatcher}, and the paths matching no meta data
+ * are kept in a separate bounded cache, so unknown paths neither scan all the meta data nor evict the matched paths.
  */
 public final class MetaDataCache {
 
-    private static final String DIVIDE_CACHE_KEY = "";
-
-    private static final MetaData NULL = new MetaData();
+    /**
+     * paths longer than this are matched every time, so that long unknown paths can not fill the caches.
+     */
+    private static final int MAX_CACHED_PATH_LENGTH = 256;
 
     private static final MetaDataCache INSTANCE = new MetaDataCache();
 
@@ -45,12 +44,17 @@ public final class MetaDataCache {
      */
     private static final ConcurrentMap<String, MetaData> META_DATA_MAP = Maps.newConcurrentMap();
 
-    private static final WindowTinyLFUMap<String, MetaData> CACHE = new WindowTinyLFUMap<>(1 << 16, Integer.MAX_VALUE, Boolean.FALSE);
+    private static final MetaDataMatcher MATCHER = new MetaDataMatcher();
+
+    /**
+     * path -> MetaData.
+     */
+    private static final WindowTinyLFUMap<String, MetaData> CACHE = new WindowTinyLFUMap<>(1 << 10, 1 << 16, Boolean.FALSE);
 
     /**
-     * pathPattern -> path.
+     * path -> true, the paths matching no meta data.
      */
-    private static final ConcurrentMap<String, Set<String>> MAPPING = Maps.newConcurrentMap();
+    private static final WindowTinyLFUMap<String, Boolean> MISSING_CACHE = new WindowTinyLFUMap<>(1 << 10, 1 << 14, Boolean.FALSE);
 
     private MetaDataCache() {
     }
@@ -70,19 +74,15 @@ public final class MetaDataCache {
      * @param data the data
      */
     public void cache(final MetaData data) {
-        // clean old path data
-        if (META_DATA_MAP.containsKey(data.getId())) {
-            // the update is also need to clean, but there is
-            // no way to distinguish between crate and update,
-            // so it is always clean
-            clean(META_DATA_MAP.get(data.getId()).getPath());
-        }
         META_DATA_MAP.put(data.getId(), data);
+        MATCHER.put(data);
+        // a new or updated path may take over the cached paths of any other meta data,
+        // meta data changes are rare, so all cached paths are cleaned
+        CACHE.clear();
+        MISSING_CACHE.clear();
         final String path = data.getPath();
-        clean(path);
-        if (!path.contains("*")) {
-            // only in this condition, we need to init cache
-            initCache(path, data, path);
+        if (Objects.nonNull(path) && !path.contains("*")) {
+            CACHE.put(path, data);
         }
     }
 
@@ -93,24 +93,16 @@ public final class MetaDataCache {
      */
     public void remove(final MetaData data) {
         META_DATA_MAP.remove(data.getId());
-        clean(data.getPath());
-    }
-
-    private void clean(final String key) {
-        // springCloud and divide are needs to be cleaned
-        Optional.ofNullable(MAPPING.get(key))
-                .ifPresent(paths -> {
-                    for (String path : paths) {
-                        CACHE.remove(path);
-                    }
-                });
+        MATCHER.remove(data);
+        CACHE.clear();
+        MISSING_CACHE.clear();
     }
 
     /**
      * clean cache for divide plugin.
      */
     public void clean() {
-        clean(DIVIDE_CACHE_KEY);
+        MISSING_CACHE.clear();
     }
 
     /**
@@ -120,40 +112,22 @@ public final class MetaDataCache {
      * @return the meta data
      */
     public MetaData obtain(final String path) {
-        final MetaData metaData = Optional.ofNullable(CACHE.get(path))
-                .orElseGet(() -> {
-                    final MetaData value = META_DATA_MAP.values()
-                            .stream()
-                            .filter(data -> PathMatchUtils.match(data.getPath(), path))
-                            .findFirst()
-                            .orElse(null);
-                    final String metaPath = Optional.ofNullable(value)
-                            .map(MetaData::getPath)
-                            .orElse(DIVIDE_CACHE_KEY);
-                    // init cache
-                    initCache(path, value, metaPath);
-                    return value;
-                });
-        return NULL.equals(metaData) ? null : metaData;
-    }
-
-    /**
-     * cacheMap.
-     *
-     * @param path     the path
-     * @param value    the MetaData
-     * @param metaPath the metaPath
-     */
-    public void initCache(final String path, final MetaData value, final String metaPath) {
-        // The extreme case will lead to OOM, that's why use LRU
-        CACHE.put(path, Optional.ofNullable(value).orElse(NULL));
-        // spring/** -> Collections 'spring/A', 'spring/B'
-        Set<String> paths = MAPPING.get(metaPath);
-        if (Objects.isNull(paths)) {
-            MAPPING.putIfAbsent(metaPath, new ConcurrentSkipListSet<>());
-            paths = MAPPING.get(metaPath);
+        MetaData metaData = CACHE.get(path);
+        if (Objects.nonNull(metaData)) {
+            return metaData;
+        }
+        if (Objects.nonNull(MISSING_CACHE.get(path))) {
+            return null;
+        }
+        metaData = MATCHER.match(path);
+        if (path.length() <= MAX_CACHED_PATH_LENGTH) {
+            if (Objects.isNull(metaData)) {
+                MISSING_CACHE.put(path, Boolean.TRUE);
+            } else {
+                CACHE.put(path, metaData);
+            }
         }
-        paths.add(path);
+        return metaData;
     }
     
     /**
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Matches a request path to the meta data of an exact or wildcard path, the paths are indexed in a {@link ShenyuTrie}.
+ * The trie does not backtrack from an exact segment to a match all sibling, e.g. {@code /a/b} hides {@code /a/**} from {@code /a},
+ * so a trie miss, or a trie match the {@link PathMatchUtils} rejects, falls back to the meta data sharing the first path segment.
+ */
+final class MetaDataMatcher {
+
+    private static final String TRIE_KEY = "metaData";
+
+    /**
+     * the first segment key of the paths starting with a pattern.
+     */
+    private static final String PATTERN_SEGMENT = "";
+
+    private final ShenyuTrie trie = new ShenyuTrie(1L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode());
+
+    /**
+     * id -> meta data.
+     */
+    private final Map<String, MetaData> metaDataMap = new ConcurrentHashMap<>();
+
+    /**
+     * first path segment -> id -> meta data.
+     */
+    private final Map<String, Map<String, MetaData>> segmentMap = new ConcurrentHashMap<>();
+
+    /**
+     * Put the meta data, replacing the meta data of the same id.
+     *
+     * @param data the meta data
+     */
+    synchronized void put(final MetaData data) {
+        remove(data);
+        if (StringUtils.isBlank(data.getPath())) {
+            return;
+        }
+        metaDataMap.put(data.getId(), data);
+        segmentMap.computeIfAbsent(firstSegment(data.getPath()), key -> new ConcurrentHashMap<>()).put(data.getId(), data);
+        trie.putNode(data.getPath(), toTrieSource(data), TrieCacheTypeEnum.SELECTOR);
+    }
+
+    /**
+     * Remove the meta data of the same id.
+     *
+     * @param data the meta data
+     */
+    synchronized void remove(final MetaData data) {
+        MetaData old = metaDataMap.remove(data.getId());
+        if (Objects.isNull(old)) {
+            return;
+        }
+        String segment = firstSegment(old.getPath());
+        Map<String, MetaData> segmentData = segmentMap.get(segment);
+        if (Objects.nonNull(segmentData)) {
+            segmentData.remove(old.getId());
+            if (segmentData.isEmpty()) {
+                segmentMap.remove(segment);
+            }
+        }
+        trie.remove(old.getPath(), toTrieSource(old), TrieCacheTypeEnum.SELECTOR);
+    }
+
+    /**
+     * Match the meta data of the path.
+     *
+     * @param path the request path
+     * @return the meta data, null when no path matches
+     */
+    MetaData match(final String path) {
+        ShenyuTrieNode node = trie.match(path, TRIE_KEY);
+        if (Objects.nonNull(node) && Objects.nonNull(node.getPathCache())) {
+            List<?> collection = node.getPathCache().get(TRIE_KEY);
+            if (CollectionUtils.isNotEmpty(collection)) {
+                for (Object each : collection) {
+                    MetaData data = metaDataMap.get(((SelectorData) each).getId());
+                    if (Objects.nonNull(data) && PathMatchUtils.match(data.getPath(), path)) {
+                        return data;
+                    }
+                }
+            }
+        }
+        MetaData data = scan(segmentMap.get(firstSegment(path)), path);
+        return Objects.nonNull(data) ? data : scan(segmentMap.get(PATTERN_SEGMENT), path);
+    }
+
+    private static MetaData scan(final Map<String, MetaData> segmentData, final String path) {
+        if (Objects.isNull(segmentData)) {
+            return null;
+        }
+        for (MetaData data : segmentData.values()) {
+            if (PathMatchUtils.match(data.getPath(), path)) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    private static String firstSegment(final String path) {
+        int from = path.startsWith("/") ? 1 : 0;
+        int to = path.indexOf('/', from);
+        String segment = to < 0 ? path.substring(from) : path.substring(from, to);
+        return StringUtils.containsAny(segment, '*', '?', '{') ? PATTERN_SEGMENT : segment;
+    }
+
+    private static SelectorData toTrieSource(final MetaData data) {
+        return SelectorData.builder().id(data.getId()).pluginName(TRIE_KEY).sort(0).build();
+    }
+}
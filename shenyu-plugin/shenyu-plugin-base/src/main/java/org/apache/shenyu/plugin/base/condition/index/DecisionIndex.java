@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.utils.HostAddressUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, precompiled decision index of the selectors of a plugin or the rules of a selector.
+ *
+ * <p>Candidates are presorted by the same precedence as the default match strategy: the AND condition count
+ * descending, then {@code sort} ascending, then the original position. Candidates carrying an AND equality
+ * condition on the request method, host or a header are put into buckets keyed by that value, so a request
+ * only evaluates the generic candidates and the buckets of its own discriminators. Inside every bucket the
+ * first matching candidate is a definitive winner, the winners of the buckets are compared by rank only.</p>
+ *
+ * @param <T> {@link SelectorData} or {@link RuleData}
+ */
+public final class DecisionIndex<T> {
+
+    private static final Candidate[] EMPTY_CANDIDATES = new Candidate[0];
+
+    private static final String EQUALS_OPERATOR = "equals";
+
+    private final List<T> source;
+
+    private final int size;
+
+    private final boolean pathDeterministic;
+
+    private final Candidate[] generic;
+
+    private final Map<String, Candidate[]> methodBuckets;
+
+    private final Map<String, Candidate[]> hostBuckets;
+
+    private final HeaderBucket[] headerBuckets;
+
+    private DecisionIndex(final List<T> source, final List<Candidate> candidates) {
+        this.source = source;
+        this.size = candidates.size();
+        candidates.sort(Comparator.comparingInt((Candidate c) -> -c.weight)
+                .thenComparing(c -> c.sort, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                .thenComparingInt(c -> c.position));
+        List<Candidate> genericList = new ArrayList<>();
+        Map<String, List<Candidate>> methodMap = new HashMap<>();
+        Map<String, List<Candidate>> hostMap = new HashMap<>();
+        Map<String, Map<String, List<Candidate>>> headerMap = new LinkedHashMap<>();
+        boolean deterministic = true;
+        for (int rank = 0; rank < candidates.size(); rank++) {
+            Candidate candidate = candidates.get(rank);
+            candidate.rank = rank;
+            deterministic = deterministic && candidate.pathOnly;
+            ConditionData discriminator = candidate.discriminator;
+            if (Objects.isNull(discriminator)) {
+                genericList.add(candidate);
+            } else if (ParamTypeEnum.REQUEST_METHOD.getName().equals(discriminator.getParamType())) {
+                methodMap.computeIfAbsent(discriminator.getParamValue().trim(), k -> new ArrayList<>()).add(candidate);
+            } else if (ParamTypeEnum.HOST.getName().equals(discriminator.getParamType())) {
+                hostMap.computeIfAbsent(discriminator.getParamValue().trim(), k -> new ArrayList<>()).add(candidate);
+            } else {
+                headerMap.computeIfAbsent(discriminator.getParamName(), k -> new HashMap<>())
+                        .computeIfAbsent(discriminator.getParamValue().trim(), k -> new ArrayList<>()).add(candidate);
+            }
+        }
+        this.pathDeterministic = deterministic;
+        this.generic = genericList.toArray(EMPTY_CANDIDATES);
+        this.methodBuckets = toBuckets(methodMap);
+        this.hostBuckets = toBuckets(hostMap);
+        this.headerBuckets = headerMap.entrySet().stream()
+                .map(entry -> new HeaderBucket(entry.getKey(), toBuckets(entry.getValue())))
+                .toArray(HeaderBucket[]::new);
+    }
+
+    /**
+     * Compile the selectors of a plugin.
+     *
+     * @param selectors the selectors, as cached in {@link org.apache.shenyu.plugin.base.cache.BaseDataCache}
+     * @return the decision index
+     */
+    public static DecisionIndex<SelectorData> ofSelectors(final List<SelectorData> selectors) {
+        List<Candidate> candidates = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(selectors)) {
+            for (int i = 0; i < selectors.size(); i++) {
+                SelectorData selector = selectors.get(i);
+                if (!Boolean.TRUE.equals(selector.getEnabled())) {
+                    continue;
+                }
+                boolean customFlow = Objects.equals(selector.getType(), SelectorTypeEnum.CUSTOM_FLOW.getCode());
+                if (customFlow && CollectionUtils.isEmpty(selector.getConditionList())) {
+                    continue;
+                }
+                candidates.add(new Candidate(selector, i, selector.getSort(), selector.getMatchMode(),
+                        selector.getConditionList(), customFlow));
+            }
+        }
+        return new DecisionIndex<>(selectors, candidates);
+    }
+
+    /**
+     * Compile the rules of a selector.
+     *
+     * @param rules the rules, as cached in {@link org.apache.shenyu.plugin.base.cache.BaseDataCache}
+     * @return the decision index
+     */
+    public static DecisionIndex<RuleData> ofRules(final List<RuleData> rules) {
+        List<Candidate> candidates = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(rules)) {
+            for (int i = 0; i < rules.size(); i++) {
+                RuleData rule = rules.get(i);
+                if (!Boolean.TRUE.equals(rule.getEnabled())) {
+                    continue;
+                }
+                candidates.add(new Candidate(rule, i, rule.getSort(), rule.getMatchMode(),
+                        rule.getConditionDataList(), true));
+            }
+        }
+        return new DecisionIndex<>(rules, candidates);
+    }
+
+    /**
+     * Whether this index was compiled from the given list instance.
+     * The lists of {@link org.apache.shenyu.plugin.base.cache.BaseDataCache} are copy-on-write,
+     * so an identity check is enough to detect a stale index.
+     *
+     * @param list the list
+     * @return true if compiled from the list
+     */
+    public boolean isCompiledFrom(final List<?> list) {
+        return source == list;
+    }
+
+    /**
+     * Whether every candidate only depends on the request path,
+     * in which case the match result can be cached by path.
+     *
+     * @return true if the result only depends on the path
+     */
+    public boolean isPathDeterministic() {
+        return pathDeterministic;
+    }
+
+    /**
+     * The number of compiled candidates.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find the winning candidate for the exchange.
+     *
+     * @param exchange the exchange
+     * @return the winner, or null if nothing matches
+     */
+    @SuppressWarnings("unchecked")
+    public T match(final ServerWebExchange exchange) {
+        Candidate best = firstMatch(generic, exchange, null);
+        if (!methodBuckets.isEmpty()) {
+            best = firstMatch(methodBuckets.get(exchange.getRequest().getMethodValue()), exchange, best);
+        }
+        if (!hostBuckets.isEmpty()) {
+            best = firstMatch(hostBuckets.get(HostAddressUtils.acquireHost(exchange)), exchange, best);
+        }
+        for (HeaderBucket headerBucket : headerBuckets) {
+            String value = exchange.getRequest().getHeaders().getFirst(headerBucket.name);
+            if (Objects.nonNull(value)) {
+                best = firstMatch(headerBucket.values.get(value), exchange, best);
+            }
+        }
+        return Objects.isNull(best) ? null : (T) best.data;
+    }
+
+    private static Candidate firstMatch(final Candidate[] bucket, final ServerWebExchange exchange, final Candidate best) {
+        if (Objects.isNull(bucket)) {
+            return best;
+        }
+        int bound = Objects.isNull(best) ? Integer.MAX_VALUE : best.rank;
+        for (Candidate candidate : bucket) {
+            if (candidate.rank >= bound) {
+                return best;
+            }
+            if (candidate.matches(exchange)) {
+                return candidate;
+            }
+        }
+        return best;
+    }
+
+    private static Map<String, Candidate[]> toBuckets(final Map<String, List<Candidate>> map) {
+        if (map.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Candidate[]> buckets = new HashMap<>(map.size() * 2);
+        map.forEach((key, list) -> buckets.put(key, list.toArray(EMPTY_CANDIDATES)));
+        return buckets;
+    }
+
+    private static final class Candidate {
+
+        private final Object data;
+
+        private final int position;
+
+        private final Integer sort;
+
+        private final int weight;
+
+        private final MatchStrategy strategy;
+
+        private final List<ConditionData> conditions;
+
+        private final boolean pathOnly;
+
+        private final ConditionData discriminator;
+
+        private int rank;
+
+        Candidate(final Object data, final int position, final Integer sort, final Integer matchMode,
+                  final List<ConditionData> conditionList, final boolean conditional) {
+            this.data = data;
+            this.position = position;
+            this.sort = sort;
+            List<ConditionData> conditionDataList = Objects.isNull(conditionList) ? Collections.emptyList() : conditionList;
+            boolean and = Objects.isNull(matchMode) || MatchModeEnum.match(matchMode, MatchModeEnum.AND);
+            this.weight = and ? conditionDataList.size() : 0;
+            this.strategy = conditional ? MatchStrategyFactory.newInstance(Objects.isNull(matchMode) ? MatchModeEnum.AND.getCode() : matchMode) : null;
+            this.conditions = conditionDataList;
+            this.pathOnly = !conditional || conditionDataList.stream().allMatch(c -> ParamTypeEnum.URI.getName().equals(c.getParamType()));
+            this.discriminator = conditional && and ? conditionDataList.stream().filter(Candidate::isDiscriminator)
+                    .min(Comparator.comparingInt(Candidate::discriminatorOrder)).orElse(null) : null;
+        }
+
+        boolean matches(final ServerWebExchange exchange) {
+            return Objects.isNull(strategy) || Boolean.TRUE.equals(strategy.match(conditions, exchange));
+        }
+
+        private static boolean isDiscriminator(final ConditionData condition) {
+            String operator = condition.getOperator();
+            if (!OperatorEnum.EQ.getAlias().equals(operator) && !EQUALS_OPERATOR.equals(operator)) {
+                return false;
+            }
+            if (StringUtils.isBlank(condition.getParamValue())) {
+                return false;
+            }
+            return discriminatorOrder(condition) < Integer.MAX_VALUE
+                    && (!ParamTypeEnum.HEADER.getName().equals(condition.getParamType()) || StringUtils.isNotBlank(condition.getParamName()));
+        }
+
+        private static int discriminatorOrder(final ConditionData condition) {
+            String paramType = condition.getParamType();
+            if (ParamTypeEnum.REQUEST_METHOD.getName().equals(paramType)) {
+                return 0;
+            }
+            if (ParamTypeEnum.HOST.getName().equals(paramType)) {
+                return 1;
+            }
+            if (ParamTypeEnum.HEADER.getName().equals(paramType)) {
+                return 2;
+            }
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static final class HeaderBucket {
+
+        private final String name;
+
+        private final Map<String, Candidate[]> values;
+
+        HeaderBucket(final String name, final Map<String, Candidate[]> values) {
+            this.name = name;
+            this.values = values;
+        }
+    }
+}
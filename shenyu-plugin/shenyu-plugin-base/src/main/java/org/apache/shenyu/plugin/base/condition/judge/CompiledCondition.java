@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.utils.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled form of a {@link ConditionData}.
+ * The trimmed value, regex {@link Pattern}, {@link PathPattern} and timer value are parsed once
+ * when the selector or rule syncs, and cached on the condition data itself.
+ */
+public final class CompiledCondition {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledCondition.class);
+
+    private final String value;
+
+    private final Pattern regex;
+
+    private final PathPattern pathPattern;
+
+    private final LocalDateTime dateTime;
+
+    private CompiledCondition(final ConditionData conditionData) {
+        this.value = Objects.isNull(conditionData.getParamValue()) ? null : conditionData.getParamValue().trim();
+        String operator = conditionData.getOperator();
+        Pattern regex = null;
+        PathPattern pathPattern = null;
+        LocalDateTime dateTime = null;
+        if (Objects.nonNull(value)) {
+            try {
+                if (OperatorEnum.REGEX.getAlias().equals(operator)) {
+                    regex = Pattern.compile(value);
+                } else if (OperatorEnum.PATH_PATTERN.getAlias().equals(operator)
+                        && ParamTypeEnum.URI.getName().equals(conditionData.getParamType())) {
+                    pathPattern = PathPatternParser.defaultInstance.parse(value);
+                } else if (OperatorEnum.TIME_BEFORE.getAlias().equals(operator) || OperatorEnum.TIME_AFTER.getAlias().equals(operator)) {
+                    dateTime = DateUtils.parseLocalDateTime(value);
+                }
+            } catch (RuntimeException e) {
+                // keep the condition uncompiled, the judge reports the error per request as before
+                LOG.warn("compile condition failed, condition: {}", conditionData, e);
+            }
+        }
+        this.regex = regex;
+        this.pathPattern = pathPattern;
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Obtain the compiled condition, compile and cache it on the condition data if absent.
+     *
+     * @param conditionData the condition data
+     * @return the compiled condition
+     */
+    public static CompiledCondition obtain(final ConditionData conditionData) {
+        Object compiled = conditionData.obtainCompiled();
+        if (compiled instanceof CompiledCondition) {
+            return (CompiledCondition) compiled;
+        }
+        CompiledCondition compiledCondition = new CompiledCondition(conditionData);
+        conditionData.cacheCompiled(compiledCondition);
+        return compiledCondition;
+    }
+
+    /**
+     * Compile the condition list.
+     *
+     * @param conditionDataList the condition data list
+     */
+    public static void compile(final List<ConditionData> conditionDataList) {
+        if (CollectionUtils.isEmpty(conditionDataList)) {
+            return;
+        }
+        for (ConditionData conditionData : conditionDataList) {
+            if (Objects.nonNull(conditionData)) {
+                obtain(conditionData);
+            }
+        }
+    }
+
+    /**
+     * Gets the trimmed param value.
+     *
+     * @return the value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the compiled regex, null if the operator is not regex or the regex is invalid.
+     *
+     * @return the regex
+     */
+    public Pattern getRegex() {
+        return regex;
+    }
+
+    /**
+     * Gets the parsed path pattern, null if the condition is not a uri path pattern or the pattern is invalid.
+     *
+     * @return the path pattern
+     */
+    public PathPattern getPathPattern() {
+        return pathPattern;
+    }
+
+    /**
+     * Gets the parsed timer value, null if the operator is not a timer or the value is invalid.
+     *
+     * @return the date time
+     */
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+}
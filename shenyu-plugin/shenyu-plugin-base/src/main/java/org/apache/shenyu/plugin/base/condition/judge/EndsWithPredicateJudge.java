@@ -28,6 +28,6 @@ public class EndsWithPredicateJudge implements PredicateJudge {
 
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
-        return realData.endsWith(conditionData.getParamValue().trim());
+        return realData.endsWith(CompiledCondition.obtain(conditionData).getValue());
     }
 }
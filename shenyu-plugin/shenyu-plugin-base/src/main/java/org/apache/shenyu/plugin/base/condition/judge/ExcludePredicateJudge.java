@@ -32,9 +32,10 @@ public class ExcludePredicateJudge implements PredicateJudge {
 
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
+        String value = CompiledCondition.obtain(conditionData).getValue();
         if (Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())) {
-            return !PathMatchUtils.match(conditionData.getParamValue().trim(), realData);
+            return !PathMatchUtils.match(value, realData);
         }
-        return !realData.contains(conditionData.getParamValue().trim());
+        return !realData.contains(value);
     }
 }
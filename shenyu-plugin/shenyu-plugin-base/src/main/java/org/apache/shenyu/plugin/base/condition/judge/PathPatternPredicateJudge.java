@@ -35,9 +35,13 @@ public class PathPatternPredicateJudge implements PredicateJudge {
 
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
         if (Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())) {
-            return PathMatchUtils.pathPattern(conditionData.getParamValue().trim(), realData);
+            if (Objects.isNull(compiled.getPathPattern())) {
+                return PathMatchUtils.pathPattern(compiled.getValue(), realData);
+            }
+            return PathMatchUtils.pathPattern(compiled.getPathPattern(), realData);
         }
-        return realData.contains(conditionData.getParamValue().trim());
+        return realData.contains(compiled.getValue());
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.base.condition.judge;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 /**
@@ -30,6 +31,10 @@ public class RegexPredicateJudge implements PredicateJudge {
 
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
-        return Pattern.matches(conditionData.getParamValue().trim(), realData);
+        Pattern regex = CompiledCondition.obtain(conditionData).getRegex();
+        if (Objects.isNull(regex)) {
+            return Pattern.matches(conditionData.getParamValue().trim(), realData);
+        }
+        return regex.matcher(realData).matches();
     }
 }
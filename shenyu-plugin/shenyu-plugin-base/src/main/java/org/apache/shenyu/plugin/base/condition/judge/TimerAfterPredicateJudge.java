@@ -33,9 +33,11 @@ public class TimerAfterPredicateJudge implements PredicateJudge {
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
         String paramName = conditionData.getParamName();
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
+        LocalDateTime dateTime = Objects.isNull(compiled.getDateTime()) ? DateUtils.parseLocalDateTime(compiled.getValue()) : compiled.getDateTime();
         if (Objects.isNull(paramName)) {
-            return LocalDateTime.now().isAfter(DateUtils.parseLocalDateTime(conditionData.getParamValue().trim()));
+            return LocalDateTime.now().isAfter(dateTime);
         }
-        return DateUtils.parseLocalDateTime(realData).isAfter(DateUtils.parseLocalDateTime(conditionData.getParamValue().trim()));
+        return DateUtils.parseLocalDateTime(realData).isAfter(dateTime);
     }
 }
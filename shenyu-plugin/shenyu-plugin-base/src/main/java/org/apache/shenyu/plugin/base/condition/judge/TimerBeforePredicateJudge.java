@@ -23,6 +23,7 @@ import org.apache.shenyu.spi.Join;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Timer before predicate judge.
@@ -33,9 +34,11 @@ public class TimerBeforePredicateJudge implements PredicateJudge {
     @Override
     public Boolean judge(final ConditionData conditionData, final String realData) {
         String paramName = conditionData.getParamName();
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
+        LocalDateTime dateTime = Objects.isNull(compiled.getDateTime()) ? DateUtils.parseLocalDateTime(compiled.getValue()) : compiled.getDateTime();
         if (!StringUtils.hasLength(paramName)) {
-            return LocalDateTime.now().isBefore(DateUtils.parseLocalDateTime(conditionData.getParamValue().trim()));
+            return LocalDateTime.now().isBefore(dateTime);
         }
-        return DateUtils.parseLocalDateTime(realData).isBefore(DateUtils.parseLocalDateTime(conditionData.getParamValue().trim()));
+        return DateUtils.parseLocalDateTime(realData).isBefore(dateTime);
     }
 }
@@ -0,0 +1,459 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Rewrites a json document token by token, adding, renaming and removing the keys of the json paths.
+ * The operations are compiled once into a tree of the object paths, and the document is parsed by a non-blocking parser
+ * and written out chunk by chunk, so the memory does not grow with the document.
+ * Only the definite paths of object keys are supported, e.g. {@code $.data.user} or {@code $['data']['user']},
+ * the rewriter of any other path is not {@link #isSupported() supported} and the caller falls back to the json path.
+ * A key is renamed in place rather than moved to the end of its object, and a missing path is ignored.
+ */
+public final class JsonRewriter {
+
+    /**
+     * the generator does not close the open objects of a failed document.
+     */
+    private static final JsonFactory FACTORY = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+    private final PathNode root;
+
+    private final boolean supported;
+
+    private final boolean empty;
+
+    private JsonRewriter(final PathNode root, final boolean supported, final boolean empty) {
+        this.root = root;
+        this.supported = supported;
+        this.empty = empty;
+    }
+
+    /**
+     * Compile the operations, applied in the order of adds, renames and removes like the json path.
+     *
+     * @param addKeys the keys to add or replace with a string value, may be null
+     * @param renameKeys the keys to rename, the value is the new key, may be null
+     * @param removePaths the paths to remove, may be null
+     * @return the rewriter
+     */
+    public static JsonRewriter compile(final Collection<ParamMappingRuleHandle.ParamMapInfo> addKeys,
+                                       final Collection<ParamMappingRuleHandle.ParamMapInfo> renameKeys,
+                                       final Collection<String> removePaths) {
+        PathNode root = new PathNode();
+        boolean supported = true;
+        boolean empty = true;
+        if (CollectionUtils.isNotEmpty(addKeys)) {
+            for (ParamMappingRuleHandle.ParamMapInfo info : addKeys) {
+                PathNode node = root.resolve(parse(info.getPath()));
+                supported &= Objects.nonNull(node) && Objects.nonNull(info.getKey()) && node.add(info.getKey(), info.getValue());
+                empty = false;
+            }
+        }
+        if (CollectionUtils.isNotEmpty(renameKeys)) {
+            for (ParamMappingRuleHandle.ParamMapInfo info : renameKeys) {
+                PathNode node = root.resolve(parse(info.getPath()));
+                supported &= Objects.nonNull(node) && Objects.nonNull(info.getKey()) && Objects.nonNull(info.getValue());
+                if (supported) {
+                    node.rename(info.getKey(), info.getValue());
+                }
+                empty = false;
+            }
+        }
+        if (CollectionUtils.isNotEmpty(removePaths)) {
+            for (String path : removePaths) {
+                List<String> segments = parse(path);
+                PathNode node = Objects.isNull(segments) || segments.isEmpty() ? null : root.resolve(segments.subList(0, segments.size() - 1));
+                supported &= Objects.nonNull(node);
+                if (supported) {
+                    node.remove(segments.get(segments.size() - 1));
+                }
+                empty = false;
+            }
+        }
+        return new JsonRewriter(root, supported, empty);
+    }
+
+    /**
+     * Whether all the paths are supported.
+     *
+     * @return true when the document can be rewritten
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Whether there is no operation, the document is left as it is.
+     *
+     * @return true when there is no operation
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Rewrite the utf-8 json document.
+     *
+     * @param json the json document
+     * @return the rewritten json document
+     */
+    public byte[] rewrite(final byte[] json) {
+        checkSupported();
+        try (Rewriting rewriting = new Rewriting(root)) {
+            rewriting.write(json);
+            rewriting.end();
+            return rewriting.drain();
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+    }
+
+    /**
+     * Rewrite the utf-8 json body, each buffer is released once it is parsed and the rewritten tokens so far are emitted.
+     *
+     * @param body the json body
+     * @param bufferFactory the buffer factory of the rewritten body
+     * @return the rewritten json body
+     */
+    public Flux<DataBuffer> rewrite(final Publisher<? extends DataBuffer> body, final DataBufferFactory bufferFactory) {
+        checkSupported();
+        return Flux.using(() -> new Rewriting(root), rewriting -> Flux.from(body)
+                .<byte[]>handle((buffer, sink) -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    try {
+                        rewriting.write(bytes);
+                        sink.next(rewriting.drain());
+                    } catch (IOException e) {
+                        sink.error(new ShenyuException(e));
+                    }
+                })
+                .concatWith(Mono.fromCallable(() -> {
+                    rewriting.end();
+                    return rewriting.drain();
+                }).onErrorMap(IOException.class, ShenyuException::new))
+                .filter(bytes -> bytes.length > 0)
+                .map(bufferFactory::wrap), Rewriting::close);
+    }
+
+    private void checkSupported() {
+        if (!supported) {
+            throw new IllegalStateException("the json paths are not supported by the rewriter");
+        }
+    }
+
+    /**
+     * Parse the definite path of object keys into the keys.
+     *
+     * @param path the json path
+     * @return the keys, null when the path is not supported
+     */
+    private static List<String> parse(final String path) {
+        if (StringUtils.isBlank(path) || path.charAt(0) != '$') {
+            return null;
+        }
+        List<String> segments = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String segment = path.substring(i + 1, end);
+                if (segment.isEmpty() || StringUtils.containsAny(segment, '*', '@', '?', '(', ')', ']', '\'', '"')) {
+                    return null;
+                }
+                segments.add(segment);
+                i = end;
+            } else if (c == '[' && i + 1 < path.length() && (path.charAt(i + 1) == '\'' || path.charAt(i + 1) == '"')) {
+                char quote = path.charAt(i + 1);
+                int end = path.indexOf(quote, i + 2);
+                if (end < 0 || end + 1 >= path.length() || path.charAt(end + 1) != ']') {
+                    return null;
+                }
+                segments.add(path.substring(i + 2, end));
+                i = end + 2;
+            } else {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * The operations of an object, keyed by the original keys of the document.
+     */
+    private static final class PathNode {
+
+        private final Map<String, PathNode> children = new HashMap<>();
+
+        private final Map<String, String> adds = new LinkedHashMap<>();
+
+        private final Map<String, String> renames = new HashMap<>();
+
+        private final Set<String> removes = new HashSet<>();
+
+        private PathNode resolve(final List<String> segments) {
+            if (Objects.isNull(segments)) {
+                return null;
+            }
+            PathNode node = this;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(node.original(segment), key -> new PathNode());
+            }
+            return node;
+        }
+
+        private boolean add(final String key, final String value) {
+            if (Objects.isNull(value)) {
+                return false;
+            }
+            adds.put(original(key), value);
+            return true;
+        }
+
+        private void rename(final String key, final String newKey) {
+            String original = original(key);
+            String added = adds.remove(original);
+            if (Objects.nonNull(added)) {
+                removes.add(original);
+                adds.put(newKey, added);
+            } else {
+                renames.put(original, newKey);
+            }
+        }
+
+        private void remove(final String key) {
+            String original = original(key);
+            adds.remove(original);
+            renames.remove(original);
+            children.remove(original);
+            removes.add(original);
+        }
+
+        /**
+         * The original key of a key renamed before.
+         */
+        private String original(final String key) {
+            for (Map.Entry<String, String> entry : renames.entrySet()) {
+                if (entry.getValue().equals(key)) {
+                    return entry.getKey();
+                }
+            }
+            return key;
+        }
+    }
+
+    /**
+     * The object being written, with the adds already written in place.
+     */
+    private static final class Frame {
+
+        private final PathNode node;
+
+        private Set<String> written;
+
+        private Frame(final PathNode node) {
+            this.node = node;
+        }
+    }
+
+    /**
+     * The state of rewriting one document.
+     */
+    private static final class Rewriting implements AutoCloseable {
+
+        private final JsonParser parser;
+
+        private final ByteArrayFeeder feeder;
+
+        private final ByteArrayBuilder output = new ByteArrayBuilder();
+
+        private final JsonGenerator generator;
+
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        /**
+         * the node of the next object value, the root node for the document.
+         */
+        private PathNode next;
+
+        private boolean skipValue;
+
+        private int skipDepth;
+
+        private Rewriting(final PathNode root) throws IOException {
+            this.parser = FACTORY.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.generator = FACTORY.createGenerator(output);
+            this.next = root;
+        }
+
+        private void write(final byte[] bytes) throws IOException {
+            feeder.feedInput(bytes, 0, bytes.length);
+            nextTokens();
+        }
+
+        private void end() throws IOException {
+            feeder.endOfInput();
+            nextTokens();
+        }
+
+        private byte[] drain() throws IOException {
+            generator.flush();
+            byte[] bytes = output.toByteArray();
+            output.reset();
+            return bytes;
+        }
+
+        private void nextTokens() throws IOException {
+            JsonToken token = parser.nextToken();
+            while (Objects.nonNull(token) && token != JsonToken.NOT_AVAILABLE) {
+                if (skipDepth > 0 || skipValue) {
+                    skip(token);
+                } else {
+                    copy(token);
+                }
+                token = parser.nextToken();
+            }
+        }
+
+        private void skip(final JsonToken token) {
+            skipValue = false;
+            if (token.isStructStart()) {
+                skipDepth++;
+            } else if (token.isStructEnd()) {
+                skipDepth--;
+            }
+        }
+
+        private void copy(final JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT:
+                    frames.push(new Frame(next));
+                    next = null;
+                    generator.writeStartObject();
+                    break;
+                case START_ARRAY:
+                    frames.push(new Frame(null));
+                    next = null;
+                    generator.writeStartArray();
+                    break;
+                case END_OBJECT:
+                    writeAdds(frames.pop());
+                    generator.writeEndObject();
+                    break;
+                case END_ARRAY:
+                    frames.pop();
+                    generator.writeEndArray();
+                    break;
+                case FIELD_NAME:
+                    writeFieldName(frames.peek(), parser.getCurrentName());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    next = null;
+                    generator.writeNumber(parser.getText());
+                    break;
+                default:
+                    next = null;
+                    generator.copyCurrentEvent(parser);
+                    break;
+            }
+        }
+
+        private void writeFieldName(final Frame frame, final String name) throws IOException {
+            PathNode node = frame.node;
+            if (Objects.isNull(node)) {
+                generator.writeFieldName(name);
+                return;
+            }
+            if (node.removes.contains(name)) {
+                skipValue = true;
+                return;
+            }
+            String added = node.adds.get(name);
+            if (Objects.nonNull(added)) {
+                if (Objects.isNull(frame.written)) {
+                    frame.written = new HashSet<>();
+                }
+                frame.written.add(name);
+                generator.writeStringField(name, added);
+                skipValue = true;
+                return;
+            }
+            next = node.children.get(name);
+            generator.writeFieldName(node.renames.getOrDefault(name, name));
+        }
+
+        private void writeAdds(final Frame frame) throws IOException {
+            if (Objects.isNull(frame.node)) {
+                return;
+            }
+            for (Map.Entry<String, String> entry : frame.node.adds.entrySet()) {
+                if (Objects.isNull(frame.written) || !frame.written.contains(entry.getKey())) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+                generator.close();
+            } catch (IOException ignore) {
+                // the output is in memory, nothing to release
+            }
+        }
+    }
+}
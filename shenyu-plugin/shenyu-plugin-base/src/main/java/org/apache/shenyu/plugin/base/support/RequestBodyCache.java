@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * The request body read once for an exchange, the plugins share its bytes, and its string, json tree and form data decoded on the first use.
+ * The json tree and the form data are shared, a plugin modifying them replaces the body.
+ *
+ * @see org.apache.shenyu.plugin.base.utils.ServerWebExchangeUtils#cacheRequestBody
+ */
+public final class RequestBodyCache {
+
+    /**
+     * The json tree of a body which is not json, so that the body is parsed once.
+     */
+    private static final JsonNode NOT_JSON = MissingNode.getInstance();
+
+    private final byte[] bytes;
+
+    private final Charset charset;
+
+    private volatile String string;
+
+    private volatile JsonNode json;
+
+    private volatile MultiValueMap<String, String> formData;
+
+    /**
+     * Instantiates a new request body cache.
+     *
+     * @param bytes the body bytes, not copied
+     * @param charset the charset of the body
+     */
+    public RequestBodyCache(final byte[] bytes, final Charset charset) {
+        this.bytes = bytes;
+        this.charset = charset;
+    }
+
+    /**
+     * Gets the body bytes, the bytes must not be modified.
+     *
+     * @return the body bytes
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the charset of the body.
+     *
+     * @return the charset
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Whether the body is empty.
+     *
+     * @return true when the body is empty
+     */
+    public boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    /**
+     * Gets the body string.
+     *
+     * @return the body string
+     */
+    public String getString() {
+        String result = string;
+        if (Objects.isNull(result)) {
+            result = new String(bytes, charset);
+            string = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the json tree of the body.
+     *
+     * @return the json tree, null when the body is empty or not json
+     */
+    public JsonNode getJson() {
+        JsonNode result = json;
+        if (Objects.isNull(result) && !isEmpty()) {
+            result = JsonUtils.toJsonNode(bytes);
+            if (Objects.isNull(result)) {
+                result = NOT_JSON;
+            }
+            json = result;
+        }
+        return result == NOT_JSON ? null : result;
+    }
+
+    /**
+     * Gets the form data of the url encoded body.
+     *
+     * @return the form data
+     */
+    public MultiValueMap<String, String> getFormData() {
+        MultiValueMap<String, String> result = formData;
+        if (Objects.isNull(result)) {
+            result = parseFormData(getString(), charset);
+            formData = result;
+        }
+        return result;
+    }
+
+    /**
+     * Replay the body, the bytes are wrapped, not copied.
+     *
+     * @param bufferFactory the buffer factory
+     * @return the body
+     */
+    public Flux<DataBuffer> toBody(final DataBufferFactory bufferFactory) {
+        return isEmpty() ? Flux.empty() : Flux.defer(() -> Flux.just(bufferFactory.wrap(bytes)));
+    }
+
+    private static MultiValueMap<String, String> parseFormData(final String body, final Charset charset) {
+        MultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        try {
+            for (String pair : StringUtils.tokenizeToStringArray(body, "&")) {
+                int index = pair.indexOf('=');
+                if (index < 0) {
+                    result.add(URLDecoder.decode(pair, charset.name()), null);
+                } else {
+                    result.add(URLDecoder.decode(pair.substring(0, index), charset.name()), URLDecoder.decode(pair.substring(index + 1), charset.name()));
+                }
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new ShenyuException(e);
+        }
+        return result;
+    }
+}
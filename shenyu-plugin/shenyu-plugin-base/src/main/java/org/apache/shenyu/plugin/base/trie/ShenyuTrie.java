@@ -22,7 +22,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.shenyu.common.cache.WindowTinyLFUMap;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -53,11 +52,19 @@ public class ShenyuTrie {
     private static final String WILDCARD = "*";
 
     private static final String MATCH_ALL = "**";
+
+    private static final ThreadLocal<MatchState> MATCH_STATE = ThreadLocal.withInitial(MatchState::new);
     
     /**
      * when the trie is selector trie, the key is pluginName, when the trie is rule trie, the key is selectorId.
+     * the roots are never evicted, a root is only removed with its plugin or selector.
      */
     private final Map<String, ShenyuTrieNode> keyRootMap;
+
+    /**
+     * the planned number of roots, exceeding it is logged.
+     */
+    private final long cacheSize;
     
     /**
      * the mode includes antPathMatch and pathPattern
@@ -67,7 +74,8 @@ public class ShenyuTrie {
 
     public ShenyuTrie(final Long cacheSize, final String matchMode) {
         this.matchMode = TrieMatchModeEnum.acquireTrieMatch(matchMode);
-        this.keyRootMap = new WindowTinyLFUMap<>(cacheSize);
+        this.cacheSize = cacheSize;
+        this.keyRootMap = new ConcurrentHashMap<>();
     }
 
     /**
@@ -130,10 +138,10 @@ public class ShenyuTrie {
         ShenyuTrieNode node;
         if (TrieCacheTypeEnum.RULE.equals(cacheType)) {
             ruleData = (RuleData) source;
-            node = keyRootMap.computeIfAbsent(ruleData.getSelectorId(), key -> new ShenyuTrieNode("/", "/", false));
+            node = keyRootMap.computeIfAbsent(ruleData.getSelectorId(), this::newRoot);
         } else {
             selectorData = (SelectorData) source;
-            node = keyRootMap.computeIfAbsent(selectorData.getPluginName(), key -> new ShenyuTrieNode("/", "/", false));
+            node = keyRootMap.computeIfAbsent(selectorData.getPluginName(), this::newRoot);
         }
         if (TrieMatchModeEnum.PATH_PATTERN.equals(matchMode)) {
             checkLegalPath(uriPath, pathParts);
@@ -184,6 +192,13 @@ public class ShenyuTrie {
         }
     }
     
+    private ShenyuTrieNode newRoot(final String key) {
+        if (keyRootMap.size() >= cacheSize) {
+            LOG.warn("shenyu trie has {} roots, more than the planned cache size {}, adding root {}", keyRootMap.size() + 1, cacheSize, key);
+        }
+        return new ShenyuTrieNode("/", "/", false);
+    }
+    
     private void buildFailToNode(final ShenyuTrieNode root) {
         if (Objects.isNull(root)) {
             return;
@@ -272,107 +287,131 @@ public class ShenyuTrie {
      * how to mark conflict: if current node has many conflict node, match mark number increment.<br>
      * match conflict: if current node has conflict node, mark the conflict with array index, traverse over trie,
      * if plugin can't get node from trie, check conflict, and resolve conflict, if plugin has resolve conflict
-     * but can't get node from trie, return null.
+     * but can't get node from trie, return null.<br>
+     * the path is walked in place: segments are offsets into the path, children are looked up in the immutable
+     * {@link TrieChildIndex} of each node and the conflict marks live in a per-thread {@link MatchState},
+     * so a match allocates nothing.
      *
      * @param uriPath uri path
      * @param bizInfo bizInfo
      * @return {@linkplain ShenyuTrieNode}
      */
     public ShenyuTrieNode match(final String uriPath, final String bizInfo) {
-        String strippedPath = StringUtils.strip(uriPath, "/");
-        String[] pathParts = StringUtils.split(strippedPath, "/");
-        if (ArrayUtils.isEmpty(pathParts)) {
+        MatchState state = MATCH_STATE.get();
+        int length = state.split(uriPath);
+        if (length == 0) {
             return null;
         }
         ShenyuTrieNode currentNode = keyRootMap.get(bizInfo);
         int startIndex = 0;
-        int[] matchAll = new int[pathParts.length];
-        int[] wildcard = new int[pathParts.length];
-        int[] pathVariable = new int[pathParts.length];
         ShenyuTrieNode matchNode;
-        while (startIndex < pathParts.length) {
-            String pathPart = pathParts[startIndex];
-            if (Objects.isNull(currentNode)) {
+        while (startIndex < length) {
+            if (Objects.isNull(currentNode) || startIndex < 0) {
                 return null;
             }
-            if (containsKey(currentNode.getChildren(), pathPart)) {
-                currentNode = currentNode.getChildren().get(pathPart);
-            } else if (hasWildcardNode(currentNode.getChildren(), pathPart) && Objects.nonNull(matchNode = findMatchWildcard(currentNode.getChildren(), pathPart)) && wildcard[startIndex] == 0) {
+            int from = state.start(startIndex);
+            int to = state.end(startIndex);
+            TrieChildIndex children = currentNode.getChildIndex();
+            if (Objects.nonNull(matchNode = children.get(uriPath, from, to))) {
+                currentNode = matchNode;
+            } else if (!state.isMarked(startIndex, MatchState.WILDCARD) && Objects.nonNull(matchNode = children.findWildcard(uriPath, from, to))) {
                 currentNode = matchNode;
-                wildcard[startIndex] = 1;
-            } else if (containsKey(currentNode.getChildren(), MATCH_ALL) && matchAll[startIndex] == 0) {
-                currentNode = currentNode.getChildren().get(MATCH_ALL);
-                matchAll[startIndex] = 1;
+                state.mark(startIndex, MatchState.WILDCARD);
+            } else if (Objects.nonNull(children.matchAll()) && !state.isMarked(startIndex, MatchState.MATCH_ALL)) {
+                currentNode = children.matchAll();
+                state.mark(startIndex, MatchState.MATCH_ALL);
+                TrieChildIndex matchAllChildren = currentNode.getChildIndex();
                 int matchAllIndex = startIndex;
-                while (true) {
-                    if (matchAllIndex == pathParts.length - 1) {
-                        break;
-                    }
+                while (matchAllIndex < length - 1) {
                     matchAllIndex++;
-                    if (containsKey(currentNode.getChildren(), pathParts[matchAllIndex])) {
-                        currentNode = currentNode.getChildren().get(pathParts[matchAllIndex]);
+                    int matchAllFrom = state.start(matchAllIndex);
+                    int matchAllTo = state.end(matchAllIndex);
+                    if (Objects.nonNull(matchNode = matchAllChildren.get(uriPath, matchAllFrom, matchAllTo))) {
+                        currentNode = matchNode;
                         startIndex = matchAllIndex;
                         break;
-                    } else if (hasWildcardNode(currentNode.getChildren(), pathParts[matchAllIndex])
-                            && Objects.nonNull(matchNode = findMatchWildcard(currentNode.getChildren(), pathParts[matchAllIndex]))) {
+                    } else if (Objects.nonNull(matchNode = matchAllChildren.findWildcard(uriPath, matchAllFrom, matchAllTo))) {
                         currentNode = matchNode;
-                        wildcard[matchAllIndex] = 1;
+                        state.mark(matchAllIndex, MatchState.WILDCARD);
                         startIndex = matchAllIndex;
                         break;
                     }
                 }
-            } else if (Objects.nonNull(currentNode.getPathVariableNode()) && currentNode.getPathVariables().size() == 1 && pathVariable[startIndex] == 0) {
+            } else if (Objects.nonNull(currentNode.getPathVariableNode()) && currentNode.getPathVariables().size() == 1
+                    && !state.isMarked(startIndex, MatchState.PATH_VARIABLE)) {
                 currentNode = currentNode.getPathVariableNode();
-                pathVariable[startIndex] = 1;
+                state.mark(startIndex, MatchState.PATH_VARIABLE);
             } else {
                 // fail to match, reset the node to failToNode
-                ShenyuTrieNode preParentNode = currentNode.getParentNode();
-                ShenyuTrieNode newCurrentNode = currentNode.getFailToNode();
-                // search failToNode's parentNode
-                ShenyuTrieNode parentNode = newCurrentNode.getParentNode();
-                if (Objects.isNull(parentNode) || (Objects.nonNull(parentNode.getFailToNode()) && Objects.nonNull(newCurrentNode.getFailToNode())
-                        && completeResolveConflict(parentNode, wildcard, matchAll, pathVariable, startIndex)
-                        && parentNode.getFailToNode().equals(newCurrentNode.getFailToNode()) && "/".equals(parentNode.getParentNode().getMatchStr()))) {
+                if (!failTo(currentNode, state, startIndex)) {
                     return null;
                 }
-                startIndex--;
-                if (preParentNode.equals(parentNode)) {
-                    startIndex--;
-                    currentNode = parentNode.getParentNode();
-                } else {
-                    while (!preParentNode.equals(parentNode)) {
-                        preParentNode = preParentNode.getParentNode();
-                        startIndex--;
-                    }
-                    currentNode = parentNode;
-                }
+                currentNode = state.resumeNode();
+                startIndex = state.resumeIndex();
                 continue;
             }
-            if (startIndex < pathParts.length - 1 && Objects.nonNull(currentNode) && !currentNode.getEndOfPath()) {
+            if (startIndex < length - 1 && !currentNode.getEndOfPath()) {
                 startIndex++;
                 continue;
             }
-            if ((startIndex == pathParts.length - 1 && checkNode(currentNode, bizInfo)) || (Objects.nonNull(currentNode) && isMatchAll(currentNode.getMatchStr()) && checkNode(currentNode, bizInfo))) {
+            if ((startIndex == length - 1 || isMatchAll(currentNode.getMatchStr())) && checkNode(currentNode, bizInfo)) {
                 return currentNode;
             }
         }
         return null;
     }
-    
-    private boolean completeResolveConflict(final ShenyuTrieNode node, final int[] wildcard, final int[] matchAll,
-                                            final int[] pathVariable, final int index) {
-        if (hasWildcardNode(node.getChildren(), WILDCARD) && containsKey(node.getChildren(), MATCH_ALL) && Objects.nonNull(node.getPathVariableNode())) {
-            return wildcard[index] == 1 && matchAll[index] == 1 && pathVariable[index] == 1;
-        } else if (hasWildcardNode(node.getChildren(), WILDCARD) && containsKey(node.getChildren(), MATCH_ALL)) {
-            return wildcard[index] == 1 && matchAll[index] == 1;
-        } else if (hasWildcardNode(node.getChildren(), WILDCARD) && Objects.nonNull(node.getPathVariableNode())) {
-            return wildcard[index] == 1 && pathVariable[index] == 1;
-        } else if (containsKey(node.getChildren(), MATCH_ALL) && Objects.nonNull(node.getPathVariableNode())) {
-            return matchAll[index] == 1 && pathVariable[index] == 1;
+
+    /**
+     * resume the match from the fail to node of the node which failed to match the segment.
+     *
+     * @param currentNode the node which failed to match
+     * @param state the match state, keeps the node and the segment index to resume from
+     * @param startIndex the index of the segment
+     * @return false when there is no node to resume from
+     */
+    private boolean failTo(final ShenyuTrieNode currentNode, final MatchState state, final int startIndex) {
+        ShenyuTrieNode newCurrentNode = currentNode.getFailToNode();
+        if (Objects.isNull(newCurrentNode)) {
+            return false;
+        }
+        // search failToNode's parentNode, nodes of one trie are only equal to themselves
+        ShenyuTrieNode parentNode = newCurrentNode.getParentNode();
+        if (Objects.isNull(parentNode) || (Objects.nonNull(parentNode.getFailToNode()) && Objects.nonNull(newCurrentNode.getFailToNode())
+                && completeResolveConflict(parentNode, state, startIndex)
+                && parentNode.getFailToNode() == newCurrentNode.getFailToNode() && "/".equals(parentNode.getParentNode().getMatchStr()))) {
+            return false;
+        }
+        int index = startIndex - 1;
+        ShenyuTrieNode preParentNode = currentNode.getParentNode();
+        if (preParentNode == parentNode) {
+            state.resume(parentNode.getParentNode(), index - 1);
+            return true;
+        }
+        while (Objects.nonNull(preParentNode) && preParentNode != parentNode) {
+            preParentNode = preParentNode.getParentNode();
+            index--;
+        }
+        state.resume(parentNode, index);
+        return true;
+    }
+
+    private static boolean completeResolveConflict(final ShenyuTrieNode node, final MatchState state, final int index) {
+        TrieChildIndex children = node.getChildIndex();
+        boolean wildcard = children.hasPattern(WILDCARD);
+        boolean matchAll = Objects.nonNull(children.matchAll());
+        boolean pathVariable = Objects.nonNull(node.getPathVariableNode());
+        if (wildcard && matchAll && pathVariable) {
+            return state.isMarked(index, MatchState.WILDCARD) && state.isMarked(index, MatchState.MATCH_ALL) && state.isMarked(index, MatchState.PATH_VARIABLE);
+        } else if (wildcard && matchAll) {
+            return state.isMarked(index, MatchState.WILDCARD) && state.isMarked(index, MatchState.MATCH_ALL);
+        } else if (wildcard && pathVariable) {
+            return state.isMarked(index, MatchState.WILDCARD) && state.isMarked(index, MatchState.PATH_VARIABLE);
+        } else if (matchAll && pathVariable) {
+            return state.isMarked(index, MatchState.MATCH_ALL) && state.isMarked(index, MatchState.PATH_VARIABLE);
         }
         return false;
     }
-    
+
     /**
      * remove trie node.
      *
@@ -475,6 +514,17 @@ public class ShenyuTrie {
         return keyRootMap.keySet();
     }
 
+    /**
+     * get the node count and estimated memory of the trie, in total and per root.
+     *
+     * @return trie stats
+     */
+    public ShenyuTrieStats stats() {
+        ShenyuTrieStats stats = new ShenyuTrieStats(cacheSize);
+        keyRootMap.forEach(stats::addRoot);
+        return stats;
+    }
+
     /**
      * check legal path.
      *
@@ -540,6 +590,7 @@ public class ShenyuTrie {
             childrenNode.setMatchStr(segment);
             childrenNode.setParentNode(shenyuTrieNode);
             shenyuTrieNode.getChildren().put(segment, childrenNode);
+            shenyuTrieNode.refreshChildIndex();
         }
         return childrenNode;
     }
@@ -599,6 +650,7 @@ public class ShenyuTrie {
             return;
         }
         Optional.ofNullable(parentNode.getChildren()).ifPresent(cache -> cache.remove(key));
+        parentNode.refreshChildIndex();
     }
 
     private boolean hasWildcardNode(final Map<String, ShenyuTrieNode> children, final String key) {
@@ -616,53 +668,7 @@ public class ShenyuTrie {
     }
 
     private static boolean isMatchWildcardPattern(final String segment, final String pattern) {
-        int sRight = segment.length();
-        int pRight = pattern.length();
-        while (sRight > 0 && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
-            if (segment.charAt(sRight - 1) == pattern.charAt(pRight - 1)) {
-                --sRight;
-                --pRight;
-            } else {
-                return false;
-            }
-        }
-
-        if (pRight == 0) {
-            return sRight == 0;
-        }
-
-        int sIndex = 0;
-        int pIndex = 0;
-        int sRecord = -1;
-        int pRecord = -1;
-
-        while (sIndex < sRight && pIndex < pRight) {
-            if (pattern.charAt(pIndex) == '*') {
-                ++pIndex;
-                sRecord = sIndex;
-                pRecord = pIndex;
-            } else if (segment.charAt(sIndex) == pattern.charAt(pIndex)) {
-                ++sIndex;
-                ++pIndex;
-            } else if (sRecord != -1 && sRecord + 1 < sRight) {
-                ++sRecord;
-                sIndex = sRecord;
-                pIndex = pRecord;
-            } else {
-                return false;
-            }
-        }
-
-        return allStars(pattern, pIndex, pRight);
-    }
-
-    private static boolean allStars(final String str, final int left, final int right) {
-        for (int i = left; i < right; ++i) {
-            if (str.charAt(i) != '*') {
-                return false;
-            }
-        }
-        return true;
+        return TrieChildIndex.matchPattern(segment, 0, segment.length(), pattern);
     }
     
     private boolean checkNode(final ShenyuTrieNode currentNode, final String bizInfo) {
@@ -724,4 +730,92 @@ public class ShenyuTrie {
             cache.clear();
         }
     }
+
+    /**
+     * per-thread state of a match: the segment offsets of the path and the conflict marks of every segment.
+     */
+    private static final class MatchState {
+
+        private static final int WILDCARD = 1;
+
+        private static final int MATCH_ALL = 1 << 1;
+
+        private static final int PATH_VARIABLE = 1 << 2;
+
+        private int[] starts = new int[16];
+
+        private int[] ends = new int[16];
+
+        private int[] marks = new int[16];
+
+        private ShenyuTrieNode resumeNode;
+
+        private int resumeIndex;
+
+        /**
+         * split the path into segments between '/', leading, trailing and repeated '/' are skipped.
+         *
+         * @param path the path
+         * @return the segment count
+         */
+        private int split(final String path) {
+            if (Objects.isNull(path)) {
+                return 0;
+            }
+            int count = 0;
+            int length = path.length();
+            int index = 0;
+            while (index < length) {
+                while (index < length && path.charAt(index) == '/') {
+                    index++;
+                }
+                if (index == length) {
+                    break;
+                }
+                int start = index;
+                while (index < length && path.charAt(index) != '/') {
+                    index++;
+                }
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count << 1);
+                    ends = Arrays.copyOf(ends, count << 1);
+                    marks = Arrays.copyOf(marks, count << 1);
+                }
+                starts[count] = start;
+                ends[count] = index;
+                marks[count] = 0;
+                count++;
+            }
+            return count;
+        }
+
+        private int start(final int index) {
+            return starts[index];
+        }
+
+        private int end(final int index) {
+            return ends[index];
+        }
+
+        private boolean isMarked(final int index, final int mark) {
+            return (marks[index] & mark) != 0;
+        }
+
+        private void mark(final int index, final int mark) {
+            marks[index] |= mark;
+        }
+
+        private void resume(final ShenyuTrieNode node, final int index) {
+            resumeNode = node;
+            resumeIndex = index;
+        }
+
+        private ShenyuTrieNode resumeNode() {
+            return resumeNode;
+        }
+
+        private int resumeIndex() {
+            return resumeIndex;
+        }
+    }
 }
@@ -31,6 +31,7 @@ import org.springframework.context.ApplicationListener;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +46,10 @@ public class ShenyuTrieListener implements ApplicationListener<TrieEvent> {
         TrieEventEnum eventEnum = event.getTrieEventEnum();
         TrieCacheTypeEnum cacheTypeEnum = event.getTrieCacheTypeEnum();
         Object source = event.getSource();
+        if (TrieEventEnum.INSERT_BATCH.equals(eventEnum)) {
+            insertTrieNodes((List<?>) source, cacheTypeEnum);
+            return;
+        }
         
         ShenyuTrie shenyuTrie;
         RuleData ruleData;
@@ -113,6 +118,38 @@ public class ShenyuTrieListener implements ApplicationListener<TrieEvent> {
         }
     }
     
+    /**
+     * insert or update a batch of data under one lock, the paths are still put one by one
+     * as the fail to nodes depend on the insert order.
+     */
+    private void insertTrieNodes(final List<?> dataList, final TrieCacheTypeEnum cacheTypeEnum) {
+        ShenyuTrie trie = SpringBeanUtils.getInstance().getBean(cacheTypeEnum.getTrieType());
+        Function<Object, List<String>> uriPaths;
+        Function<Object, List<String>> beforeUriPaths;
+        if (TrieCacheTypeEnum.RULE.equals(cacheTypeEnum)) {
+            uriPaths = data -> filterUriPaths(((RuleData) data).getConditionDataList());
+            beforeUriPaths = data -> filterUriPaths(((RuleData) data).getBeforeConditionDataList());
+        } else {
+            uriPaths = data -> filterUriPaths(((SelectorData) data).getConditionList());
+            beforeUriPaths = data -> filterUriPaths(((SelectorData) data).getBeforeConditionList());
+        }
+        synchronized (LOCK) {
+            for (Object data : dataList) {
+                List<String> paths = uriPaths.apply(data);
+                trie.remove(beforeUriPaths.apply(data), data, cacheTypeEnum);
+                trie.remove(paths, data, cacheTypeEnum);
+                trie.putNode(paths, data, cacheTypeEnum);
+            }
+        }
+    }
+    
+    private static List<String> filterUriPaths(final List<ConditionData> conditionDataList) {
+        return Optional.ofNullable(conditionDataList).orElse(Collections.emptyList()).stream()
+                .filter(conditionData -> ParamTypeEnum.URI.getName().equals(conditionData.getParamType()))
+                .map(ConditionData::getParamValue)
+                .collect(Collectors.toList());
+    }
+    
     private <T> void removeTrieNode(final List<String> uriPaths, final T data, final TrieCacheTypeEnum cacheTypeEnum, final ShenyuTrie trie) {
         trie.remove(uriPaths, data, cacheTypeEnum);
     }
@@ -87,6 +87,11 @@ public class ShenyuTrieNode implements Serializable {
      */
     private ShenyuTrieNode failToNode;
 
+    /**
+     * snapshot of the children for matching, rebuilt when the children change.
+     */
+    private transient volatile TrieChildIndex childIndex;
+
     public ShenyuTrieNode() {
     }
 
@@ -188,6 +193,31 @@ public class ShenyuTrieNode implements Serializable {
      */
     public void setChildren(final Map<String, ShenyuTrieNode> children) {
         this.children = children;
+        this.childIndex = null;
+    }
+
+    /**
+     * get the snapshot of the children for matching.
+     *
+     * @return child index
+     */
+    TrieChildIndex getChildIndex() {
+        TrieChildIndex index = childIndex;
+        if (Objects.isNull(index)) {
+            return refreshChildIndex();
+        }
+        return index;
+    }
+
+    /**
+     * rebuild the snapshot of the children, called after every change of the children.
+     *
+     * @return child index
+     */
+    synchronized TrieChildIndex refreshChildIndex() {
+        TrieChildIndex index = TrieChildIndex.of(children);
+        this.childIndex = index;
+        return index;
     }
 
     /**
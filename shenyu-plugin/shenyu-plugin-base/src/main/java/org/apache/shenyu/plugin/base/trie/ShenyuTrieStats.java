@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Node count and estimated memory of a {@link ShenyuTrie}, in total, per root and per plugin.
+ *
+ * <p>The bytes are an estimate for a 64-bit jvm with compressed oops: the nodes, their segments, maps,
+ * child snapshots and data lists. The rule and selector data are shared with the data cache and not counted.</p>
+ */
+public final class ShenyuTrieStats {
+
+    private static final long NODE_BYTES = 80L;
+
+    private static final long STRING_BYTES = 40L;
+
+    private static final long MAP_BYTES = 64L;
+
+    private static final long MAP_ENTRY_BYTES = 32L;
+
+    private static final long LIST_BYTES = 40L;
+
+    private static final long REFERENCE_BYTES = 4L;
+
+    private final long cacheSize;
+
+    private final Map<String, RootStats> roots = new TreeMap<>();
+
+    private long nodeCount;
+
+    private long estimatedBytes;
+
+    ShenyuTrieStats(final long cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * walk the nodes of one root.
+     *
+     * @param key the root key, plugin name or selector id
+     * @param root the root node
+     */
+    void addRoot(final String key, final ShenyuTrieNode root) {
+        RootStats rootStats = new RootStats();
+        Deque<ShenyuTrieNode> queue = new ArrayDeque<>();
+        queue.push(root);
+        while (!queue.isEmpty()) {
+            ShenyuTrieNode node = queue.pop();
+            rootStats.nodeCount++;
+            rootStats.estimatedBytes += nodeBytes(node);
+            if (Objects.isNull(rootStats.pluginName)) {
+                rootStats.pluginName = pluginName(node);
+            }
+            if (Objects.nonNull(node.getChildren())) {
+                node.getChildren().values().forEach(queue::push);
+            }
+            if (Objects.nonNull(node.getPathVariables())) {
+                node.getPathVariables().values().forEach(queue::push);
+            }
+        }
+        roots.put(key, rootStats);
+        nodeCount += rootStats.nodeCount;
+        estimatedBytes += rootStats.estimatedBytes;
+    }
+
+    private static long nodeBytes(final ShenyuTrieNode node) {
+        long bytes = NODE_BYTES + stringBytes(node.getMatchStr()) + stringBytes(node.getFullPath());
+        bytes += mapBytes(node.getChildren(), Constants.TRIE_CHILDREN_SIZE);
+        bytes += mapBytes(node.getPathVariables(), Constants.TRIE_PATH_VARIABLES_SIZE);
+        bytes += mapBytes(node.getPathCache(), Constants.TRIE_PATH_CACHE_SIZE);
+        if (Objects.nonNull(node.getPathCache())) {
+            for (List<?> list : node.getPathCache().values()) {
+                bytes += LIST_BYTES + REFERENCE_BYTES * Math.max(list.size(), 10);
+            }
+        }
+        return bytes + node.getChildIndex().estimatedBytes();
+    }
+
+    private static long stringBytes(final String value) {
+        return Objects.isNull(value) ? 0L : STRING_BYTES + value.length();
+    }
+
+    /**
+     * a concurrent hash map allocates its table on the first put, sized from the initial capacity.
+     */
+    private static long mapBytes(final Map<?, ?> map, final int initialCapacity) {
+        if (Objects.isNull(map)) {
+            return 0L;
+        }
+        if (map.isEmpty()) {
+            return MAP_BYTES;
+        }
+        long table = Math.max(Integer.highestOneBit(initialCapacity + (initialCapacity >>> 1) + 1) << 1, Integer.highestOneBit(map.size()) << 2);
+        return MAP_BYTES + table * REFERENCE_BYTES + map.size() * MAP_ENTRY_BYTES;
+    }
+
+    private static String pluginName(final ShenyuTrieNode node) {
+        if (Objects.isNull(node.getPathCache())) {
+            return null;
+        }
+        for (List<?> list : node.getPathCache().values()) {
+            for (Object data : list) {
+                if (data instanceof RuleData) {
+                    return ((RuleData) data).getPluginName();
+                }
+                if (data instanceof SelectorData) {
+                    return ((SelectorData) data).getPluginName();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * get the planned number of roots.
+     *
+     * @return cache size
+     */
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * get root count.
+     *
+     * @return root count
+     */
+    public int getRootCount() {
+        return roots.size();
+    }
+
+    /**
+     * get node count.
+     *
+     * @return node count
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * get estimated bytes.
+     *
+     * @return estimated bytes
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * get the stats per root, the key is the plugin name for the selector trie and the selector id for the rule trie.
+     *
+     * @return stats per root
+     */
+    public Map<String, RootStats> getRoots() {
+        return Collections.unmodifiableMap(roots);
+    }
+
+    /**
+     * get the estimated bytes per plugin.
+     *
+     * @return estimated bytes per plugin
+     */
+    public Map<String, Long> getEstimatedBytesByPlugin() {
+        Map<String, Long> bytes = new TreeMap<>();
+        roots.values().forEach(root -> bytes.merge(Objects.toString(root.getPluginName(), ""), root.getEstimatedBytes(), Long::sum));
+        return bytes;
+    }
+
+    /**
+     * stats of one root.
+     */
+    public static final class RootStats {
+
+        private String pluginName;
+
+        private long nodeCount;
+
+        private long estimatedBytes;
+
+        /**
+         * get plugin name.
+         *
+         * @return plugin name, null when the root holds no data
+         */
+        public String getPluginName() {
+            return pluginName;
+        }
+
+        /**
+         * get node count.
+         *
+         * @return node count
+         */
+        public long getNodeCount() {
+            return nodeCount;
+        }
+
+        /**
+         * get estimated bytes.
+         *
+         * @return estimated bytes
+         */
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+}
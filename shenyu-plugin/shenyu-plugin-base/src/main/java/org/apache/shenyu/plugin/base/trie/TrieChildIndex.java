@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the children of a {@link ShenyuTrieNode}, read by the matcher without allocation.
+ *
+ * <p>The children are sorted by the hash of their segment, a lookup hashes the path segment in place,
+ * binary searches the hashes and compares the characters of the candidates only.
+ * The node builds a new snapshot on every change of its children and swaps it in.</p>
+ */
+final class TrieChildIndex {
+
+    static final TrieChildIndex EMPTY = new TrieChildIndex(new int[0], new String[0], new ShenyuTrieNode[0], new ShenyuTrieNode[0], null);
+
+    private static final String MATCH_ALL = "**";
+
+    private final int[] hashes;
+
+    private final String[] keys;
+
+    private final ShenyuTrieNode[] nodes;
+
+    /**
+     * the children with a {@code *} in their segment, in the iteration order of the children map.
+     */
+    private final ShenyuTrieNode[] patterns;
+
+    private final ShenyuTrieNode matchAll;
+
+    private TrieChildIndex(final int[] hashes, final String[] keys, final ShenyuTrieNode[] nodes,
+                           final ShenyuTrieNode[] patterns, final ShenyuTrieNode matchAll) {
+        this.hashes = hashes;
+        this.keys = keys;
+        this.nodes = nodes;
+        this.patterns = patterns;
+        this.matchAll = matchAll;
+    }
+
+    /**
+     * Build the snapshot of the children.
+     *
+     * @param children the children
+     * @return the snapshot
+     */
+    static TrieChildIndex of(final Map<String, ShenyuTrieNode> children) {
+        if (Objects.isNull(children)) {
+            return EMPTY;
+        }
+        List<Map.Entry<String, ShenyuTrieNode>> entries = new ArrayList<>(children.entrySet());
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        List<ShenyuTrieNode> patternList = new ArrayList<>();
+        for (Map.Entry<String, ShenyuTrieNode> entry : entries) {
+            if (entry.getKey().indexOf('*') >= 0) {
+                patternList.add(entry.getValue());
+            }
+        }
+        entries.sort(Comparator.comparingInt(entry -> entry.getKey().hashCode()));
+        int size = entries.size();
+        int[] hashes = new int[size];
+        String[] keys = new String[size];
+        ShenyuTrieNode[] nodes = new ShenyuTrieNode[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = entries.get(i).getKey();
+            hashes[i] = keys[i].hashCode();
+            nodes[i] = entries.get(i).getValue();
+        }
+        return new TrieChildIndex(hashes, keys, nodes, patternList.toArray(new ShenyuTrieNode[0]), children.get(MATCH_ALL));
+    }
+
+    /**
+     * Get the child of a segment.
+     *
+     * @param segment the segment
+     * @return the child, or null
+     */
+    ShenyuTrieNode get(final String segment) {
+        return get(segment, 0, segment.length());
+    }
+
+    /**
+     * Get the child of the segment {@code path[from, to)}.
+     *
+     * @param path the path
+     * @param from the segment start, inclusive
+     * @param to the segment end, exclusive
+     * @return the child, or null
+     */
+    ShenyuTrieNode get(final String path, final int from, final int to) {
+        if (hashes.length == 0) {
+            return null;
+        }
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + path.charAt(i);
+        }
+        int index = Arrays.binarySearch(hashes, hash);
+        if (index < 0) {
+            return null;
+        }
+        while (index > 0 && hashes[index - 1] == hash) {
+            index--;
+        }
+        int length = to - from;
+        for (int i = index; i < hashes.length && hashes[i] == hash; i++) {
+            if (keys[i].length() == length && keys[i].regionMatches(0, path, from, length)) {
+                return nodes[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the first wildcard child whose pattern matches the segment {@code path[from, to)}.
+     *
+     * @param path the path
+     * @param from the segment start, inclusive
+     * @param to the segment end, exclusive
+     * @return the wildcard child, or null
+     */
+    ShenyuTrieNode findWildcard(final String path, final int from, final int to) {
+        for (ShenyuTrieNode pattern : patterns) {
+            if (pattern.getWildcard() && matchPattern(path, from, to, pattern.getMatchStr())) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether any child, taking its segment as a pattern, matches the segment.
+     *
+     * @param segment the segment
+     * @return true when a child matches
+     */
+    boolean hasPattern(final String segment) {
+        if (Objects.nonNull(get(segment))) {
+            return true;
+        }
+        for (ShenyuTrieNode pattern : patterns) {
+            if (matchPattern(segment, 0, segment.length(), pattern.getMatchStr())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the {@code **} child.
+     *
+     * @return the match all child, or null
+     */
+    ShenyuTrieNode matchAll() {
+        return matchAll;
+    }
+
+    /**
+     * Estimate the memory of the snapshot.
+     *
+     * @return estimated bytes
+     */
+    long estimatedBytes() {
+        if (this == EMPTY) {
+            return 0L;
+        }
+        return 32L + 4 * 16L + hashes.length * 12L + patterns.length * 4L;
+    }
+
+    /**
+     * Whether the segment {@code path[from, to)} matches a pattern where {@code *} matches 0 or more characters.
+     *
+     * @param path the path
+     * @param from the segment start, inclusive
+     * @param to the segment end, exclusive
+     * @param pattern the pattern
+     * @return match result
+     */
+    static boolean matchPattern(final String path, final int from, final int to, final String pattern) {
+        int sRight = to;
+        int pRight = pattern.length();
+        while (sRight > from && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
+            if (path.charAt(sRight - 1) == pattern.charAt(pRight - 1)) {
+                --sRight;
+                --pRight;
+            } else {
+                return false;
+            }
+        }
+        if (pRight == 0) {
+            return sRight == from;
+        }
+        int sIndex = from;
+        int pIndex = 0;
+        int sRecord = -1;
+        int pRecord = -1;
+        while (sIndex < sRight && pIndex < pRight) {
+            if (pattern.charAt(pIndex) == '*') {
+                ++pIndex;
+                sRecord = sIndex;
+                pRecord = pIndex;
+            } else if (path.charAt(sIndex) == pattern.charAt(pIndex)) {
+                ++sIndex;
+                ++pIndex;
+            } else if (sRecord != -1 && sRecord + 1 < sRight) {
+                ++sRecord;
+                sIndex = sRecord;
+                pIndex = pRecord;
+            } else {
+                return false;
+            }
+        }
+        for (int i = pIndex; i < pRight; ++i) {
+            if (pattern.charAt(i) != '*') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -66,4 +66,15 @@ public class PathMatchUtils {
         PathPattern pattern = PathPatternParser.defaultInstance.parse(pathPattern);
         return pattern.matches(PathContainer.parsePath(realPath));
     }
+    
+    /**
+     * Path pattern boolean.
+     *
+     * @param pathPattern the parsed path pattern
+     * @param realPath the real path
+     * @return the boolean
+     */
+    public static boolean pathPattern(final PathPattern pathPattern, final String realPath) {
+        return pathPattern.matches(PathContainer.parsePath(realPath));
+    }
 }
@@ -145,6 +145,22 @@ public final class ResponseUtils {
         })).onErrorResume((Function<Throwable, Mono<Void>>) throwable -> ResponseUtils.release(outputMessage, throwable));
     }
 
+    /**
+     * the response write with the body chunks as they are published, without joining the body.
+     *
+     * @param clientResponse the client response
+     * @param exchange the exchange
+     * @param body the body
+     * @return the mono
+     */
+    public static Mono<Void> writeChunked(final ClientResponse clientResponse,
+                                          final ServerWebExchange exchange,
+                                          final Publisher<? extends DataBuffer> body) {
+        fixHeaders(exchange.getResponse().getHeaders());
+        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, clientResponse);
+        return exchange.getResponse().writeWith(body);
+    }
+
     /**
      * Gets reads from ServerCodecConfigurer with custom the codec.
      * @return ServerCodecConfigurer readers
@@ -17,50 +17,92 @@
 
 package org.apache.shenyu.plugin.base.utils;
 
-import org.apache.shenyu.plugin.base.support.BodyInserterContext;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.apache.shenyu.plugin.base.support.RequestDecorator;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.plugin.base.support.RequestBodyCache;
 import org.apache.shenyu.plugin.base.support.ResponseDecorator;
-import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.lang.NonNull;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 public class ServerWebExchangeUtils {
 
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    /**
+     * Read the request body once into the {@link RequestBodyCache} of the exchange, a cached body is not read again.
+     *
+     * @param exchange serverWebExchange
+     * @return the exchange whose request replays the cached body
+     */
+    public static Mono<ServerWebExchange> cacheRequestBody(final ServerWebExchange exchange) {
+        RequestBodyCache cache = exchange.getAttribute(Constants.REQUEST_BODY_CACHE);
+        if (Objects.nonNull(cache)) {
+            return Mono.just(exchange.getRequest() instanceof CachedBodyRequestDecorator ? exchange : decorate(exchange, cache));
+        }
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(EMPTY_BODY)
+                .map(bytes -> decorate(exchange, new RequestBodyCache(bytes, getCharset(exchange))));
+    }
+
+    /**
+     * Gets the request body cached by {@link #cacheRequestBody}.
+     *
+     * @param exchange serverWebExchange
+     * @return the request body cache, null when the body is not cached
+     */
+    public static RequestBodyCache getRequestBodyCache(final ServerWebExchange exchange) {
+        return exchange.getAttribute(Constants.REQUEST_BODY_CACHE);
+    }
+
+    /**
+     * Replace the request body, the bytes become the cached body.
+     *
+     * @param exchange serverWebExchange
+     * @param body the new body, not copied
+     * @return the exchange whose request replays the new body
+     */
+    public static ServerWebExchange replaceRequestBody(final ServerWebExchange exchange, final byte[] body) {
+        return decorate(exchange, new RequestBodyCache(body, getCharset(exchange)));
+    }
+
     /**
-     * Rewrites Request Body.
+     * Rewrites Request Body, the body is read once into the {@link RequestBodyCache} and replaced only when converted to a new body.
      *
      * @param exchange serverWebExchange
-     * @param readers  reader to read request-body
+     * @param readers  not used since the body is cached as bytes
      * @param convert  convert body to new body
      * @return Mono.
      */
     public static Mono<ServerWebExchange> rewriteRequestBody(final ServerWebExchange exchange,
                                                              final List<HttpMessageReader<?>> readers,
                                                              final Function<String, Mono<String>> convert) {
-
-        ServerRequest serverRequest = ServerRequest.create(exchange, readers);
-        CachedBodyOutputMessage outputMessage = ResponseUtils.newCachedBodyOutputMessage(exchange);
-
-        return serverRequest.bodyToMono(String.class)
-                .switchIfEmpty(Mono.defer(() -> Mono.just("")))
-                .flatMap(convert)
-                .flatMap(body -> {
-                    BodyInserter<String, ReactiveHttpOutputMessage> bodyInserter = BodyInserters.fromValue(body);
-                    return bodyInserter.insert(outputMessage, new BodyInserterContext());
-                }).then(Mono.defer(() -> {
-                    ServerHttpRequestDecorator decorator = new RequestDecorator(exchange, outputMessage);
-                    return Mono.just(exchange.mutate().request(decorator).build());
-                })).onErrorResume(throwable -> ResponseUtils.release(outputMessage, throwable));
-
+        return cacheRequestBody(exchange).flatMap(cached -> {
+            RequestBodyCache cache = getRequestBodyCache(cached);
+            String original = cache.getString();
+            return convert.apply(original)
+                    .map(body -> original.equals(body) ? cached : replaceRequestBody(cached, body.getBytes(cache.getCharset())));
+        });
     }
 
     /**
@@ -75,4 +117,50 @@ public class ServerWebExchangeUtils {
         return exchange.mutate()
                 .response(new ResponseDecorator(exchange, convert)).build();
     }
+
+    private static ServerWebExchange decorate(final ServerWebExchange exchange, final RequestBodyCache cache) {
+        exchange.getAttributes().put(Constants.REQUEST_BODY_CACHE, cache);
+        ServerHttpRequest request = exchange.getRequest() instanceof CachedBodyRequestDecorator
+                ? ((CachedBodyRequestDecorator) exchange.getRequest()).getDelegate() : exchange.getRequest();
+        return exchange.mutate().request(new CachedBodyRequestDecorator(request, cache, exchange.getResponse().bufferFactory())).build();
+    }
+
+    private static Charset getCharset(final ServerWebExchange exchange) {
+        MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        return Objects.nonNull(contentType) && Objects.nonNull(contentType.getCharset()) ? contentType.getCharset() : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * The request replaying the cached body.
+     */
+    private static final class CachedBodyRequestDecorator extends ServerHttpRequestDecorator {
+
+        private final RequestBodyCache cache;
+
+        private final DataBufferFactory bufferFactory;
+
+        private final HttpHeaders headers;
+
+        CachedBodyRequestDecorator(final ServerHttpRequest delegate, final RequestBodyCache cache, final DataBufferFactory bufferFactory) {
+            super(delegate);
+            this.cache = cache;
+            this.bufferFactory = bufferFactory;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            this.headers.setContentLength(cache.getBytes().length);
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        @NonNull
+        public Flux<DataBuffer> getBody() {
+            return cache.toBody(bufferFactory);
+        }
+    }
 }
@@ -135,6 +135,20 @@ public final class BaseDataCacheTest {
         assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), selectorMap.get(mockPluginName1));
     }
 
+    @Test
+    public void testCacheSelectDataBatch() throws NoSuchFieldException, IllegalAccessException {
+        BaseDataCache.getInstance().cleanSelectorData();
+        SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(2).build();
+        BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
+        SelectorData updatedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(3).build();
+        SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(1).build();
+        SelectorData thirdCachedSelectorData = SelectorData.builder().id("3").pluginName(mockPluginName2).sort(1).build();
+        BaseDataCache.getInstance().cacheSelectDataBatch(Lists.newArrayList(updatedSelectorData, secondCachedSelectorData, thirdCachedSelectorData));
+        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
+        assertEquals(Lists.newArrayList(secondCachedSelectorData, updatedSelectorData), selectorMap.get(mockPluginName1));
+        assertEquals(Lists.newArrayList(thirdCachedSelectorData), selectorMap.get(mockPluginName2));
+    }
+
     @Test
     public void testRemoveSelectData() throws NoSuchFieldException, IllegalAccessException {
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
@@ -193,6 +207,19 @@ public final class BaseDataCacheTest {
         assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), ruleMap.get(mockSelectorId1));
     }
 
+    @Test
+    public void testCacheRuleDataBatch() throws NoSuchFieldException, IllegalAccessException {
+        BaseDataCache.getInstance().cleanRuleData();
+        RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
+        RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(1).build();
+        RuleData thirdCachedRuleData = RuleData.builder().id("3").selectorId(mockSelectorId2).sort(1).build();
+        BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
+        BaseDataCache.getInstance().cacheRuleDataBatch(Lists.newArrayList(thirdCachedRuleData, secondCachedRuleData));
+        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
+        assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), ruleMap.get(mockSelectorId1));
+        assertEquals(Lists.newArrayList(thirdCachedRuleData), ruleMap.get(mockSelectorId2));
+    }
+
     @Test
     public void testRemoveRuleData() throws NoSuchFieldException, IllegalAccessException {
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
@@ -24,8 +24,10 @@ import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieEventEnum;
 import org.apache.shenyu.common.enums.TrieMatchModeEnum;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.event.TrieEvent;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -34,8 +36,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -141,6 +146,26 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(selectorData), obtainSelectorData);
     }
 
+    @Test
+    public void testOnSelectorSubscribeBatch() {
+        baseDataCache.cleanSelectorData();
+        SelectorMatchCache selectorMatchCache = new SelectorMatchCache();
+        selectorMatchCache.getTrie().setEnabled(true);
+        CommonPluginDataSubscriber subscriber = new CommonPluginDataSubscriber(Lists.newArrayList(), eventPublisher, selectorMatchCache, new RuleMatchCache());
+        SelectorData firstSelectorData = SelectorData.builder().id("1").enabled(true).pluginName(mockPluginName1).sort(2).build();
+        SelectorData secondSelectorData = SelectorData.builder().id("2").enabled(true).pluginName(mockPluginName1).sort(1).build();
+        SelectorData thirdSelectorData = SelectorData.builder().id("3").enabled(false).pluginName(mockPluginName2).sort(1).build();
+        subscriber.onSelectorSubscribeBatch(Lists.newArrayList(firstSelectorData, secondSelectorData, thirdSelectorData));
+        assertEquals(Lists.newArrayList(secondSelectorData, firstSelectorData), baseDataCache.obtainSelectorData(mockPluginName1));
+        assertEquals(Lists.newArrayList(thirdSelectorData), baseDataCache.obtainSelectorData(mockPluginName2));
+        
+        ArgumentCaptor<TrieEvent> captor = ArgumentCaptor.forClass(TrieEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(TrieEventEnum.REMOVE, captor.getAllValues().get(0).getTrieEventEnum());
+        assertEquals(TrieEventEnum.INSERT_BATCH, captor.getAllValues().get(1).getTrieEventEnum());
+        assertEquals(Lists.newArrayList(firstSelectorData, secondSelectorData), captor.getAllValues().get(1).getSource());
+    }
+
     @Test
     public void testUnSelectorSubscribe() {
         baseDataCache.cleanSelectorData();
@@ -192,6 +217,17 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(ruleData), baseDataCache.obtainRuleData(ruleData.getSelectorId()));
     }
 
+    @Test
+    public void testOnRuleSubscribeBatch() {
+        baseDataCache.cleanRuleData();
+        RuleData firstRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).enabled(true).pluginName(mockPluginName1).sort(2).build();
+        RuleData secondRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).enabled(true).pluginName(mockPluginName1).sort(1).build();
+        RuleData thirdRuleData = RuleData.builder().id("3").selectorId(mockSelectorId2).enabled(true).pluginName(mockPluginName1).sort(1).build();
+        commonPluginDataSubscriber.onRuleSubscribeBatch(Lists.newArrayList(firstRuleData, secondRuleData, thirdRuleData));
+        assertEquals(Lists.newArrayList(secondRuleData, firstRuleData), baseDataCache.obtainRuleData(mockSelectorId1));
+        assertEquals(Lists.newArrayList(thirdRuleData), baseDataCache.obtainRuleData(mockSelectorId2));
+    }
+
     @Test
     public void testUnRuleSubscribe() {
         baseDataCache.cleanRuleData();
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The Test Case For {@link MetaDataMatcher}.
+ */
+public final class MetaDataMatcherTest {
+
+    private MetaDataMatcher matcher;
+
+    @BeforeEach
+    public void setUp() {
+        matcher = new MetaDataMatcher();
+        matcher.put(metaData("1", "/a/**"));
+        matcher.put(metaData("2", "/b/*/c"));
+        matcher.put(metaData("3", "/c/{id}"));
+        matcher.put(metaData("4", "/d/find*"));
+        matcher.put(metaData("5", "/e/x/y"));
+        matcher.put(metaData("6", "/e/**"));
+        matcher.put(metaData("7", "/**/z"));
+    }
+
+    @Test
+    public void testMatch() {
+        assertEquals("/a/**", matcher.match("/a/b/c").getPath());
+        assertEquals("/b/*/c", matcher.match("/b/x/c").getPath());
+        assertEquals("/c/{id}", matcher.match("/c/1").getPath());
+        assertEquals("/d/find*", matcher.match("/d/findAll").getPath());
+        assertEquals("/e/x/y", matcher.match("/e/x/y").getPath());
+        assertEquals("/e/**", matcher.match("/e/x/y/z").getPath());
+        assertNull(matcher.match("/b/x/y"));
+        assertNull(matcher.match("/unknown"));
+    }
+
+    @Test
+    public void testMatchFallback() {
+        // the exact /e/x/y hides /e/** from the trie
+        assertEquals("/e/**", matcher.match("/e/x").getPath());
+        // a path starting with a pattern
+        assertEquals("/**/z", matcher.match("/q/z").getPath());
+    }
+
+    @Test
+    public void testPutAndRemove() {
+        matcher.remove(metaData("6", null));
+        assertNull(matcher.match("/e/x"));
+        matcher.put(metaData("5", "/e/new"));
+        assertNull(matcher.match("/e/x/y"));
+        assertEquals("/e/new", matcher.match("/e/new").getPath());
+    }
+
+    private static MetaData metaData(final String id, final String path) {
+        return MetaData.builder().id(id).path(path).build();
+    }
+}
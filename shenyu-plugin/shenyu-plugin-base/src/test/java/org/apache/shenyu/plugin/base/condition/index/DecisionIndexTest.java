@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.index;
+
+import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for DecisionIndex.
+ */
+public final class DecisionIndexTest {
+
+    @Test
+    public void testSelectorPrecedence() {
+        SelectorData low = selector("1", 1, condition("uri", "match", null, "/http/**"));
+        SelectorData high = selector("2", 2, condition("uri", "match", null, "/http/**"),
+                condition("uri", "match", null, "/http/test/**"));
+        SelectorData disabled = selector("3", 0, condition("uri", "match", null, "/http/**"));
+        disabled.setEnabled(false);
+        List<SelectorData> selectors = Lists.newArrayList(disabled, low, high);
+        DecisionIndex<SelectorData> index = DecisionIndex.ofSelectors(selectors);
+        assertEquals(2, index.size());
+        assertTrue(index.isCompiledFrom(selectors));
+        assertTrue(index.isPathDeterministic());
+        assertEquals(high, index.match(exchange(MockServerHttpRequest.get("/http/test/a"))));
+        assertEquals(low, index.match(exchange(MockServerHttpRequest.get("/http/other"))));
+        assertNull(index.match(exchange(MockServerHttpRequest.get("/dubbo/other"))));
+    }
+
+    @Test
+    public void testSelectorSortTieBreak() {
+        SelectorData first = selector("1", 2, condition("uri", "match", null, "/http/**"));
+        SelectorData second = selector("2", 1, condition("uri", "match", null, "/http/**"));
+        DecisionIndex<SelectorData> index = DecisionIndex.ofSelectors(Arrays.asList(first, second));
+        assertEquals(second, index.match(exchange(MockServerHttpRequest.get("/http/test"))));
+    }
+
+    @Test
+    public void testDiscriminatorBuckets() {
+        SelectorData get = selector("1", 1, condition("req_method", "=", null, "GET"), condition("uri", "match", null, "/http/**"));
+        SelectorData post = selector("2", 1, condition("req_method", "=", null, "POST"), condition("uri", "match", null, "/http/**"));
+        SelectorData gray = selector("3", 3, condition("header", "=", "gray", "true"), condition("uri", "match", null, "/http/**"),
+                condition("uri", "match", null, "/http/test/**"));
+        SelectorData fallback = selector("4", 9, condition("uri", "match", null, "/**"));
+        DecisionIndex<SelectorData> index = DecisionIndex.ofSelectors(Arrays.asList(get, post, gray, fallback));
+        assertFalse(index.isPathDeterministic());
+        assertEquals(get, index.match(exchange(MockServerHttpRequest.get("/http/test"))));
+        assertEquals(post, index.match(exchange(MockServerHttpRequest.post("/http/test"))));
+        assertEquals(gray, index.match(exchange(MockServerHttpRequest.post("/http/test/a").header("gray", "true"))));
+        assertEquals(fallback, index.match(exchange(MockServerHttpRequest.put("/dubbo/test"))));
+    }
+
+    @Test
+    public void testFullFlowSelector() {
+        SelectorData fullFlow = SelectorData.builder().id("1").enabled(true).sort(1)
+                .type(SelectorTypeEnum.FULL_FLOW.getCode()).build();
+        DecisionIndex<SelectorData> index = DecisionIndex.ofSelectors(Collections.singletonList(fullFlow));
+        assertEquals(fullFlow, index.match(exchange(MockServerHttpRequest.get("/any"))));
+    }
+
+    @Test
+    public void testRules() {
+        RuleData orRule = RuleData.builder().id("1").enabled(true).sort(1).matchMode(1)
+                .conditionDataList(Arrays.asList(condition("uri", "=", null, "/a"), condition("uri", "=", null, "/b"))).build();
+        RuleData andRule = RuleData.builder().id("2").enabled(true).sort(2).matchMode(0)
+                .conditionDataList(Collections.singletonList(condition("uri", "=", null, "/b"))).build();
+        DecisionIndex<RuleData> index = DecisionIndex.ofRules(Arrays.asList(orRule, andRule));
+        assertEquals(orRule, index.match(exchange(MockServerHttpRequest.get("/a"))));
+        assertEquals(andRule, index.match(exchange(MockServerHttpRequest.get("/b"))));
+        assertNull(index.match(exchange(MockServerHttpRequest.get("/c"))));
+    }
+
+    private static ServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> builder) {
+        return MockServerWebExchange.from(builder.build());
+    }
+
+    private static SelectorData selector(final String id, final int sort, final ConditionData... conditions) {
+        return SelectorData.builder().id(id).pluginName("SHENYU").enabled(true).matchMode(0).sort(sort)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).conditionList(Arrays.asList(conditions)).build();
+    }
+
+    private static ConditionData condition(final String paramType, final String operator, final String paramName, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType);
+        conditionData.setOperator(operator);
+        conditionData.setParamName(paramName);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
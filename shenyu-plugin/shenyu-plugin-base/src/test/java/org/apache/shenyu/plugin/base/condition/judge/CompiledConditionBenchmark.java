@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per-request parsing of regex and path pattern conditions with the compiled conditions.
+ * Run the main method from the IDE, it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledConditionBenchmark {
+
+    private static final String PATH = "/http/order/findById/10086";
+
+    @Param({"1", "10", "100"})
+    private int conditionCount;
+
+    private List<ConditionData> conditions;
+
+    private final PredicateJudge regexJudge = new RegexPredicateJudge();
+
+    private final PredicateJudge pathPatternJudge = new PathPatternPredicateJudge();
+
+    /**
+     * Build half regex and half path pattern conditions, none of them matches the path.
+     */
+    @Setup
+    public void setUp() {
+        conditions = new ArrayList<>(conditionCount);
+        for (int i = 0; i < conditionCount; i++) {
+            ConditionData conditionData = new ConditionData();
+            conditionData.setParamType(ParamTypeEnum.URI.getName());
+            if (i % 2 == 0) {
+                conditionData.setOperator(OperatorEnum.REGEX.getAlias());
+                conditionData.setParamValue(" /http/order" + i + "/.* ");
+            } else {
+                conditionData.setOperator(OperatorEnum.PATH_PATTERN.getAlias());
+                conditionData.setParamValue(" /http/order" + i + "/{method}/** ");
+            }
+            conditions.add(conditionData);
+        }
+        CompiledCondition.compile(conditions);
+    }
+
+    /**
+     * The former path, trim and parse on every judge.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void uncompiled(final Blackhole blackhole) {
+        for (ConditionData conditionData : conditions) {
+            if (OperatorEnum.REGEX.getAlias().equals(conditionData.getOperator())) {
+                blackhole.consume(Pattern.matches(conditionData.getParamValue().trim(), PATH));
+            } else {
+                blackhole.consume(PathMatchUtils.pathPattern(conditionData.getParamValue().trim(), PATH));
+            }
+        }
+    }
+
+    /**
+     * The compiled path.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    public void compiled(final Blackhole blackhole) {
+        for (ConditionData conditionData : conditions) {
+            if (OperatorEnum.REGEX.getAlias().equals(conditionData.getOperator())) {
+                blackhole.consume(regexJudge.judge(conditionData, PATH));
+            } else {
+                blackhole.consume(pathPatternJudge.judge(conditionData, PATH));
+            }
+        }
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompiledConditionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.judge;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for CompiledCondition.
+ */
+public final class CompiledConditionTest {
+
+    @Test
+    public void testCompileRegex() {
+        ConditionData conditionData = condition(OperatorEnum.REGEX.getAlias(), " /http/.* ");
+        CompiledCondition.compile(Collections.singletonList(conditionData));
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
+        assertSame(compiled, conditionData.obtainCompiled());
+        assertEquals("/http/.*", compiled.getValue());
+        assertNotNull(compiled.getRegex());
+        assertNull(compiled.getPathPattern());
+        assertTrue(new RegexPredicateJudge().judge(conditionData, "/http/test"));
+    }
+
+    @Test
+    public void testCompilePathPattern() {
+        ConditionData conditionData = condition(OperatorEnum.PATH_PATTERN.getAlias(), "/http/{id}/**");
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
+        assertNotNull(compiled.getPathPattern());
+        assertTrue(new PathPatternPredicateJudge().judge(conditionData, "/http/1/a/b"));
+        assertFalse(new PathPatternPredicateJudge().judge(conditionData, "/dubbo/1"));
+    }
+
+    @Test
+    public void testCompileTimer() {
+        ConditionData conditionData = condition(OperatorEnum.TIME_AFTER.getAlias(), "2020-01-01 00:00:00");
+        conditionData.setParamName(null);
+        assertNotNull(CompiledCondition.obtain(conditionData).getDateTime());
+        assertTrue(new TimerAfterPredicateJudge().judge(conditionData, "any"));
+    }
+
+    @Test
+    public void testInvalidPatternKeptUncompiled() {
+        ConditionData conditionData = condition(OperatorEnum.REGEX.getAlias(), "(");
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
+        assertNull(compiled.getRegex());
+        assertEquals("(", compiled.getValue());
+    }
+
+    @Test
+    public void testResetOnChange() {
+        ConditionData conditionData = condition(OperatorEnum.EQ.getAlias(), "/a");
+        CompiledCondition compiled = CompiledCondition.obtain(conditionData);
+        conditionData.setParamValue("/b");
+        assertNull(conditionData.obtainCompiled());
+        assertNotSame(compiled, CompiledCondition.obtain(conditionData));
+        assertTrue(new EqualsPredicateJudge().judge(conditionData, "/b"));
+    }
+
+    private static ConditionData condition(final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(ParamTypeEnum.URI.getName());
+        conditionData.setOperator(operator);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
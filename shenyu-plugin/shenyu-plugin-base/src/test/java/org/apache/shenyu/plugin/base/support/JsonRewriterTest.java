@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.support;
+
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link JsonRewriter}.
+ */
+public final class JsonRewriterTest {
+
+    private static final DefaultDataBufferFactory FACTORY = new DefaultDataBufferFactory();
+
+    @Test
+    public void rewriteTest() {
+        JsonRewriter rewriter = JsonRewriter.compile(
+                Arrays.asList(info("$", "webName", "SHENYU"), info("$.data", "version", "2.6.0")),
+                Collections.singletonList(info("$.data", "name", "realName")),
+                Arrays.asList("$.age", "$['data']['secret']"));
+        assertTrue(rewriter.isSupported());
+        assertFalse(rewriter.isEmpty());
+        String json = "{\"age\":18,\"data\":{\"name\":\"shenyu\",\"secret\":{\"key\":[1,2]},\"price\":1.10},\"list\":[{\"name\":\"a\"}]}";
+        assertEquals("{\"data\":{\"realName\":\"shenyu\",\"price\":1.10,\"version\":\"2.6.0\"},\"list\":[{\"name\":\"a\"}],\"webName\":\"SHENYU\"}",
+                new String(rewriter.rewrite(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void rewriteExistingKeyTest() {
+        JsonRewriter rewriter = JsonRewriter.compile(Collections.singletonList(info("$", "name", "new")), Collections.singletonList(info("$", "name", "realName")), null);
+        assertEquals("{\"id\":1,\"realName\":\"new\"}", new String(rewriter.rewrite("{\"name\":\"old\",\"id\":1}".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void rewriteChunksTest() {
+        JsonRewriter rewriter = JsonRewriter.compile(Collections.singletonList(info("$", "webName", "SHENYU")), null, Collections.singletonList("$.age"));
+        byte[] json = "{\"name\":\"shenyu\",\"age\":{\"value\":18},\"tags\":[\"gateway\",\"api\"]}".getBytes(StandardCharsets.UTF_8);
+        Flux<DataBuffer> body = Flux.range(0, json.length).map(i -> FACTORY.wrap(new byte[]{json[i]}));
+        StepVerifier.create(DataBufferUtils.join(rewriter.rewrite(body, FACTORY)).map(buffer -> buffer.toString(StandardCharsets.UTF_8)))
+                .expectNext("{\"name\":\"shenyu\",\"tags\":[\"gateway\",\"api\"],\"webName\":\"SHENYU\"}")
+                .verifyComplete();
+    }
+
+    @Test
+    public void rewriteInvalidTest() {
+        JsonRewriter rewriter = JsonRewriter.compile(null, null, Collections.singletonList("$.age"));
+        Flux<DataBuffer> body = Flux.just(FACTORY.wrap("{\"age\":".getBytes(StandardCharsets.UTF_8)));
+        StepVerifier.create(rewriter.rewrite(body, FACTORY).then()).expectError(ShenyuException.class).verify();
+    }
+
+    @Test
+    public void unsupportedTest() {
+        assertFalse(JsonRewriter.compile(null, null, Collections.singletonList("$.list[0].name")).isSupported());
+        assertFalse(JsonRewriter.compile(null, null, Collections.singletonList("$..name")).isSupported());
+        assertFalse(JsonRewriter.compile(Collections.singletonList(info("$.list[*]", "name", "a")), null, null).isSupported());
+        assertFalse(JsonRewriter.compile(null, null, Collections.singletonList("$")).isSupported());
+        assertTrue(JsonRewriter.compile(null, null, null).isEmpty());
+        assertThrows(IllegalStateException.class, () -> JsonRewriter.compile(null, null, Collections.singletonList("$..name")).rewrite(new byte[0]));
+    }
+
+    private static ParamMappingRuleHandle.ParamMapInfo info(final String path, final String key, final String value) {
+        ParamMappingRuleHandle.ParamMapInfo info = new ParamMappingRuleHandle.ParamMapInfo();
+        info.setPath(path);
+        info.setKey(key);
+        info.setValue(value);
+        return info;
+    }
+}
@@ -575,5 +575,52 @@ public class ShenyuRuleTrieTest {
         shenyuAntPathTrie.putNode("/http/a/{c}/{d}/n", ruleData, TrieCacheTypeEnum.RULE);
         Assertions.assertEquals("/aa/bb/**/n/b", shenyuAntPathTrie.match("/aa/bb/dd/uu/n/b", "2").getFullPath());
     }
-    
+
+    @Test
+    public void matchInPlaceTest() {
+        RuleData ruleData = RuleData.builder()
+                .id("1")
+                .pluginName("test")
+                .selectorId("3")
+                .name("test-plugin-rule")
+                .enabled(true)
+                .sort(1)
+                .build();
+        List<String> paths = Arrays.asList("/a/b/c/**", "/a/*/b/c", "/path1/{name}/{age}", "/aa/bb/cc/{name}/{age}/tt",
+                "/aa/bb/cc/*/*/ii", "/aa/bb/cc/**/hh", "/aa/bb/*/a", "/aa/bb/**/n/b", "/aa/bb/{path}/x/a", "/x/find*");
+        paths.forEach(path -> shenyuAntPathTrie.putNode(path, ruleData, TrieCacheTypeEnum.RULE));
+        List<String> requests = Arrays.asList("/a/b/c/d/e/f", "//a/m/b/c/", "/path1/111/222", "/aa/bb/cc/dd/ee/tt", "/aa/bb/cc/dd/ee/ii",
+                "/aa/bb/cc/dd/rr/mm/ee/hh", "/aa/bb/dd/a", "/aa/bb/dd/uu/n/b", "/aa/bb/dd/x/a", "/x/findById");
+        for (String request : requests) {
+            ShenyuTrieNode node = shenyuAntPathTrie.match(request, "3");
+            Assertions.assertNotNull(node, request);
+            Assertions.assertTrue(node.getEndOfPath(), request);
+        }
+        Assertions.assertNull(shenyuAntPathTrie.match("/a/m/b", "3"));
+        Assertions.assertNull(shenyuAntPathTrie.match("/unknown/path", "3"));
+        Assertions.assertNull(shenyuAntPathTrie.match("/", "3"));
+        Assertions.assertNull(shenyuAntPathTrie.match("/a/b/c", "unknown"));
+        shenyuAntPathTrie.remove("/x/find*", ruleData, TrieCacheTypeEnum.RULE);
+        Assertions.assertNull(shenyuAntPathTrie.match("/x/findById", "3"));
+    }
+
+    @Test
+    public void rootsNotEvictedTest() {
+        ShenyuTrie trie = new ShenyuTrie(2L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode());
+        for (int i = 0; i < 5; i++) {
+            RuleData ruleData = RuleData.builder().id(String.valueOf(i)).selectorId("selector" + i).pluginName("plugin" + i % 2).enabled(true).sort(i).build();
+            trie.putNode("/a/b", ruleData, TrieCacheTypeEnum.RULE);
+        }
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertNotNull(trie.match("/a/b", "selector" + i));
+        }
+        ShenyuTrieStats stats = trie.stats();
+        Assertions.assertEquals(2L, stats.getCacheSize());
+        Assertions.assertEquals(5, stats.getRootCount());
+        Assertions.assertEquals(15L, stats.getNodeCount());
+        Assertions.assertEquals("plugin1", stats.getRoots().get("selector1").getPluginName());
+        Assertions.assertEquals(3L, stats.getRoots().get("selector1").getNodeCount());
+        Assertions.assertEquals(stats.getEstimatedBytes(), stats.getEstimatedBytesByPlugin().values().stream().mapToLong(Long::longValue).sum());
+        Assertions.assertEquals(2, stats.getEstimatedBytesByPlugin().size());
+    }
 }
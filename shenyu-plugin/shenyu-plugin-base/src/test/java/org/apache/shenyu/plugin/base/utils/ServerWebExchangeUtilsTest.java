@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.apache.shenyu.plugin.base.support.RequestBodyCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link ServerWebExchangeUtils}.
+ */
+public final class ServerWebExchangeUtilsTest {
+
+    @Test
+    public void cacheRequestBodyTest() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, "localhost")
+                .contentType(MediaType.APPLICATION_JSON).body("{\"name\":\"shenyu\"}"));
+        ServerWebExchange cached = ServerWebExchangeUtils.cacheRequestBody(exchange).block();
+        RequestBodyCache cache = ServerWebExchangeUtils.getRequestBodyCache(Objects.requireNonNull(cached));
+        assertEquals("{\"name\":\"shenyu\"}", cache.getString());
+        assertEquals("shenyu", cache.getJson().get("name").asText());
+        assertSame(cached, ServerWebExchangeUtils.cacheRequestBody(cached).block());
+        assertSame(cache, ServerWebExchangeUtils.getRequestBodyCache(ServerWebExchangeUtils.cacheRequestBody(exchange).block()));
+        assertEquals("{\"name\":\"shenyu\"}", readBody(cached));
+        assertEquals("{\"name\":\"shenyu\"}", readBody(cached));
+    }
+
+    @Test
+    public void replaceRequestBodyTest() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, "localhost")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED).body("name=shenyu&tag=a%26b&tag=c"));
+        ServerWebExchange cached = ServerWebExchangeUtils.cacheRequestBody(exchange).block();
+        RequestBodyCache cache = ServerWebExchangeUtils.getRequestBodyCache(Objects.requireNonNull(cached));
+        assertEquals("shenyu", cache.getFormData().getFirst("name"));
+        assertEquals(2, cache.getFormData().get("tag").size());
+        assertEquals("a&b", cache.getFormData().getFirst("tag"));
+        ServerWebExchange replaced = ServerWebExchangeUtils.replaceRequestBody(cached, "name=apache".getBytes(StandardCharsets.UTF_8));
+        assertEquals("name=apache", readBody(replaced));
+        assertEquals(11, replaced.getRequest().getHeaders().getContentLength());
+        assertEquals("apache", ServerWebExchangeUtils.getRequestBodyCache(replaced).getFormData().getFirst("name"));
+    }
+
+    @Test
+    public void rewriteRequestBodyTest() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, "localhost")
+                .contentType(MediaType.TEXT_PLAIN).body("shenyu"));
+        ServerWebExchange unchanged = ServerWebExchangeUtils.rewriteRequestBody(exchange, null, Mono::just).block();
+        assertEquals("shenyu", readBody(Objects.requireNonNull(unchanged)));
+        ServerWebExchange rewritten = ServerWebExchangeUtils.rewriteRequestBody(unchanged, null, body -> Mono.just(body + "-gateway")).block();
+        assertEquals("shenyu-gateway", readBody(Objects.requireNonNull(rewritten)));
+        assertEquals(14, rewritten.getRequest().getHeaders().getContentLength());
+    }
+
+    @Test
+    public void emptyRequestBodyTest() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, "localhost"));
+        RequestBodyCache cache = ServerWebExchangeUtils.getRequestBodyCache(ServerWebExchangeUtils.cacheRequestBody(exchange).block());
+        assertTrue(cache.isEmpty());
+        assertEquals("", cache.getString());
+        assertNull(cache.getJson());
+        assertTrue(cache.getFormData().isEmpty());
+    }
+
+    @Test
+    public void invalidJsonRequestBodyTest() {
+        RequestBodyCache cache = new RequestBodyCache("{\"name\":".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        assertNull(cache.getJson());
+        assertNull(cache.getJson());
+        assertEquals("{\"name\":", cache.getString());
+    }
+
+    private static String readBody(final ServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8))
+                .defaultIfEmpty("")
+                .block();
+    }
+}
@@ -27,46 +27,73 @@ import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Sinks;
 import reactor.util.annotation.NonNull;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * CacheWritePlugin.
+ *
+ * <p>Concurrent misses of one key are coalesced, the first request goes to the upstream and caches the response,
+ * the others wait for it and are served from the cache. When the response is not cached they go to the upstream
+ * on their own, a batch at a time. With {@code staleSeconds} an expired response is still served
+ * while the first request after the expiry refreshes it.</p>
  */
 public class CachePlugin extends AbstractShenyuPlugin {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CachePlugin.class);
+
+    /**
+     * the waiters of a response which is not cached go to the upstream this many at a time.
+     */
+    private static final int RELEASE_BATCH_SIZE = 16;
+
+    /**
+     * the interval between two batches of waiters going to the upstream.
+     */
+    private static final Duration RELEASE_INTERVAL = Duration.ofMillis(10);
+
+    /**
+     * the data keys being fetched from the upstream, landed once the response is cached or dropped.
+     */
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
     @Override
     public Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                 final SelectorData selector, final RuleData rule) {
+        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
         ICache cache = CacheUtils.getCache();
-        if (Objects.nonNull(cache)) {
-            return cache.getData(CacheUtils.dataKey(exchange))
-                    .zipWith(cache.getData(CacheUtils.contentTypeKey(exchange)))
-                    .flatMap(data -> Mono.just(Optional.of(data)))
-                    .defaultIfEmpty(Optional.empty())
-                    .flatMap(dataFlg -> {
-                        if (dataFlg.isPresent()) {
-                            byte[] bytes = dataFlg.get().getT1();
-                            byte[] contentTypeBytes = dataFlg.get().getT2();
-                            cache.setContentType(exchange, contentTypeBytes);
-                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
-                                    .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
-                        }
-                        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-                        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
-                    });
+        if (Objects.isNull(cache)) {
+            return proxy(exchange, chain, cacheRuleHandle, null);
         }
-        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+        String dataKey = CacheUtils.dataKey(exchange);
+        return lookup(cache, dataKey, cacheRuleHandle).flatMap(cached -> {
+            if (!cached.isPresent()) {
+                return fetch(exchange, chain, cache, cacheRuleHandle, dataKey, null);
+            }
+            if (cached.get().isStale()) {
+                return fetch(exchange, chain, cache, cacheRuleHandle, dataKey, cached.get());
+            }
+            return writeCached(exchange, cache, cached.get());
+        });
     }
 
     @Override
@@ -83,37 +110,282 @@ public class CachePlugin extends AbstractShenyuPlugin {
         return CachePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
     }
 
+    private Mono<Optional<CachedResponse>> lookup(final ICache cache, final String dataKey, final CacheRuleHandle cacheRuleHandle) {
+        Mono<Boolean> fresh = staleSeconds(cacheRuleHandle) > 0 ? cache.isExist(CacheUtils.freshKey(dataKey)) : Mono.just(Boolean.TRUE);
+        return Mono.zip(cache.getData(dataKey), cache.getData(CacheUtils.contentTypeKey(dataKey)), fresh)
+                .map(data -> Optional.of(new CachedResponse(data.getT1(), data.getT2(), !data.getT3())))
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    /**
+     * Go to the upstream unless a request for the same key already does.
+     * Then a stale response is served right away, a miss waits for that request and reads the cache again,
+     * or goes to the upstream in the next batch when that response is not cached.
+     */
+    private Mono<Void> fetch(final ServerWebExchange exchange, final ShenyuPluginChain chain, final ICache cache,
+                             final CacheRuleHandle cacheRuleHandle, final String dataKey, final CachedResponse stale) {
+        Flight flight = new Flight(dataKey);
+        Flight inFlight = flights.putIfAbsent(dataKey, flight);
+        if (Objects.nonNull(inFlight)) {
+            if (Objects.nonNull(stale)) {
+                return writeCached(exchange, cache, stale);
+            }
+            return inFlight.await().flatMap(cached -> {
+                if (!cached) {
+                    return release(inFlight.nextRelease(), proxy(exchange, chain, cacheRuleHandle, null));
+                }
+                return lookup(cache, dataKey, cacheRuleHandle).flatMap(response -> response.map(value -> writeCached(exchange, cache, value))
+                        .orElseGet(() -> proxy(exchange, chain, cacheRuleHandle, null)));
+            });
+        }
+        // a response which is stored lands the flight once it is cached
+        return proxy(exchange, chain, cacheRuleHandle, flight).doFinally(signal -> {
+            if (!flight.isStoring()) {
+                flight.land(false);
+            }
+        });
+    }
+
+    private Mono<Void> proxy(final ServerWebExchange exchange, final ShenyuPluginChain chain, final CacheRuleHandle cacheRuleHandle, final Flight flight) {
+        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle, flight)).build());
+    }
+
+    private static Mono<Void> release(final Duration delay, final Mono<Void> upstream) {
+        return delay.isZero() ? upstream : Mono.delay(delay).then(upstream);
+    }
+
+    private Mono<Void> writeCached(final ServerWebExchange exchange, final ICache cache, final CachedResponse cached) {
+        cache.setContentType(exchange, cached.getContentType());
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(cached.getBody()))
+                .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
+    }
+
+    private static long staleSeconds(final CacheRuleHandle cacheRuleHandle) {
+        return Optional.ofNullable(cacheRuleHandle.getStaleSeconds()).orElse(0L);
+    }
+
     static class CacheHttpResponse extends ServerHttpResponseDecorator {
 
         private final ServerWebExchange exchange;
 
         private final CacheRuleHandle cacheRuleHandle;
 
+        private final Flight flight;
+
         CacheHttpResponse(final ServerWebExchange exchange,
                           final CacheRuleHandle cacheRuleHandle) {
+            this(exchange, cacheRuleHandle, null);
+        }
+
+        CacheHttpResponse(final ServerWebExchange exchange,
+                          final CacheRuleHandle cacheRuleHandle,
+                          final Flight flight) {
             super(exchange.getResponse());
             this.exchange = exchange;
             this.cacheRuleHandle = cacheRuleHandle;
+            this.flight = flight;
         }
 
         @Override
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
-            return super.writeWith(cacheResponse(body));
+            final ICache cache = CacheUtils.getCache();
+            if (Objects.isNull(cache) || !isSuccessful()) {
+                return super.writeWith(body);
+            }
+            final long maxBodySize = Optional.ofNullable(cacheRuleHandle.getMaxBodySize()).orElse(Long.MAX_VALUE);
+            final BodyCapture capture = new BodyCapture(bufferFactory(), maxBodySize);
+            return super.writeWith(Flux.from(body).doOnNext(capture::append))
+                    .doOnSuccess(v -> storeLater(cache, capture.take()))
+                    .doFinally(signal -> capture.release());
         }
 
-        @NonNull
-        private Flux<? extends DataBuffer> cacheResponse(final Publisher<? extends DataBuffer> body) {
-            final ICache cache = CacheUtils.getCache();
-            if (Objects.nonNull(cache)) {
-                final MediaType contentType = this.getHeaders().getContentType();
-                return Flux.from(body).doOnNext(buffer -> {
-                    cache.cacheData(CacheUtils.dataKey(this.exchange), buffer.asByteBuffer().array(),
-                            this.cacheRuleHandle.getTimeoutSeconds()).subscribeOn(Schedulers.boundedElastic()).subscribe();
-                    cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, this.cacheRuleHandle.getTimeoutSeconds());
-                });
+        private boolean isSuccessful() {
+            HttpStatus status = getStatusCode();
+            return Objects.isNull(status) || status.is2xxSuccessful();
+        }
+
+        /**
+         * Store the body once the response is written, the response does not wait for the cache.
+         */
+        private void storeLater(final ICache cache, final byte[] body) {
+            if (Objects.nonNull(flight)) {
+                flight.storing();
             }
-            return Flux.from(body);
+            store(cache, body).subscribe(stored -> {
+                if (Objects.nonNull(flight)) {
+                    flight.land(stored);
+                }
+            });
+        }
+
+        /**
+         * Store the whole body, the content type first, so that a cached body always has its content type.
+         */
+        private Mono<Boolean> store(final ICache cache, final byte[] body) {
+            if (Objects.isNull(body)) {
+                return Mono.just(Boolean.FALSE);
+            }
+            final String dataKey = CacheUtils.dataKey(this.exchange);
+            final long timeoutSeconds = this.cacheRuleHandle.getTimeoutSeconds();
+            final long staleSeconds = staleSeconds(this.cacheRuleHandle);
+            final MediaType contentType = this.getHeaders().getContentType();
+            final byte[] contentTypeBytes = Objects.isNull(contentType) ? new byte[0] : cache.mediaTypeToBytes(contentType);
+            Mono<Boolean> stored = cache.cacheData(CacheUtils.contentTypeKey(dataKey), contentTypeBytes, timeoutSeconds + staleSeconds)
+                    .then(Mono.defer(() -> cache.cacheData(dataKey, body, timeoutSeconds + staleSeconds)));
+            if (staleSeconds > 0) {
+                stored = stored.then(Mono.defer(() -> cache.cacheData(CacheUtils.freshKey(dataKey), new byte[0], timeoutSeconds)));
+            }
+            return stored.thenReturn(Boolean.TRUE).onErrorResume(e -> {
+                LOG.error("cache the response of {} failed", this.exchange.getRequest().getURI(), e);
+                return Mono.just(Boolean.FALSE);
+            });
+        }
+    }
+
+    /**
+     * Copies the chunks of a response body into one buffer of the response's buffer factory, pooled on netty.
+     * The capture is dropped once the body grows over the max size.
+     */
+    static final class BodyCapture {
+
+        private final DataBufferFactory bufferFactory;
+
+        private final long maxBodySize;
+
+        private DataBuffer captured;
+
+        private boolean overflow;
+
+        BodyCapture(final DataBufferFactory bufferFactory, final long maxBodySize) {
+            this.bufferFactory = bufferFactory;
+            this.maxBodySize = maxBodySize;
+        }
+
+        /**
+         * Append a chunk, the chunk itself is left untouched for the downstream write.
+         *
+         * @param buffer the chunk
+         */
+        synchronized void append(final DataBuffer buffer) {
+            if (overflow) {
+                return;
+            }
+            final int length = buffer.readableByteCount();
+            final long size = Objects.isNull(captured) ? 0 : captured.readableByteCount();
+            if (size + length > maxBodySize) {
+                overflow = true;
+                release();
+                return;
+            }
+            if (Objects.isNull(captured)) {
+                captured = bufferFactory.allocateBuffer(length);
+            }
+            captured.write(buffer.asByteBuffer(buffer.readPosition(), length));
+        }
+
+        /**
+         * Take the captured body.
+         *
+         * @return the body, null when it was too large
+         */
+        synchronized byte[] take() {
+            if (overflow) {
+                return null;
+            }
+            if (Objects.isNull(captured)) {
+                return new byte[0];
+            }
+            final byte[] body = new byte[captured.readableByteCount()];
+            captured.read(body);
+            release();
+            return body;
+        }
+
+        /**
+         * Release the captured buffer.
+         */
+        synchronized void release() {
+            if (Objects.nonNull(captured)) {
+                DataBufferUtils.release(captured);
+                captured = null;
+            }
+        }
+    }
+
+    /**
+     * A fetch of one data key from the upstream, its waiters are told whether the response was cached.
+     */
+    private final class Flight {
+
+        private final String dataKey;
+
+        private final Sinks.One<Boolean> cached = Sinks.one();
+
+        private final AtomicBoolean storing = new AtomicBoolean();
+
+        private final AtomicInteger released = new AtomicInteger();
+
+        Flight(final String dataKey) {
+            this.dataKey = dataKey;
+        }
+
+        Mono<Boolean> await() {
+            return cached.asMono();
+        }
+
+        void storing() {
+            storing.set(true);
+        }
+
+        boolean isStoring() {
+            return storing.get();
+        }
+
+        /**
+         * Land the flight, the next miss of the key starts a new one.
+         *
+         * @param stored whether the response was cached
+         */
+        void land(final boolean stored) {
+            flights.remove(dataKey, this);
+            cached.tryEmitValue(stored);
+        }
+
+        /**
+         * The delay of the next waiter going to the upstream on its own.
+         *
+         * @return the delay
+         */
+        Duration nextRelease() {
+            return RELEASE_INTERVAL.multipliedBy(released.getAndIncrement() / RELEASE_BATCH_SIZE);
+        }
+    }
+
+    private static final class CachedResponse {
+
+        private final byte[] body;
+
+        private final byte[] contentType;
+
+        private final boolean stale;
+
+        CachedResponse(final byte[] body, final byte[] contentType, final boolean stale) {
+            this.body = body;
+            this.contentType = contentType;
+            this.stale = stale;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        byte[] getContentType() {
+            return contentType;
+        }
+
+        boolean isStale() {
+            return stale;
         }
     }
 }
@@ -31,6 +31,8 @@ public final class CacheUtils {
 
     private static final String CONTENT_TYPEKEY_SUFFIX = "contentType";
 
+    private static final String FRESH_KEY_SUFFIX = "fresh";
+
     private static final String KEY_JOIN_RULE = "-";
 
     private CacheUtils() {
@@ -55,7 +57,27 @@ public final class CacheUtils {
      * @return the content type key
      */
     public static String contentTypeKey(final ServerWebExchange exchange) {
-        return String.join(KEY_JOIN_RULE, dataKey(exchange), CONTENT_TYPEKEY_SUFFIX);
+        return contentTypeKey(dataKey(exchange));
+    }
+
+    /**
+     * the cache data content type key.
+     *
+     * @param dataKey the data key
+     * @return the content type key
+     */
+    public static String contentTypeKey(final String dataKey) {
+        return String.join(KEY_JOIN_RULE, dataKey, CONTENT_TYPEKEY_SUFFIX);
+    }
+
+    /**
+     * the key marking the cache data fresh, the data is stale once it expires.
+     *
+     * @param dataKey the data key
+     * @return the fresh key
+     */
+    public static String freshKey(final String dataKey) {
+        return String.join(KEY_JOIN_RULE, dataKey, FRESH_KEY_SUFFIX);
     }
 
     /**
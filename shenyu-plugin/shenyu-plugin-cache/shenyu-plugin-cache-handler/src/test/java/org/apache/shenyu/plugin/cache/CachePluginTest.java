@@ -29,17 +29,23 @@ import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -104,4 +110,100 @@ public class CachePluginTest {
         StepVerifier.create(result3).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void cacheWholeBodyTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/chunks").build());
+        final CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, new CacheRuleHandle());
+        cacheHttpResponse.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+        StepVerifier.create(cacheHttpResponse.writeWith(Flux.just(buffer("chunk1-"), buffer("chunk2")))).verifyComplete();
+        Assertions.assertEquals("chunk1-chunk2", new String(memoryCache.getData(CacheUtils.dataKey(exchange)).block(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(MediaType.TEXT_PLAIN_VALUE, new String(memoryCache.getData(CacheUtils.contentTypeKey(exchange)).block(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void skipLargeBodyTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/large").build());
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setMaxBodySize(8L);
+        final CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, cacheRuleHandle);
+        StepVerifier.create(cacheHttpResponse.writeWith(Flux.just(buffer("chunk1-"), buffer("chunk2")))).verifyComplete();
+        Assertions.assertEquals(Boolean.FALSE, memoryCache.isExist(CacheUtils.dataKey(exchange)).block());
+    }
+
+    @Test
+    public void coalesceMissesTest() {
+        Singleton.INST.single(ICache.class, new MemoryCache());
+        final CachePlugin cachePlugin = new CachePlugin();
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain shenyuPluginChain = upstream(upstreamCalls, "body");
+        final RuleData ruleData = new RuleData();
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), new CacheRuleHandle());
+        ServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/coalesce").build());
+        ServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/coalesce").build());
+        Mono.when(cachePlugin.doExecute(first, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(second, shenyuPluginChain, null, ruleData)).block(Duration.ofSeconds(5));
+        Assertions.assertEquals(1, upstreamCalls.get());
+        Assertions.assertEquals("body", ((MockServerHttpResponse) second.getResponse()).getBodyAsString().block());
+    }
+
+    @Test
+    public void notCachedReleasesWaitersTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final CachePlugin cachePlugin = new CachePlugin();
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain shenyuPluginChain = upstream(upstreamCalls, "large body");
+        final RuleData ruleData = new RuleData();
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setMaxBodySize(4L);
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        ServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/uncached").build());
+        ServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/uncached").build());
+        Mono.when(cachePlugin.doExecute(first, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(second, shenyuPluginChain, null, ruleData)).block(Duration.ofSeconds(5));
+        Assertions.assertEquals(2, upstreamCalls.get());
+        Assertions.assertEquals("large body", ((MockServerHttpResponse) second.getResponse()).getBodyAsString().block());
+        Assertions.assertEquals(Boolean.FALSE, memoryCache.isExist(CacheUtils.dataKey(second)).block());
+    }
+
+    @Test
+    public void staleWhileRevalidateTest() {
+        Singleton.INST.single(ICache.class, new MemoryCache());
+        final CachePlugin cachePlugin = new CachePlugin();
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain shenyuPluginChain = upstream(upstreamCalls, "body");
+        final RuleData ruleData = new RuleData();
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setTimeoutSeconds(0L);
+        cacheRuleHandle.setStaleSeconds(60L);
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        cachePlugin.doExecute(MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build()), shenyuPluginChain, null, ruleData)
+                .block(Duration.ofSeconds(5));
+        Assertions.assertEquals(1, upstreamCalls.get());
+        ServerWebExchange revalidate = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build());
+        ServerWebExchange stale = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build());
+        Mono.when(cachePlugin.doExecute(revalidate, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(stale, shenyuPluginChain, null, ruleData)).block(Duration.ofSeconds(5));
+        Assertions.assertEquals(2, upstreamCalls.get());
+        Assertions.assertEquals("body", ((MockServerHttpResponse) stale.getResponse()).getBodyAsString().block());
+    }
+
+    private static ShenyuPluginChain upstream(final AtomicInteger upstreamCalls, final String body) {
+        final ShenyuPluginChain shenyuPluginChain = mock(ShenyuPluginChain.class);
+        Mockito.when(shenyuPluginChain.execute(any())).thenAnswer(invocation -> {
+            final ServerWebExchange exchange = invocation.getArgument(0);
+            upstreamCalls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(200))
+                    .then(Mono.defer(() -> exchange.getResponse().writeWith(Mono.just(buffer(body)))));
+        });
+        return shenyuPluginChain;
+    }
+
+    private static DataBuffer buffer(final String data) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(data.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -17,26 +17,58 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shenyu.plugin.cache.ICache;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.springframework.http.MediaType;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.Map;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * MemoryCache.
+ *
+ * <p>One caffeine cache bounded by the bytes it holds, every entry expires after its own timeout.
+ * The lookups are plain map reads, they run on the calling thread.</p>
  */
 public final class MemoryCache implements ICache {
 
-    private final Map<String, Cache<String, byte[]>> mainCache;
+    /**
+     * the bytes an entry costs on top of its key and data.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final String CACHE_TYPE = "memory";
+
+    private static final String[] CACHE_TYPE_LABEL = {CACHE_TYPE};
+
+    private final Cache<String, CacheEntry> mainCache;
 
     public MemoryCache() {
-        this.mainCache = new ConcurrentHashMap<>();
+        this(MemoryConfig.DEFAULT_MAX_MEMORY);
+    }
+
+    /**
+     * Instantiates a new memory cache.
+     *
+     * @param maxMemory the max bytes of the cached data
+     */
+    public MemoryCache(final long maxMemory) {
+        this.mainCache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory)
+                .weigher((String key, CacheEntry entry) -> weigh(key, entry))
+                .expireAfter(new CacheEntryExpiry())
+                .evictionListener((String key, CacheEntry entry, RemovalCause cause) -> MetricsReporter.counterIncrement(LabelNames.CACHE_EVICTION_TOTAL,
+                        new String[]{CACHE_TYPE, cause.name().toLowerCase(Locale.ROOT)}))
+                .recordStats()
+                .build();
     }
 
     /**
@@ -49,10 +81,8 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> cacheData(final String key, final byte[] bytes, final long timeoutSeconds) {
-        final Cache<String, byte[]> cache = CacheBuilder.newBuilder().expireAfterWrite(timeoutSeconds, TimeUnit.SECONDS).build();
-        cache.put(key, bytes);
-        this.mainCache.put(key, cache);
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        this.mainCache.put(key, new CacheEntry(bytes, TimeUnit.SECONDS.toNanos(timeoutSeconds)));
+        return Mono.just(Boolean.TRUE);
     }
 
     /**
@@ -63,13 +93,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> isExist(final String key) {
-        final Cache<String, byte[]> cache = this.mainCache.get(key);
-        if (Objects.isNull(cache) || !cache.asMap().containsKey(key)) {
-            // remove from main cache
-            this.mainCache.remove(key);
-            return Mono.fromCallable(() -> Boolean.FALSE).subscribeOn(Schedulers.boundedElastic());
-        }
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return Mono.fromSupplier(() -> this.mainCache.asMap().containsKey(key));
     }
 
     /**
@@ -80,19 +104,94 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<byte[]> getData(final String key) {
-        return isExist(key).mapNotNull(exist -> {
-            if (exist) {
-                return this.mainCache.get(key).asMap().get(key);
+        return Mono.fromSupplier(() -> {
+            CacheEntry entry = this.mainCache.getIfPresent(key);
+            if (Objects.isNull(entry)) {
+                MetricsReporter.counterIncrement(LabelNames.CACHE_MISS_TOTAL, CACHE_TYPE_LABEL);
+                return null;
             }
-            return null;
+            MetricsReporter.counterIncrement(LabelNames.CACHE_HIT_TOTAL, CACHE_TYPE_LABEL);
+            return entry.bytes;
         });
     }
 
+    /**
+     * cache the content type, the memory cache stores it on the calling thread.
+     *
+     * @param key the key
+     * @param mediaType the media type
+     * @param timeoutSeconds value valid time
+     */
+    @Override
+    public void cacheContentType(final String key, final MediaType mediaType, final long timeoutSeconds) {
+        cacheData(key, mediaTypeToBytes(mediaType), timeoutSeconds).subscribe();
+    }
+
+    /**
+     * Get the hit, miss and eviction statistics.
+     *
+     * @return the statistics
+     */
+    public CacheStats stats() {
+        return this.mainCache.stats();
+    }
+
+    /**
+     * Get the bytes held by the cache, as weighed against the max memory.
+     *
+     * @return the weighted size
+     */
+    public long weightedSize() {
+        return this.mainCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * Run the pending maintenance, e.g. the evictions.
+     */
+    public void cleanUp() {
+        this.mainCache.cleanUp();
+    }
+
     /**
      * close the cache.
      */
     @Override
     public void close() {
-        this.mainCache.clear();
+        this.mainCache.invalidateAll();
+    }
+
+    private static int weigh(final String key, final CacheEntry entry) {
+        long weight = (long) key.length() * Character.BYTES + entry.bytes.length + ENTRY_OVERHEAD;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static final class CacheEntry {
+
+        private final byte[] bytes;
+
+        private final long ttlNanos;
+
+        CacheEntry(final byte[] bytes, final long ttlNanos) {
+            this.bytes = bytes;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    private static final class CacheEntryExpiry implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CacheEntry entry, final long currentTime) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CacheEntry entry, final long currentTime, final long currentDuration) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CacheEntry entry, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -17,10 +17,14 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.cache.ICache;
 import org.apache.shenyu.plugin.cache.ICacheBuilder;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * MemoryCacheBuilder.
  */
@@ -35,6 +39,8 @@ public class MemoryCacheBuilder implements ICacheBuilder {
      */
     @Override
     public ICache builderCache(final String cacheConfig) {
-        return new MemoryCache();
+        MemoryConfig memoryConfig = Optional.ofNullable(GsonUtils.getInstance().fromJson(cacheConfig, MemoryConfig.class)).orElseGet(MemoryConfig::new);
+        long maxMemory = Objects.isNull(memoryConfig.getMaxMemory()) ? MemoryConfig.DEFAULT_MAX_MEMORY : memoryConfig.getMaxMemory();
+        return new MemoryCache(maxMemory);
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.memory;
+
+/**
+ * The configuration for memory cache.
+ */
+public class MemoryConfig {
+
+    /**
+     * the default max memory, 256 megabytes.
+     */
+    public static final long DEFAULT_MAX_MEMORY = 256L * 1024 * 1024;
+
+    /**
+     * the max bytes of the cached data, the least recently used data is evicted over it.
+     */
+    private Long maxMemory = DEFAULT_MAX_MEMORY;
+
+    /**
+     * Get max memory.
+     *
+     * @return the max memory in bytes
+     */
+    public Long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Set max memory.
+     *
+     * @param maxMemory the max memory in bytes
+     */
+    public void setMaxMemory(final Long maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+}
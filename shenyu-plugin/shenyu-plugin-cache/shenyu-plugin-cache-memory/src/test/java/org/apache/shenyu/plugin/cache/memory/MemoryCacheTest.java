@@ -17,29 +17,58 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import org.junit.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * MemoryCacheTest.
  */
-@ExtendWith(MockitoExtension.class)
 public class MemoryCacheTest {
 
     @Test
     public void testMemoryCache() {
         final MemoryCache memoryCache = new MemoryCache();
         final String key = "data";
-        memoryCache.isExist(key).subscribe(v -> assertEquals(Boolean.FALSE, v));
-        memoryCache.cacheData(key, "data".getBytes(StandardCharsets.UTF_8), 10)
-                .subscribe(v -> assertEquals(Boolean.TRUE, v));
-        memoryCache.isExist(key).subscribe(v -> assertEquals(Boolean.TRUE, v));
-        memoryCache.getData(key).subscribe(v -> assertEquals("data", new String(v, StandardCharsets.UTF_8)));
+        assertEquals(Boolean.FALSE, memoryCache.isExist(key).block());
+        assertNull(memoryCache.getData(key).block());
+        assertEquals(Boolean.TRUE, memoryCache.cacheData(key, "data".getBytes(StandardCharsets.UTF_8), 10).block());
+        assertEquals(Boolean.TRUE, memoryCache.isExist(key).block());
+        assertEquals("data", new String(memoryCache.getData(key).block(), StandardCharsets.UTF_8));
+        assertEquals(1, memoryCache.stats().hitCount());
+        assertEquals(1, memoryCache.stats().missCount());
     }
 
+    @Test
+    public void testExpireAfterTimeout() {
+        final MemoryCache memoryCache = new MemoryCache();
+        memoryCache.cacheData("expired", new byte[1], 0).block();
+        memoryCache.cacheData("alive", new byte[1], 60).block();
+        assertFalse(memoryCache.isExist("expired").block());
+        assertTrue(memoryCache.isExist("alive").block());
+    }
+
+    @Test
+    public void testEvictOverMaxMemory() {
+        final MemoryCache memoryCache = new MemoryCache(10 * 1024);
+        for (int i = 0; i < 100; i++) {
+            memoryCache.cacheData("key" + i, new byte[1024], 60).block();
+        }
+        memoryCache.cleanUp();
+        assertTrue(memoryCache.weightedSize() <= 10 * 1024);
+        assertTrue(memoryCache.stats().evictionCount() > 0);
+    }
+
+    @Test
+    public void testClose() {
+        final MemoryCache memoryCache = new MemoryCache();
+        memoryCache.cacheData("data", new byte[1], 60).block();
+        memoryCache.close();
+        assertFalse(memoryCache.isExist("data").block());
+    }
 }
@@ -80,7 +80,7 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
                     }
                     return chain.execute(exchange).doFinally(signalType -> {
                         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
-                        rateLimiterAlgorithm.callback(rateLimiterAlgorithm.getScript(), response.getKeys(), null);
+                        redisRateLimiter.callback(rateLimiterAlgorithm, response.getKeys());
                     });
                 });
     }
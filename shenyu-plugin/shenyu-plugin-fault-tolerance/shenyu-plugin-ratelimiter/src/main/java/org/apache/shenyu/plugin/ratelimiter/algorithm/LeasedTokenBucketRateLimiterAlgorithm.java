@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.algorithm;
+
+import org.apache.shenyu.common.enums.RateLimitEnum;
+import org.apache.shenyu.spi.Join;
+
+/**
+ * The type Leased token bucket rate limiter algorithm.
+ * The gateway leases blocks of tokens from the redis token bucket and serves the requests from the leased tokens,
+ * see {@link org.apache.shenyu.plugin.ratelimiter.executor.LeasedRateLimiter}.
+ */
+@Join
+public class LeasedTokenBucketRateLimiterAlgorithm extends AbstractRateLimiterAlgorithm {
+
+    public LeasedTokenBucketRateLimiterAlgorithm() {
+        super(RateLimitEnum.LEASED_TOKEN_BUCKET.getScriptName());
+    }
+
+    @Override
+    protected String getKeyName() {
+        return RateLimitEnum.LEASED_TOKEN_BUCKET.getKeyName();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the requests from tokens leased from the redis token bucket, so only the leases go over the network.
+ * A lease is started in the background once the local tokens drop to half a lease, only the first lease of a key is waited for.
+ * A smaller lease size keeps the limit closer to the redis bucket, a larger one saves redis round trips.
+ * The leased tokens are lost when the key is evicted, so the gateways together never exceed the redis bucket.
+ */
+public class LeasedRateLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LeasedRateLimiter.class);
+
+    private static final long MAXIMUM_KEYS = 1 << 16;
+
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    /**
+     * the default lease is the tokens replenished in 100 milliseconds.
+     */
+    private static final double DEFAULT_LEASE_SECONDS = 0.1D;
+
+    private final Cache<String, LeasedBucket> buckets = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_KEYS)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    /**
+     * Acquire the requested tokens from the local bucket of the id.
+     *
+     * @param id the rule id and the resolved key
+     * @param limiterHandle the limiter handle
+     * @param algorithm the leased token bucket algorithm
+     * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
+     */
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle, final RateLimiterAlgorithm<?> algorithm) {
+        List<String> keys = algorithm.getKeys(id);
+        LeasedBucket bucket = buckets.get(id, key -> new LeasedBucket());
+        long permits = Math.max(1L, (long) Math.ceil(limiterHandle.getRequestCount()));
+        long leaseSize = leaseSize(limiterHandle, permits);
+        long remaining = bucket.tryAcquire(permits);
+        if (remaining >= 0) {
+            if (remaining <= leaseSize >> 1) {
+                lease(bucket, keys, limiterHandle, leaseSize, algorithm);
+            }
+            return Mono.just(new RateLimiterResponse(true, remaining, keys));
+        }
+        boolean leased = bucket.isLeased();
+        Mono<Void> lease = lease(bucket, keys, limiterHandle, leaseSize, algorithm);
+        if (leased) {
+            return Mono.just(new RateLimiterResponse(false, 0L, keys));
+        }
+        return lease.then(Mono.fromSupplier(() -> {
+            long left = bucket.tryAcquire(permits);
+            return new RateLimiterResponse(left >= 0, Math.max(0L, left), keys);
+        }));
+    }
+
+    private static long leaseSize(final RateLimiterHandle limiterHandle, final long permits) {
+        double leaseSize = limiterHandle.getLeaseSize() > 0 ? limiterHandle.getLeaseSize() : limiterHandle.getReplenishRate() * DEFAULT_LEASE_SECONDS;
+        long maxLeaseSize = Math.max(permits, (long) limiterHandle.getBurstCapacity());
+        return Math.min(maxLeaseSize, Math.max(permits, (long) Math.ceil(leaseSize)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Void> lease(final LeasedBucket bucket, final List<String> keys, final RateLimiterHandle limiterHandle,
+                             final long leaseSize, final RateLimiterAlgorithm<?> algorithm) {
+        Mono<Void> pending = bucket.pending.get();
+        if (Objects.nonNull(pending)) {
+            return pending;
+        }
+        if (System.nanoTime() - bucket.nextLeaseNanos < 0) {
+            return Mono.empty();
+        }
+        double replenishRate = limiterHandle.getReplenishRate();
+        Mono<Void> lease = Mono.defer(() -> {
+            List<String> scriptArgs = Arrays.asList(String.valueOf(replenishRate), String.valueOf(limiterHandle.getBurstCapacity()),
+                    String.valueOf(System.currentTimeMillis() / 1000D), String.valueOf(leaseSize));
+            Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(algorithm.getScript(), keys, scriptArgs);
+            return resultFlux.next();
+        }).map(results -> results.get(0)).onErrorResume(throwable -> {
+            // redis is unavailable, keep limiting at the replenish rate of this gateway
+            LOG.error("Error occurred while leasing tokens by LeasedRateLimiter:{}", throwable.getMessage());
+            bucket.delayNextLease(leaseSize, replenishRate);
+            return Mono.just(leaseSize);
+        }).doOnNext(granted -> {
+            if (granted < leaseSize) {
+                bucket.delayNextLease(leaseSize - granted, replenishRate);
+            }
+            bucket.release(granted);
+        }).then().doFinally(signalType -> bucket.pending.set(null)).cache();
+        if (!bucket.pending.compareAndSet(null, lease)) {
+            Mono<Void> current = bucket.pending.get();
+            return Objects.nonNull(current) ? current : Mono.empty();
+        }
+        lease.subscribe();
+        return lease;
+    }
+
+    /**
+     * The local tokens leased for a key.
+     */
+    private static final class LeasedBucket {
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        private final AtomicReference<Mono<Void>> pending = new AtomicReference<>();
+
+        private volatile boolean leased;
+
+        private volatile long nextLeaseNanos = System.nanoTime();
+
+        /**
+         * Take the permits.
+         *
+         * @param permits the permits
+         * @return the tokens left, -1 when the tokens are not enough
+         */
+        long tryAcquire(final long permits) {
+            for (;;) {
+                long current = tokens.get();
+                if (current < permits) {
+                    return -1L;
+                }
+                if (tokens.compareAndSet(current, current - permits)) {
+                    return current - permits;
+                }
+            }
+        }
+
+        void release(final long granted) {
+            tokens.addAndGet(granted);
+            leased = true;
+        }
+
+        boolean isLeased() {
+            return leased;
+        }
+
+        /**
+         * Wait for the redis bucket to replenish the missing tokens before the next lease.
+         *
+         * @param missing the tokens missing from the lease
+         * @param replenishRate the replenish rate per second
+         */
+        void delayNextLease(final long missing, final double replenishRate) {
+            nextLeaseNanos = System.nanoTime() + (long) (TimeUnit.SECONDS.toNanos(1) * missing / replenishRate);
+        }
+    }
+}
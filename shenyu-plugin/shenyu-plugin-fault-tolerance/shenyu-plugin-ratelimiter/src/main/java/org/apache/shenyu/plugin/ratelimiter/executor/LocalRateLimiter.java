@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.ConcurrentRateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.LeakyBucketRateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.SlidingWindowCounterRateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.SlidingWindowRateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limits the requests of this gateway only, the state of each key is kept in memory and updated by compare and set, without redis.
+ * The sliding window is approximated by the weighted counters of the current and the previous window, as the sliding window counter algorithm does,
+ * the token bucket serves the leased token bucket and the algorithms without a local implementation.
+ */
+public class LocalRateLimiter {
+
+    /**
+     * the plugin redis mode that limits the requests locally.
+     */
+    public static final String LOCAL_MODE = "local";
+
+    private static final long MAXIMUM_KEYS = 1 << 16;
+
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Cache<String, LocalLimiter> limiters = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_KEYS)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    /**
+     * Verify the request by the algorithm locally.
+     *
+     * @param id the rule id and the resolved key
+     * @param limiterHandle the limiter handle
+     * @param rateLimiterAlgorithm the algorithm
+     * @return {@code Mono<RateLimiterResponse>} the response, its keys release the request
+     */
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle, final RateLimiterAlgorithm<?> rateLimiterAlgorithm) {
+        List<String> keys = Collections.singletonList(limiterHandle.getAlgorithmName() + ".{" + id + "}");
+        LocalLimiter limiter = limiters.get(keys.get(0), key -> newLimiter(rateLimiterAlgorithm));
+        return Mono.just(limiter.acquire(limiterHandle, System.nanoTime(), keys));
+    }
+
+    /**
+     * Release the request of the keys, only the concurrent algorithm holds the requests.
+     *
+     * @param keys the keys of the response
+     */
+    public void release(final List<String> keys) {
+        if (Objects.isNull(keys) || keys.isEmpty()) {
+            return;
+        }
+        LocalLimiter limiter = limiters.getIfPresent(keys.get(0));
+        if (Objects.nonNull(limiter)) {
+            limiter.release();
+        }
+    }
+
+    private static LocalLimiter newLimiter(final RateLimiterAlgorithm<?> rateLimiterAlgorithm) {
+        if (rateLimiterAlgorithm instanceof ConcurrentRateLimiterAlgorithm) {
+            return new ConcurrentLimiter();
+        }
+        if (rateLimiterAlgorithm instanceof LeakyBucketRateLimiterAlgorithm) {
+            return new LeakyBucketLimiter();
+        }
+        if (rateLimiterAlgorithm instanceof SlidingWindowRateLimiterAlgorithm || rateLimiterAlgorithm instanceof SlidingWindowCounterRateLimiterAlgorithm) {
+            return new SlidingWindowLimiter();
+        }
+        return new TokenBucketLimiter();
+    }
+
+    private static double elapsedSeconds(final long from, final long now) {
+        return Math.max(0L, now - from) / NANOS_PER_SECOND;
+    }
+
+    /**
+     * The local state of a key.
+     */
+    private interface LocalLimiter {
+
+        /**
+         * Acquire the requested count of the handle.
+         *
+         * @param handle the limiter handle
+         * @param now the nano time
+         * @param keys the keys of the response
+         * @return the response
+         */
+        RateLimiterResponse acquire(RateLimiterHandle handle, long now, List<String> keys);
+
+        /**
+         * Release an acquired request.
+         */
+        default void release() {
+        }
+    }
+
+    /**
+     * The bucket is refilled at the replenish rate up to the burst capacity, a request takes its tokens.
+     */
+    private static final class TokenBucketLimiter implements LocalLimiter {
+
+        private final AtomicReference<Level> state = new AtomicReference<>();
+
+        @Override
+        public RateLimiterResponse acquire(final RateLimiterHandle handle, final long now, final List<String> keys) {
+            double capacity = handle.getBurstCapacity();
+            double requested = handle.getRequestCount();
+            while (true) {
+                Level current = state.get();
+                double filled = Objects.isNull(current) ? capacity
+                        : Math.min(capacity, current.value + elapsedSeconds(current.nanos, now) * handle.getReplenishRate());
+                boolean allowed = filled >= requested;
+                double tokens = allowed ? filled - requested : filled;
+                if (state.compareAndSet(current, new Level(tokens, now))) {
+                    return new RateLimiterResponse(allowed, (long) tokens, keys);
+                }
+            }
+        }
+    }
+
+    /**
+     * The bucket leaks at the replenish rate, a request fills it unless it would overflow the burst capacity.
+     */
+    private static final class LeakyBucketLimiter implements LocalLimiter {
+
+        private final AtomicReference<Level> state = new AtomicReference<>();
+
+        @Override
+        public RateLimiterResponse acquire(final RateLimiterHandle handle, final long now, final List<String> keys) {
+            while (true) {
+                Level current = state.get();
+                double water = Objects.isNull(current) ? 0D
+                        : Math.max(0D, current.value - elapsedSeconds(current.nanos, now) * handle.getReplenishRate());
+                double filled = water + handle.getRequestCount();
+                if (filled > handle.getBurstCapacity()) {
+                    return new RateLimiterResponse(false, (long) filled, keys);
+                }
+                if (state.compareAndSet(current, new Level(filled, now))) {
+                    return new RateLimiterResponse(true, (long) filled, keys);
+                }
+            }
+        }
+    }
+
+    /**
+     * At most burst capacity requests in a window of burst capacity / replenish rate seconds,
+     * the count of the previous window is weighted by its part still inside the sliding window.
+     */
+    private static final class SlidingWindowLimiter implements LocalLimiter {
+
+        private final AtomicReference<Window> state = new AtomicReference<>();
+
+        @Override
+        public RateLimiterResponse acquire(final RateLimiterHandle handle, final long now, final List<String> keys) {
+            double capacity = handle.getBurstCapacity();
+            long requested = (long) Math.ceil(handle.getRequestCount());
+            long windowNanos = Math.max(1L, (long) (capacity / handle.getReplenishRate() * NANOS_PER_SECOND));
+            while (true) {
+                Window current = state.get();
+                long index = Math.floorDiv(now, windowNanos);
+                long previous = 0L;
+                long count = 0L;
+                if (Objects.nonNull(current) && current.index >= index) {
+                    index = current.index;
+                    previous = current.previous;
+                    count = current.count;
+                } else if (Objects.nonNull(current) && current.index == index - 1) {
+                    previous = current.count;
+                }
+                double elapsed = Math.min(1D, Math.max(0D, (double) (now - index * windowNanos) / windowNanos));
+                double estimated = previous * (1D - elapsed) + count;
+                if (estimated + requested > capacity) {
+                    return new RateLimiterResponse(false, Math.max(0L, (long) (capacity - estimated)), keys);
+                }
+                if (state.compareAndSet(current, new Window(index, previous, count + requested))) {
+                    return new RateLimiterResponse(true, Math.max(0L, (long) (capacity - estimated - requested)), keys);
+                }
+            }
+        }
+    }
+
+    /**
+     * At most burst capacity requests in flight, a request is held until it is released.
+     */
+    private static final class ConcurrentLimiter implements LocalLimiter {
+
+        private final AtomicLong inFlight = new AtomicLong();
+
+        @Override
+        public RateLimiterResponse acquire(final RateLimiterHandle handle, final long now, final List<String> keys) {
+            while (true) {
+                long current = inFlight.get();
+                if (current >= handle.getBurstCapacity()) {
+                    return new RateLimiterResponse(false, current, keys);
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return new RateLimiterResponse(true, current + 1, keys);
+                }
+            }
+        }
+
+        @Override
+        public void release() {
+            inFlight.updateAndGet(current -> Math.max(0L, current - 1));
+        }
+    }
+
+    /**
+     * The tokens or the water of a bucket at a nano time.
+     */
+    private static final class Level {
+
+        private final double value;
+
+        private final long nanos;
+
+        Level(final double value, final long nanos) {
+            this.value = value;
+            this.nanos = nanos;
+        }
+    }
+
+    /**
+     * The counts of the current and the previous window.
+     */
+    private static final class Window {
+
+        private final long index;
+
+        private final long previous;
+
+        private final long count;
+
+        Window(final long index, final long previous, final long count) {
+            this.index = index;
+            this.previous = previous;
+            this.count = count;
+        }
+    }
+}
@@ -19,8 +19,11 @@ package org.apache.shenyu.plugin.ratelimiter.executor;
 
 import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
 import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.cache.redis.RedisConfigProperties;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.LeasedTokenBucketRateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.SlidingWindowCounterRateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +36,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * RedisRateLimiter.
@@ -41,6 +45,10 @@ public class RedisRateLimiter {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisRateLimiter.class);
     
+    private final LeasedRateLimiter leasedRateLimiter = new LeasedRateLimiter();
+
+    private final LocalRateLimiter localRateLimiter = new LocalRateLimiter();
+    
     /**
      * Verify using different current limiting algorithm scripts. 
      *
@@ -50,13 +58,19 @@ public class RedisRateLimiter {
      */
     @SuppressWarnings("unchecked")
     public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
+        if (isLocalMode()) {
+            return localRateLimiter.isAllowed(id, limiterHandle, rateLimiterAlgorithm);
+        }
+        if (rateLimiterAlgorithm instanceof LeasedTokenBucketRateLimiterAlgorithm) {
+            return leasedRateLimiter.isAllowed(id, limiterHandle, rateLimiterAlgorithm);
+        }
         double replenishRate = limiterHandle.getReplenishRate();
         double burstCapacity = limiterHandle.getBurstCapacity();
         double requestCount = limiterHandle.getRequestCount();
-        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
         RedisScript<?> script = rateLimiterAlgorithm.getScript();
         List<String> keys = rateLimiterAlgorithm.getKeys(id);
-        List<String> scriptArgs = Arrays.asList(doubleToString(replenishRate), doubleToString(burstCapacity), doubleToString(Instant.now().getEpochSecond()), doubleToString(requestCount));
+        List<String> scriptArgs = Arrays.asList(doubleToString(replenishRate), doubleToString(burstCapacity), now(rateLimiterAlgorithm), doubleToString(requestCount));
         Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs);
         return resultFlux.onErrorResume(throwable -> Flux.just(Arrays.asList(1L, -1L)))
                 .reduce(new ArrayList<Long>(), (longs, l) -> {
@@ -73,6 +87,35 @@ public class RedisRateLimiter {
                 });
     }
     
+    /**
+     * Release the request when it completes.
+     *
+     * @param rateLimiterAlgorithm the algorithm
+     * @param keys the keys of the response
+     */
+    public void callback(final RateLimiterAlgorithm<?> rateLimiterAlgorithm, final List<String> keys) {
+        if (isLocalMode()) {
+            localRateLimiter.release(keys);
+            return;
+        }
+        rateLimiterAlgorithm.callback(rateLimiterAlgorithm.getScript(), keys, null);
+    }
+
+    private boolean isLocalMode() {
+        RedisConfigProperties redisConfigProperties = Singleton.INST.get(RedisConfigProperties.class);
+        return Objects.nonNull(redisConfigProperties) && LocalRateLimiter.LOCAL_MODE.equals(redisConfigProperties.getMode());
+    }
+
+    /**
+     * the sliding window counter may have windows shorter than a second, it is given the time with millisecond precision.
+     */
+    private static String now(final RateLimiterAlgorithm<?> rateLimiterAlgorithm) {
+        if (rateLimiterAlgorithm instanceof SlidingWindowCounterRateLimiterAlgorithm) {
+            return String.valueOf(Instant.now().toEpochMilli() / 1000D);
+        }
+        return String.valueOf(Instant.now().getEpochSecond());
+    }
+
     private String doubleToString(final double param) {
         return String.valueOf(param);
     }
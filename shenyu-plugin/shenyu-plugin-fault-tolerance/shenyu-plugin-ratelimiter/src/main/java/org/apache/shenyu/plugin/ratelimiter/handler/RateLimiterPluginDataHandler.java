@@ -32,6 +32,7 @@ import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.cache.redis.RedisConfigProperties;
 import org.apache.shenyu.plugin.cache.redis.RedisConnectionFactory;
 import org.apache.shenyu.plugin.cache.redis.serializer.ShenyuRedisSerializationContext;
+import org.apache.shenyu.plugin.ratelimiter.executor.LocalRateLimiter;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 
 import java.util.Objects;
@@ -50,6 +51,10 @@ public class RateLimiterPluginDataHandler implements PluginDataHandler {
         if (Objects.nonNull(pluginData) && Boolean.TRUE.equals(pluginData.getEnabled())) {
             //init redis
             RedisConfigProperties redisConfigProperties = GsonUtils.getInstance().fromJson(pluginData.getConfig(), RedisConfigProperties.class);
+            if (LocalRateLimiter.LOCAL_MODE.equals(redisConfigProperties.getMode())) {
+                Singleton.INST.single(RedisConfigProperties.class, redisConfigProperties);
+                return;
+            }
             //spring data redisTemplate
             if (Objects.isNull(Singleton.INST.get(ReactiveRedisTemplate.class))
                     || Objects.isNull(Singleton.INST.get(RedisConfigProperties.class))
@@ -0,0 +1,55 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one or more
+-- contributor license agreements.  See the NOTICE file distributed with
+-- this work for additional information regarding copyright ownership.
+-- The ASF licenses this file to You under the Apache License, Version 2.0
+-- (the "License"); you may not use this file except in compliance with
+-- the License.  You may obtain a copy of the License at
+--
+--    http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+-- approximates a sliding window with the counters of the current and the previous fixed window,
+-- the previous counter is weighted by its part still inside the sliding window.
+-- now is in seconds with millisecond precision, so a window shorter than a second is kept apart,
+-- the window is at least one millisecond.
+local key = KEYS[1]
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local requested = math.ceil(tonumber(ARGV[4]))
+
+local window_size = math.max(0.001, capacity/rate)
+local window = math.floor(now/window_size)
+local elapsed = (now - window*window_size)/window_size
+local current_field = tostring(window)
+local previous_field = tostring(window - 1)
+
+local current = tonumber(redis.call("hget", key, current_field)) or 0
+local previous = tonumber(redis.call("hget", key, previous_field)) or 0
+local estimated = previous*(1 - elapsed) + current
+
+local allowed_num = 0
+if estimated + requested <= capacity then
+  allowed_num = 1
+  redis.call("hincrby", key, current_field, requested)
+  estimated = estimated + requested
+end
+
+if redis.call("hlen", key) > 2 then
+  for _, field in ipairs(redis.call("hkeys", key)) do
+    if field ~= current_field and field ~= previous_field then
+      redis.call("hdel", key, field)
+    end
+  end
+end
+redis.call("expire", key, math.max(1, math.ceil(window_size*2)))
+
+return { allowed_num, math.max(0, math.floor(capacity - estimated)) }
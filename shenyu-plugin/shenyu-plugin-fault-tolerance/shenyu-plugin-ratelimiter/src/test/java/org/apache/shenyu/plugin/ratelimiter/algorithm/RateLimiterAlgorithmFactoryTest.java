@@ -43,5 +43,10 @@ public final class RateLimiterAlgorithmFactoryTest {
 
         RateLimiterAlgorithm<?> slidingWindowRateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("slidingWindow");
         assertThat(slidingWindowRateLimiterAlgorithm.getClass().getName(), is("org.apache.shenyu.plugin.ratelimiter.algorithm.SlidingWindowRateLimiterAlgorithm"));
+
+        RateLimiterAlgorithm<?> leasedTokenBucketRateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("leasedTokenBucket");
+        assertThat(leasedTokenBucketRateLimiterAlgorithm.getClass().getName(), is("org.apache.shenyu.plugin.ratelimiter.algorithm.LeasedTokenBucketRateLimiterAlgorithm"));
+        RateLimiterAlgorithm<?> slidingWindowCounterRateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("slidingWindowCounter");
+        assertThat(slidingWindowCounterRateLimiterAlgorithm.getClass().getName(), is("org.apache.shenyu.plugin.ratelimiter.algorithm.SlidingWindowCounterRateLimiterAlgorithm"));
     }
 }
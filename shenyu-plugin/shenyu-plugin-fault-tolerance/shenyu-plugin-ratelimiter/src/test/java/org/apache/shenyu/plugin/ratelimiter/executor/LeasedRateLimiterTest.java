@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LeasedRateLimiter test.
+ */
+public final class LeasedRateLimiterTest {
+
+    private static final String DEFAULT_TEST_ID = "leasedTestId";
+
+    private RedisRateLimiter redisRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @SuppressWarnings("rawtypes")
+    private ReactiveRedisTemplate reactiveRedisTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        this.redisRateLimiter = new RedisRateLimiter();
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("leasedTokenBucket");
+        rateLimiterHandle.setReplenishRate(50.0);
+        rateLimiterHandle.setBurstCapacity(100.0);
+        reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        Singleton.INST.single(ReactiveRedisTemplate.class, reactiveRedisTemplate);
+    }
+
+    /**
+     * the requests are served from the lease, a new lease starts at half a lease left.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void leaseAheadTest() {
+        when(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(Lists.newArrayList(5L, 95L)));
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertTrue(r.isAllowed());
+            assertEquals(4L, r.getTokensRemaining());
+        }).verifyComplete();
+        assertAllowed(3L);
+        verify(reactiveRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+        assertAllowed(2L);
+        verify(reactiveRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+        assertAllowed(6L);
+    }
+
+    /**
+     * the requests are rejected locally when redis grants no tokens.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void notAllowedTest() {
+        rateLimiterHandle.setReplenishRate(1.0);
+        when(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(Lists.newArrayList(0L, 0L)));
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle))
+                .assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle))
+                .assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+        verify(reactiveRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    /**
+     * the gateway limits locally at the replenish rate when redis fails.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void leaseThrowableTest() {
+        rateLimiterHandle.setReplenishRate(1.0);
+        rateLimiterHandle.setLeaseSize(2.0);
+        when(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.error(Throwable::new));
+        assertAllowed(1L);
+        assertAllowed(0L);
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle))
+                .assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+        verify(reactiveRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    private void assertAllowed(final long tokensRemaining) {
+        RateLimiterResponse response = redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle).block();
+        assertTrue(response.isAllowed());
+        assertEquals(tokensRemaining, response.getTokensRemaining());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.cache.redis.RedisConfigProperties;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
+import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LocalRateLimiter test.
+ */
+public final class LocalRateLimiterTest {
+
+    private static final String DEFAULT_TEST_ID = "localTestId";
+
+    private LocalRateLimiter localRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @BeforeEach
+    public void setUp() {
+        localRateLimiter = new LocalRateLimiter();
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setReplenishRate(0.001);
+        rateLimiterHandle.setBurstCapacity(2.0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Singleton.INST.single(RedisConfigProperties.class, new RedisConfigProperties());
+    }
+
+    @Test
+    public void tokenBucketTest() {
+        assertLimited("tokenBucket");
+    }
+
+    @Test
+    public void leakyBucketTest() {
+        assertLimited("leakyBucket");
+    }
+
+    @Test
+    public void slidingWindowTest() {
+        assertLimited("slidingWindow");
+    }
+
+    @Test
+    public void concurrentTest() {
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        RateLimiterAlgorithm<?> algorithm = RateLimiterAlgorithmFactory.newInstance("concurrent");
+        RateLimiterResponse first = localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm).block();
+        assertTrue(first.isAllowed());
+        assertTrue(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm).block().isAllowed());
+        assertFalse(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm).block().isAllowed());
+        localRateLimiter.release(first.getKeys());
+        assertTrue(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm).block().isAllowed());
+    }
+
+    /**
+     * the concurrent requests never take more tokens than the capacity.
+     */
+    @Test
+    public void contendedTokenBucketTest() throws InterruptedException {
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setBurstCapacity(1000.0);
+        RateLimiterAlgorithm<?> algorithm = RateLimiterAlgorithmFactory.newInstance("tokenBucket");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 250; j++) {
+                    if (localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm).block().isAllowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(1000, allowed.get());
+    }
+
+    /**
+     * the redis rate limiter limits locally in the local mode.
+     */
+    @Test
+    public void localModeTest() {
+        RedisConfigProperties redisConfigProperties = new RedisConfigProperties();
+        redisConfigProperties.setMode(LocalRateLimiter.LOCAL_MODE);
+        Singleton.INST.single(RedisConfigProperties.class, redisConfigProperties);
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        RedisRateLimiter redisRateLimiter = new RedisRateLimiter();
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertTrue(r.isAllowed());
+            assertEquals(1L, r.getTokensRemaining());
+        }).verifyComplete();
+    }
+
+    private void assertLimited(final String algorithmName) {
+        rateLimiterHandle.setAlgorithmName(algorithmName);
+        RateLimiterAlgorithm<?> algorithm = RateLimiterAlgorithmFactory.newInstance(algorithmName);
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm))
+                .assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm))
+                .assertNext(r -> assertTrue(r.isAllowed())).verifyComplete();
+        StepVerifier.create(localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle, algorithm))
+                .assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+    }
+}
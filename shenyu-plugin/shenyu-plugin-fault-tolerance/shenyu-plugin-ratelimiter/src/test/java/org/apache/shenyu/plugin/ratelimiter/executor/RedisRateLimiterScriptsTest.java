@@ -120,6 +120,22 @@ public class RedisRateLimiterScriptsTest {
                 .verify();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void leasedTokenBucketLuaTest() {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("leasedTokenBucket");
+        RedisScript<?> script = rateLimiterAlgorithm.getScript();
+        List<String> keys = rateLimiterAlgorithm.getKeys("test-leasedTokenBucket");
+        List<String> scriptArgs = Arrays.asList(10 + "", 100 + "", Instant.now().toEpochMilli() / 1000D + "", "30");
+        Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs);
+        StepVerifier
+                .create(resultFlux)
+                .expectSubscription()
+                .expectNext(Arrays.asList(30L, 70L))
+                .expectComplete()
+                .verify();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void slidingWindowLuaTest() {
@@ -135,4 +151,44 @@ public class RedisRateLimiterScriptsTest {
                 .expectComplete()
                 .verify();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void slidingWindowCounterLuaTest() {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("slidingWindowCounter");
+        RedisScript<List<Long>> script = (RedisScript<List<Long>>) rateLimiterAlgorithm.getScript();
+        List<String> keys = rateLimiterAlgorithm.getKeys("test-slidingWindowCounter");
+        ReactiveRedisTemplate<String, String> template = Singleton.INST.get(ReactiveRedisTemplate.class);
+        Flux<List<Long>> resultFlux = template.execute(script, keys, Arrays.asList("10", "100", "1000", "60"))
+                .concatWith(template.execute(script, keys, Arrays.asList("10", "100", "1015", "60")))
+                .concatWith(template.execute(script, keys, Arrays.asList("10", "100", "1015", "20")));
+        StepVerifier
+                .create(resultFlux)
+                .expectSubscription()
+                .expectNext(Arrays.asList(1L, 40L))
+                .expectNext(Arrays.asList(1L, 10L))
+                .expectNext(Arrays.asList(0L, 10L))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void slidingWindowCounterSubSecondLuaTest() {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance("slidingWindowCounter");
+        RedisScript<List<Long>> script = (RedisScript<List<Long>>) rateLimiterAlgorithm.getScript();
+        List<String> keys = rateLimiterAlgorithm.getKeys("test-slidingWindowCounterSubSecond");
+        ReactiveRedisTemplate<String, String> template = Singleton.INST.get(ReactiveRedisTemplate.class);
+        Flux<List<Long>> resultFlux = template.execute(script, keys, Arrays.asList("10", "5", "1000.0", "5"))
+                .concatWith(template.execute(script, keys, Arrays.asList("10", "5", "1000.25", "1")))
+                .concatWith(template.execute(script, keys, Arrays.asList("10", "5", "1000.75", "1")));
+        StepVerifier
+                .create(resultFlux)
+                .expectSubscription()
+                .expectNext(Arrays.asList(1L, 0L))
+                .expectNext(Arrays.asList(0L, 0L))
+                .expectNext(Arrays.asList(1L, 1L))
+                .expectComplete()
+                .verify();
+    }
 }
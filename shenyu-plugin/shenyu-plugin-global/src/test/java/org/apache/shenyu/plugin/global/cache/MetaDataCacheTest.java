@@ -57,4 +57,18 @@ public final class MetaDataCacheTest {
         metaDataCache.remove(this.metaData);
         assertNull(metaDataCache.obtain("/home"));
     }
+
+    @Test
+    public void testWildcardAndMissingPath() {
+        MetaData wildcard = MetaData.builder().id("2").path("/wildcard/**").build();
+        assertNull(metaDataCache.obtain("/wildcard/a"));
+        metaDataCache.cache(wildcard);
+        assertEquals("/wildcard/**", metaDataCache.obtain("/wildcard/a").getPath());
+        assertEquals("/wildcard/**", metaDataCache.obtain("/wildcard/a").getPath());
+        assertNull(metaDataCache.getMetaDataCache().get("/unknown"));
+        assertNull(metaDataCache.obtain("/unknown"));
+        assertNull(metaDataCache.getMetaDataCache().get("/unknown"));
+        metaDataCache.remove(wildcard);
+        assertNull(metaDataCache.obtain("/wildcard/a"));
+    }
 }
@@ -27,6 +27,7 @@ import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.LogUtils;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.entity.UpstreamRequest;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
@@ -45,6 +46,7 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
@@ -81,7 +83,8 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(RetryEnum.CURRENT::getName);
         LogUtils.debug(LOG, () -> String.format("The request urlPath is: %s, retryTimes is : %s, retryStrategy is : %s", uri, retryTimes, retryStrategy));
         final HttpHeaders httpHeaders = buildHttpHeaders(exchange);
-        final Mono<R> response = doRequest(exchange, exchange.getRequest().getMethodValue(), uri, httpHeaders, exchange.getRequest().getBody())
+        final Upstream selected = exchange.getAttribute(Constants.HTTP_UPSTREAM);
+        final Mono<R> response = track(selected, timed(exchange, doRequest(exchange, exchange.getRequest().getMethodValue(), uri, httpHeaders, exchange.getRequest().getBody())))
                 .timeout(duration, Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
                 .doOnError(e -> LOG.error(e.getMessage(), e));
         if (RetryEnum.CURRENT.getName().equals(retryStrategy)) {
@@ -155,12 +158,43 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
             final URI newUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
             // in order not to affect the next retry call, newUri needs to be excluded
             exclude.add(newUri);
-            return doRequest(exchange, exchange.getRequest().getMethodValue(), newUri, httpHeaders, exchange.getRequest().getBody())
+            return track(upstream, timed(exchange, doRequest(exchange, exchange.getRequest().getMethodValue(), newUri, httpHeaders, exchange.getRequest().getBody())))
                     .timeout(duration, Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
                     .doOnError(e -> LOG.error(e.getMessage(), e));
         });
     }
 
+    /**
+     * Count every subscription to the request, retries included, as a request in flight to the upstream.
+     *
+     * @param upstream the upstream, null when the upstream is not known
+     * @param request the request
+     * @return the tracked request
+     */
+    private Mono<R> track(final Upstream upstream, final Mono<R> request) {
+        if (Objects.isNull(upstream)) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            final UpstreamRequest upstreamRequest = UpstreamRequest.start(upstream);
+            return request.doFinally(signal -> upstreamRequest.complete(signal == SignalType.ON_COMPLETE));
+        });
+    }
+
+    /**
+     * Record the nanoseconds from every subscription to the request until its response, the latest response wins.
+     *
+     * @param exchange the current server exchange
+     * @param request the request
+     * @return the timed request
+     */
+    private Mono<R> timed(final ServerWebExchange exchange, final Mono<R> request) {
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return request.doOnSuccess(res -> exchange.getAttributes().put(Constants.UPSTREAM_LATENCY, System.nanoTime() - start));
+        });
+    }
+
     /**
      * Build the http request headers.
      *
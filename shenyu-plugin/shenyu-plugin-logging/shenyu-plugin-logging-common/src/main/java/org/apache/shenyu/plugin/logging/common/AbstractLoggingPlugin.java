@@ -86,7 +86,9 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
         boolean desensitized = Boolean.FALSE;
         Set<String> keywordSets = Sets.newHashSet();
         String dataDesensitizeAlg = DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg();
+        Integer maxBodyBytes = null;
         if (Objects.nonNull(commonLoggingRuleHandle)) {
+            maxBodyBytes = commonLoggingRuleHandle.getMaxBodyBytes();
             String keywords = commonLoggingRuleHandle.getKeyword();
             desensitized = StringUtils.isNotBlank(keywords) && commonLoggingRuleHandle.getMaskStatus();
             if (desensitized) {
@@ -109,9 +111,9 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
         requestInfo.setUserAgent(request.getHeaders().getFirst(GenericLoggingConstant.USER_AGENT));
         requestInfo.setHost(request.getHeaders().getFirst(GenericLoggingConstant.HOST));
         requestInfo.setPath(request.getURI().getPath());
-        LoggingServerHttpRequest<L> loggingServerHttpRequest = new LoggingServerHttpRequest<>(request, requestInfo);
+        LoggingServerHttpRequest<L> loggingServerHttpRequest = new LoggingServerHttpRequest<>(request, requestInfo, maxBodyBytes);
         LoggingServerHttpResponse<L> loggingServerHttpResponse = new LoggingServerHttpResponse<>(exchange.getResponse(),
-                requestInfo, this.logCollector(), desensitized, keywordSets, dataDesensitizeAlg);
+                requestInfo, this.logCollector(), desensitized, keywordSets, dataDesensitizeAlg, maxBodyBytes);
         ServerWebExchange webExchange = exchange.mutate().request(loggingServerHttpRequest)
                 .response(loggingServerHttpResponse).build();
         loggingServerHttpResponse.setExchange(webExchange);
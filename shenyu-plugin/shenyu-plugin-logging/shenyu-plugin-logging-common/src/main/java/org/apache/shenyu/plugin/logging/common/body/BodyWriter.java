@@ -17,30 +17,58 @@
 
 package org.apache.shenyu.plugin.logging.common.body;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * bodyWriter is used to read Body.
+ *
+ * <p>The writer copies the body straight out of the (pooled) buffers into one array, at most {@code maxBodyBytes}.
+ * A body over the limit is only counted, the copied bytes are released at once and nothing is logged,
+ * so a large payload is never held twice on the heap.</p>
  */
 public class BodyWriter {
 
-    private static final Logger LOG = LoggerFactory.getLogger(BodyWriter.class);
+    private static final int INITIAL_CAPACITY = 256;
 
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private static final byte[] EMPTY = new byte[0];
 
-    private final WritableByteChannel channel = Channels.newChannel(stream);
+    private final int maxBodyBytes;
 
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
+    private byte[] bytes;
+
+    private int count;
+
+    private long size;
+
+    private boolean overflow;
+
+    /**
+     * Instantiates a writer without limit.
+     */
+    public BodyWriter() {
+        this(Integer.MAX_VALUE, 0L);
+    }
+
+    /**
+     * Instantiates a writer.
+     *
+     * @param maxBodyBytes the max body size kept
+     * @param expectedSize the content length when known, or zero, used to size the array once
+     */
+    public BodyWriter(final int maxBodyBytes, final long expectedSize) {
+        this.maxBodyBytes = maxBodyBytes;
+        if (expectedSize > maxBodyBytes) {
+            this.overflow = true;
+            this.bytes = EMPTY;
+        } else {
+            this.bytes = expectedSize > 0 ? new byte[(int) expectedSize] : EMPTY;
+        }
+    }
 
     /**
      * write ByteBuffer.
@@ -48,14 +76,26 @@ public class BodyWriter {
      * @param buffer byte buffer
      */
     public void write(final ByteBuffer buffer) {
-        if (!isClosed.get()) {
-            try {
-                channel.write(buffer);
-            } catch (IOException e) {
-                isClosed.compareAndSet(false, true);
-                LOG.error("write buffer Failed.", e);
-            }
+        if (isClosed.get()) {
+            return;
+        }
+        int length = buffer.remaining();
+        size += length;
+        if (overflow) {
+            return;
+        }
+        if (size > maxBodyBytes) {
+            overflow = true;
+            bytes = EMPTY;
+            count = 0;
+            return;
+        }
+        if (count + length > bytes.length) {
+            long capacity = Math.max((long) bytes.length << 1, Math.max(count + length, INITIAL_CAPACITY));
+            bytes = Arrays.copyOf(bytes, (int) Math.min(capacity, maxBodyBytes));
         }
+        buffer.duplicate().get(bytes, count, length);
+        count += length;
     }
 
     /**
@@ -64,44 +104,37 @@ public class BodyWriter {
      * @return true: stream is empty
      */
     public boolean isEmpty() {
-        return stream.size() == 0;
+        return size == 0;
     }
 
     /**
-     * get stream size.
+     * get the size of the whole body, including the bytes over the limit.
      *
-     * @return size of stream
+     * @return size of body
      */
     public int size() {
-        return stream.size();
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * judge the body is over the limit and was not kept.
+     *
+     * @return true: body is over the limit
+     */
+    public boolean isOverflow() {
+        return overflow;
     }
 
     /**
      * output stream value.
      *
-     * @return string of stream
+     * @return string of body, empty when the body is over the limit
      */
     public String output() {
-        if (isEmpty()) {
+        isClosed.compareAndSet(false, true);
+        if (overflow || count == 0) {
             return "";
         }
-        try {
-            isClosed.compareAndSet(false, true);
-            return new String(stream.toByteArray(), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            LOG.error("Write failed: ", e);
-            return "Write failed: " + e.getMessage();
-        } finally {
-            try {
-                stream.close();
-            } catch (IOException e) {
-                LOG.error("Close stream error: ", e);
-            }
-            try {
-                channel.close();
-            } catch (IOException e) {
-                LOG.error("Close channel error: ", e);
-            }
-        }
+        return new String(bytes, 0, count, StandardCharsets.UTF_8);
     }
 }
@@ -33,9 +33,23 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
     
     private final L logInfo;
 
+    private final Integer maxBodyBytes;
+
     public LoggingServerHttpRequest(final ServerHttpRequest delegate, final L logInfo) {
+        this(delegate, logInfo, null);
+    }
+
+    /**
+     * Constructor LoggingServerHttpRequest.
+     *
+     * @param delegate delegate ServerHttpRequest
+     * @param logInfo access log
+     * @param maxBodyBytes max body bytes of the rule, the global limit applies when null
+     */
+    public LoggingServerHttpRequest(final ServerHttpRequest delegate, final L logInfo, final Integer maxBodyBytes) {
         super(delegate);
         this.logInfo = logInfo;
+        this.maxBodyBytes = maxBodyBytes;
     }
 
     /**
@@ -46,19 +60,16 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
     @Override
     @NonNull
     public Flux<DataBuffer> getBody() {
-        BodyWriter writer = new BodyWriter();
-        return super.getBody().doOnNext(dataBuffer -> {
-            if (LogCollectUtils.isNotBinaryType(getHeaders())) {
-                writer.write(dataBuffer.asByteBuffer().asReadOnlyBuffer());
-            }
-        }).doFinally(signal -> {
-            int size = writer.size();
-            String body = writer.output();
-            boolean requestBodyTooLarge = LogCollectConfigUtils.isRequestBodyTooLarge(size);
-            if (size == 0 || requestBodyTooLarge) {
-                return;
-            }
-            logInfo.setRequestBody(body);
-        });
+        if (!LogCollectUtils.isNotBinaryType(getHeaders())) {
+            return super.getBody();
+        }
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getMaxRequestBody(maxBodyBytes), getHeaders().getContentLength());
+        return super.getBody().doOnNext(dataBuffer -> writer.write(dataBuffer.asByteBuffer()))
+                .doFinally(signal -> {
+                    if (writer.isEmpty() || writer.isOverflow()) {
+                        return;
+                    }
+                    logInfo.setRequestBody(writer.output());
+                });
     }
 }
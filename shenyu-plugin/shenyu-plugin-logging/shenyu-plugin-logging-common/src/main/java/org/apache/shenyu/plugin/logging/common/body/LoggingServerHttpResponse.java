@@ -73,6 +73,8 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
 
     private final KeyWordMatch keyWordMatch;
 
+    private final Integer maxBodyBytes;
+
     /**
      * Constructor LoggingServerHttpResponse.
      *
@@ -86,12 +88,31 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
     public LoggingServerHttpResponse(final ServerHttpResponse delegate, final L logInfo,
                                      final LogCollector<L> logCollector, final boolean desensitized,
                                      final Set<String> keyWordSet, final String dataDesensitizeAlg) {
+        this(delegate, logInfo, logCollector, desensitized, keyWordSet, dataDesensitizeAlg, null);
+    }
+
+    /**
+     * Constructor LoggingServerHttpResponse.
+     *
+     * @param delegate delegate ServerHttpResponse
+     * @param logInfo access log
+     * @param logCollector LogCollector instance
+     * @param desensitized desensitize flag
+     * @param keyWordSet user keyWord set
+     * @param dataDesensitizeAlg desensitize function
+     * @param maxBodyBytes max body bytes of the rule, the global limit applies when null
+     */
+    public LoggingServerHttpResponse(final ServerHttpResponse delegate, final L logInfo,
+                                     final LogCollector<L> logCollector, final boolean desensitized,
+                                     final Set<String> keyWordSet, final String dataDesensitizeAlg,
+                                     final Integer maxBodyBytes) {
         super(delegate);
         this.logInfo = logInfo;
         this.logCollector = logCollector;
         this.desensitized = desensitized;
         this.dataDesensitizeAlg = dataDesensitizeAlg;
         this.keyWordMatch = new KeyWordMatch(keyWordSet);
+        this.maxBodyBytes = maxBodyBytes;
     }
 
     /**
@@ -129,13 +150,14 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
             logInfo.setStatus(getStatusCode().value());
         }
         logInfo.setResponseHeader(LogCollectUtils.getHeaders(getHeaders()));
-        BodyWriter writer = new BodyWriter();
         logInfo.setTraceId(getTraceId());
-        return Flux.from(body).doOnNext(buffer -> {
-            if (LogCollectUtils.isNotBinaryType(getHeaders())) {
-                writer.write(buffer.asByteBuffer().asReadOnlyBuffer());
-            }
-        }).doFinally(signal -> logResponse(shenyuContext, writer));
+        if (!LogCollectUtils.isNotBinaryType(getHeaders())) {
+            BodyWriter writer = new BodyWriter();
+            return Flux.from(body).doFinally(signal -> logResponse(shenyuContext, writer));
+        }
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getMaxResponseBody(maxBodyBytes), getHeaders().getContentLength());
+        return Flux.from(body).doOnNext(buffer -> writer.write(buffer.asByteBuffer()))
+                .doFinally(signal -> logResponse(shenyuContext, writer));
     }
 
     /**
@@ -160,10 +182,8 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         if (StringUtils.isNotBlank(shenyuContext.getRpcType())) {
             logInfo.setUpstreamIp(getUpstreamIp());
         }
-        int size = writer.size();
-        String body = writer.output();
-        if (size > 0 && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
-            logInfo.setResponseBody(body);
+        if (!writer.isEmpty() && !writer.isOverflow()) {
+            logInfo.setResponseBody(writer.output());
         }
         // collect log
         if (Objects.nonNull(logCollector)) {
@@ -28,6 +28,7 @@ import org.springframework.util.ObjectUtils;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * AbstractLogConsumeClient.
@@ -41,6 +42,12 @@ public abstract class AbstractLogConsumeClient<T extends GenericGlobalConfig, L
 
     private final AtomicReference<Thread> closeThread = new AtomicReference<>();
 
+    private final LongAdder enqueuedCount = new LongAdder();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private final LongAdder flushedCount = new LongAdder();
+
     /**
      * initClient0.
      *
@@ -100,4 +107,31 @@ public abstract class AbstractLogConsumeClient<T extends GenericGlobalConfig, L
         }
         this.consume0(logs);
     }
+
+    /**
+     * get the count of logs put into the collector's buffer.
+     *
+     * @return enqueued count
+     */
+    public LongAdder getEnqueuedCount() {
+        return enqueuedCount;
+    }
+
+    /**
+     * get the count of logs dropped as the collector's buffer was full.
+     *
+     * @return dropped count
+     */
+    public LongAdder getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * get the count of logs handed to this client.
+     *
+     * @return flushed count
+     */
+    public LongAdder getFlushedCount() {
+        return flushedCount;
+    }
 }
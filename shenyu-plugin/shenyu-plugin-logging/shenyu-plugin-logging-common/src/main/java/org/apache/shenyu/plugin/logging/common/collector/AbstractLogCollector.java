@@ -17,28 +17,32 @@
 
 package org.apache.shenyu.plugin.logging.common.collector;
 
-import org.apache.shenyu.common.concurrent.MemorySafeTaskQueue;
-import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
-import org.apache.shenyu.common.concurrent.ShenyuThreadPoolExecutor;
-import org.apache.shenyu.common.config.ShenyuConfig;
-import org.apache.shenyu.common.constant.Constants;
-import org.apache.shenyu.common.utils.Singleton;
-import org.apache.shenyu.common.utils.ThreadUtils;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.LiteTimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.TimeoutHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -47,42 +51,56 @@ import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensi
 
 /**
  * abstract log collector,Contains common methods.
+ *
+ * <p>The logs go through a multi producer ring buffer to one consumer thread, which hands them to the
+ * {@link AbstractLogConsumeClient} in batches of {@code batchSize}, or after {@code lingerTime} milliseconds.
+ * A log is dropped when the ring buffer is full, the client counts the enqueued, dropped and flushed logs.</p>
  */
 public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?, L>, L extends ShenyuRequestLog>
         implements LogCollector<L> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLogCollector.class);
 
-    private int bufferSize;
-
-    private BlockingQueue<L> bufferQueue;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000;
 
-    private long lastPushTime;
+    private final EventTranslatorOneArg<DataEvent<L>, L> translator = (event, sequence, log) -> event.setData(log);
 
     private final AtomicBoolean started = new AtomicBoolean(true);
 
+    private volatile Disruptor<DataEvent<L>> disruptor;
+
+    private volatile RingBuffer<DataEvent<L>> ringBuffer;
+
     @Override
-    public void start() {
-        bufferSize = LogCollectConfigUtils.getGenericGlobalConfig().getBufferQueueSize();
-        bufferQueue = new LinkedBlockingDeque<>(bufferSize);
-        ShenyuConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
-        final ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
-        ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
-                sharedPool.getMaximumPoolSize(), sharedPool.getKeepAliveTime(), TimeUnit.MILLISECONDS,
-                new MemorySafeTaskQueue<>(Constants.THE_256_MB),
-                ShenyuThreadFactory.create(config.getSharedPool().getPrefix(), true),
-                new ThreadPoolExecutor.AbortPolicy());
+    public synchronized void start() {
+        GenericGlobalConfig config = LogCollectConfigUtils.getGenericGlobalConfig();
+        int batchSize = Math.max(config.getBatchSize(), 1);
+        long lingerTime = Math.max(config.getLingerTime(), 1);
+        Disruptor<DataEvent<L>> newDisruptor = new Disruptor<>(new DisruptorEventFactory<>(),
+                ringBufferSize(config.getBufferQueueSize()),
+                DisruptorThreadFactory.create("shenyu-log-collector-" + getClass().getSimpleName(), true),
+                ProducerType.MULTI,
+                new LiteTimeoutBlockingWaitStrategy(lingerTime, TimeUnit.MILLISECONDS));
+        newDisruptor.handleEventsWith(new LogEventHandler(batchSize, TimeUnit.MILLISECONDS.toNanos(lingerTime)));
+        newDisruptor.start();
+        final Disruptor<DataEvent<L>> oldDisruptor = disruptor;
+        disruptor = newDisruptor;
+        ringBuffer = newDisruptor.getRingBuffer();
         started.set(true);
-        threadExecutor.execute(this::consume);
+        shutdown(oldDisruptor);
     }
 
     @Override
     public void collect(final L log) {
-        if (Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
+        AbstractLogConsumeClient<?, L> logConsumeClient = getLogConsumeClient();
+        if (Objects.isNull(log) || Objects.isNull(logConsumeClient)) {
             return;
         }
-        if (bufferQueue.size() < bufferSize) {
-            bufferQueue.add(log);
+        RingBuffer<DataEvent<L>> buffer = ringBuffer;
+        if (Objects.nonNull(buffer) && buffer.tryPublishEvent(translator, log)) {
+            logConsumeClient.getEnqueuedCount().increment();
+        } else {
+            logConsumeClient.getDroppedCount().increment();
         }
     }
 
@@ -93,31 +111,26 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     }
 
     /**
-     * batch and async consume.
+     * the ring buffer size is a power of 2, at least the configured buffer queue size.
      */
-    private void consume() {
-        while (started.get()) {
-            int diffTimeMSForPush = 100;
-            try {
-                List<L> logs = new ArrayList<>();
-                int size = bufferQueue.size();
-                long time = System.currentTimeMillis();
-                long timeDiffMs = time - lastPushTime;
-                int batchSize = 100;
-                if (size >= batchSize || timeDiffMs > diffTimeMSForPush) {
-                    bufferQueue.drainTo(logs, batchSize);
-                    AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
-                    if (Objects.nonNull(logCollectClient)) {
-                        logCollectClient.consume(logs);
-                    }
-                    lastPushTime = time;
-                } else {
-                    ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-                }
-            } catch (Exception e) {
-                LOG.error("DefaultLogCollector collect log error", e);
-                ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-            }
+    private static int ringBufferSize(final int bufferQueueSize) {
+        int size = Math.max(bufferQueueSize, 2);
+        int highestOneBit = Integer.highestOneBit(size);
+        return highestOneBit == size ? size : highestOneBit << 1;
+    }
+
+    /**
+     * Shutdown the disruptor once the logs in it are flushed.
+     */
+    private static void shutdown(final Disruptor<?> oldDisruptor) {
+        if (Objects.isNull(oldDisruptor)) {
+            return;
+        }
+        try {
+            oldDisruptor.shutdown(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("log collector flush timeout, halt it with the logs left");
+            oldDisruptor.halt();
         }
     }
 
@@ -170,9 +183,119 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     @Override
     public void close() throws Exception {
         started.set(false);
+        synchronized (this) {
+            ringBuffer = null;
+            shutdown(disruptor);
+            disruptor = null;
+        }
         AbstractLogConsumeClient<?, ?> logCollectClient = getLogConsumeClient();
         if (logCollectClient != null) {
             logCollectClient.close();
         }
     }
+
+    /**
+     * Batches the logs on the consumer thread, the batch is flushed when it is full,
+     * or when it is older than the linger time and no log is waiting.
+     */
+    private final class LogEventHandler implements EventHandler<DataEvent<L>>, TimeoutHandler, LifecycleAware {
+
+        private final int batchSize;
+
+        private final long lingerNanos;
+
+        private List<L> batch;
+
+        private long batchStartNanos;
+
+        private AbstractLogConsumeClient<?, L> reportedClient;
+
+        private long reportedEnqueued;
+
+        private long reportedDropped;
+
+        LogEventHandler(final int batchSize, final long lingerNanos) {
+            this.batchSize = batchSize;
+            this.lingerNanos = lingerNanos;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void onEvent(final DataEvent<L> event, final long sequence, final boolean endOfBatch) {
+            L log = event.getData();
+            // help gc
+            event.setData(null);
+            if (Objects.nonNull(log)) {
+                if (batch.isEmpty()) {
+                    batchStartNanos = System.nanoTime();
+                }
+                batch.add(log);
+            }
+            if (batch.size() >= batchSize || endOfBatch && lingered()) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onTimeout(final long sequence) {
+            if (lingered()) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onStart() {
+        }
+
+        @Override
+        public void onShutdown() {
+            flush();
+        }
+
+        private boolean lingered() {
+            return !batch.isEmpty() && System.nanoTime() - batchStartNanos >= lingerNanos;
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<L> logs = batch;
+            batch = new ArrayList<>(batchSize);
+            AbstractLogConsumeClient<?, L> logConsumeClient = getLogConsumeClient();
+            if (Objects.isNull(logConsumeClient)) {
+                return;
+            }
+            try {
+                logConsumeClient.consume(logs);
+                logConsumeClient.getFlushedCount().add(logs.size());
+                MetricsReporter.counterIncrement(LabelNames.LOG_FLUSHED_TOTAL, new String[]{logConsumeClient.getClass().getSimpleName()}, logs.size());
+            } catch (Exception e) {
+                LOG.error("DefaultLogCollector collect log error", e);
+            }
+            report(logConsumeClient);
+        }
+
+        /**
+         * Report the enqueued and dropped logs since the last flush, the producers only touch the client's adders.
+         */
+        private void report(final AbstractLogConsumeClient<?, L> logConsumeClient) {
+            if (logConsumeClient != reportedClient) {
+                reportedClient = logConsumeClient;
+                reportedEnqueued = 0;
+                reportedDropped = 0;
+            }
+            String[] labels = {logConsumeClient.getClass().getSimpleName()};
+            long enqueued = logConsumeClient.getEnqueuedCount().sum();
+            long dropped = logConsumeClient.getDroppedCount().sum();
+            if (enqueued > reportedEnqueued) {
+                MetricsReporter.counterIncrement(LabelNames.LOG_ENQUEUED_TOTAL, labels, enqueued - reportedEnqueued);
+            }
+            if (dropped > reportedDropped) {
+                MetricsReporter.counterIncrement(LabelNames.LOG_DROPPED_TOTAL, labels, dropped - reportedDropped);
+            }
+            reportedEnqueued = enqueued;
+            reportedDropped = dropped;
+        }
+    }
 }
@@ -39,6 +39,16 @@ public class GenericGlobalConfig {
      */
     private int bufferQueueSize = 50000;
 
+    /**
+     * the max logs sent in one batch, default 100.
+     */
+    private int batchSize = 100;
+
+    /**
+     * the max milliseconds a log waits for its batch to fill, default 100.
+     */
+    private long lingerTime = 100;
+
     /**
      * get sample rate.
      *
@@ -110,4 +120,40 @@ public class GenericGlobalConfig {
     public void setBufferQueueSize(final int bufferQueueSize) {
         this.bufferQueueSize = bufferQueueSize;
     }
+
+    /**
+     * get batch size.
+     *
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * set batch size.
+     *
+     * @param batchSize batch size
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * get linger time.
+     *
+     * @return linger time in milliseconds
+     */
+    public long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * set linger time.
+     *
+     * @param lingerTime linger time in milliseconds
+     */
+    public void setLingerTime(final long lingerTime) {
+        this.lingerTime = lingerTime;
+    }
 }
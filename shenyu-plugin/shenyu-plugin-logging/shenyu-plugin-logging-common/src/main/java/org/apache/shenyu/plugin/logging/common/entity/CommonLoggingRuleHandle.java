@@ -39,6 +39,11 @@ public class CommonLoggingRuleHandle implements RuleHandle {
      */
     private Boolean maskStatus;
 
+    /**
+     * max bytes of the request or response body logged, the global limit applies when empty.
+     */
+    private Integer maxBodyBytes;
+
     /**
      * get keyword.
      *
@@ -91,4 +96,22 @@ public class CommonLoggingRuleHandle implements RuleHandle {
     public void setMaskStatus(final Boolean desensitizeStatus) {
         this.maskStatus = desensitizeStatus;
     }
+
+    /**
+     * get max body bytes.
+     *
+     * @return max body bytes
+     */
+    public Integer getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * set max body bytes.
+     *
+     * @param maxBodyBytes max body bytes
+     */
+    public void setMaxBodyBytes(final Integer maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
 }
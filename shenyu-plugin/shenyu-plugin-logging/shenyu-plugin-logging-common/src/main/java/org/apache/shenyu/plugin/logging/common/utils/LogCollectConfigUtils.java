@@ -123,6 +123,32 @@ public final class LogCollectConfigUtils {
         return bodySize > genericGlobalConfig.getMaxResponseBody();
     }
 
+    /**
+     * get the max request body logged, a positive rule limit overrides the global one.
+     *
+     * @param ruleMaxBodyBytes max body bytes of the rule, may be null
+     * @return max request body
+     */
+    public static int getMaxRequestBody(final Integer ruleMaxBodyBytes) {
+        if (Objects.nonNull(ruleMaxBodyBytes) && ruleMaxBodyBytes > 0) {
+            return ruleMaxBodyBytes;
+        }
+        return Objects.isNull(genericGlobalConfig) ? Integer.MAX_VALUE : genericGlobalConfig.getMaxRequestBody();
+    }
+
+    /**
+     * get the max response body logged, a positive rule limit overrides the global one.
+     *
+     * @param ruleMaxBodyBytes max body bytes of the rule, may be null
+     * @return max response body
+     */
+    public static int getMaxResponseBody(final Integer ruleMaxBodyBytes) {
+        if (Objects.nonNull(ruleMaxBodyBytes) && ruleMaxBodyBytes > 0) {
+            return ruleMaxBodyBytes;
+        }
+        return Objects.isNull(genericGlobalConfig) ? Integer.MAX_VALUE : genericGlobalConfig.getMaxResponseBody();
+    }
+
     /**
      * get global log config.
      *
@@ -69,4 +69,26 @@ public class BodyWriterTest {
         String res = writer.output();
         Assertions.assertEquals(res, "hello, shenyu");
     }
+
+    @Test
+    public void testOverflow() {
+        BodyWriter limited = new BodyWriter(20, 0);
+        limited.write(byteBuffer.asReadOnlyBuffer());
+        Assertions.assertFalse(limited.isOverflow());
+        limited.write(ByteBuffer.wrap(sendString.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(limited.isOverflow());
+        Assertions.assertEquals(26, limited.size());
+        Assertions.assertEquals("", limited.output());
+    }
+
+    @Test
+    public void testExpectedSize() {
+        BodyWriter sized = new BodyWriter(20, 13);
+        sized.write(byteBuffer.asReadOnlyBuffer());
+        Assertions.assertEquals("hello, shenyu", sized.output());
+        BodyWriter tooLarge = new BodyWriter(10, 13);
+        tooLarge.write(byteBuffer.asReadOnlyBuffer());
+        Assertions.assertTrue(tooLarge.isOverflow());
+        Assertions.assertEquals(13, tooLarge.size());
+    }
 }
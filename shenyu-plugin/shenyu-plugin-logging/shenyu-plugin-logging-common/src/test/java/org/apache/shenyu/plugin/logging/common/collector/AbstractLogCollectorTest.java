@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
+import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For AbstractLogCollector.
+ */
+public class AbstractLogCollectorTest {
+
+    private final TestLogConsumeClient client = new TestLogConsumeClient();
+
+    private final TestLogCollector collector = new TestLogCollector(client);
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        collector.close();
+        LogCollectConfigUtils.setGenericGlobalConfig(null);
+    }
+
+    @Test
+    public void testFlushFullBatch() {
+        config(10, 60000);
+        collector.start();
+        for (int i = 0; i < 25; i++) {
+            collector.collect(new ShenyuRequestLog());
+        }
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> client.getFlushedCount().sum() == 20);
+        assertTrue(client.batches.stream().allMatch(batch -> batch == 10));
+        assertEquals(25, client.getEnqueuedCount().sum());
+    }
+
+    @Test
+    public void testFlushAfterLinger() {
+        config(100, 50);
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        collector.collect(new ShenyuRequestLog());
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> client.getFlushedCount().sum() == 2);
+    }
+
+    @Test
+    public void testFlushOnClose() throws Exception {
+        config(100, 60000);
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        collector.close();
+        assertEquals(1, client.getFlushedCount().sum());
+        collector.collect(new ShenyuRequestLog());
+        assertEquals(1, client.getDroppedCount().sum());
+    }
+
+    private static void config(final int batchSize, final long lingerTime) {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setBatchSize(batchSize);
+        config.setLingerTime(lingerTime);
+        config.setBufferQueueSize(1024);
+        LogCollectConfigUtils.setGenericGlobalConfig(config);
+    }
+
+    static class TestLogCollector extends AbstractLogCollector<TestLogConsumeClient, ShenyuRequestLog> {
+
+        private final TestLogConsumeClient client;
+
+        TestLogCollector(final TestLogConsumeClient client) {
+            this.client = client;
+        }
+
+        @Override
+        protected TestLogConsumeClient getLogConsumeClient() {
+            return client;
+        }
+
+        @Override
+        protected void desensitizeLog(final ShenyuRequestLog log, final KeyWordMatch keyWordMatch, final String desensitizeAlg) {
+        }
+    }
+
+    static class TestLogConsumeClient extends AbstractLogConsumeClient<GenericGlobalConfig, ShenyuRequestLog> {
+
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+        TestLogConsumeClient() {
+            initClient(new GenericGlobalConfig());
+        }
+
+        @Override
+        public void initClient0(final GenericGlobalConfig config) {
+        }
+
+        @Override
+        public void consume0(final List<ShenyuRequestLog> logs) {
+            batches.add(logs.size());
+        }
+
+        @Override
+        public void close0() {
+        }
+    }
+}
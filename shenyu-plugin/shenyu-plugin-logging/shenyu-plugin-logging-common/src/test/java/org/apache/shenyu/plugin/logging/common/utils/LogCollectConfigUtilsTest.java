@@ -118,6 +118,18 @@ public class LogCollectConfigUtilsTest {
         assertFalse(LogCollectConfigUtils.isResponseBodyTooLarge(524288));
     }
 
+    @Test
+    public void testGetMaxBody() {
+        LogCollectConfigUtils.setGenericGlobalConfig(null);
+        assertEquals(Integer.MAX_VALUE, LogCollectConfigUtils.getMaxRequestBody(null));
+        assertEquals(Integer.MAX_VALUE, LogCollectConfigUtils.getMaxResponseBody(0));
+        LogCollectConfigUtils.setGenericGlobalConfig(config);
+        assertEquals(524288, LogCollectConfigUtils.getMaxRequestBody(null));
+        assertEquals(524288, LogCollectConfigUtils.getMaxResponseBody(-1));
+        assertEquals(1024, LogCollectConfigUtils.getMaxRequestBody(1024));
+        assertEquals(1024, LogCollectConfigUtils.getMaxResponseBody(1024));
+    }
+
     @Test
     public void testSetGlobalSampler() throws NoSuchFieldException, IllegalAccessException {
         LogCollectConfigUtils.setGlobalSampler("1");
@@ -17,37 +17,83 @@
 
 package org.apache.shenyu.plugin.metrics;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.shenyu.common.config.ShenyuConfig.MetricsConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.LabelValueLimiter;
 import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * the monitor plugin.
+ * The request metrics are labelled by the request path, or by the proxied route when the {@code label_mode} prop is {@code route},
+ * and the distinct label values are capped by the {@code max_label_values} prop.
  */
 public class MetricsPlugin implements ShenyuPlugin {
     
+    /**
+     * label the request metrics by the request path.
+     */
+    public static final String LABEL_MODE_PATH = "path";
+    
+    /**
+     * label the request metrics by the route the request is proxied by, the selector name and the rule name.
+     */
+    public static final String LABEL_MODE_ROUTE = "route";
+    
+    private static final String LABEL_MODE = "label_mode";
+    
+    private static final String MAX_LABEL_VALUES = "max_label_values";
+    
+    private static final int DEFAULT_MAX_LABEL_VALUES = 1000;
+    
+    private static final String UNMATCHED = "unmatched";
+    
+    private final boolean routeLabel;
+    
+    private final LabelValueLimiter labelValueLimiter;
+    
+    /**
+     * Instantiates a new metrics plugin labelling by the request path.
+     */
+    public MetricsPlugin() {
+        this(null);
+    }
+    
+    /**
+     * Instantiates a new metrics plugin.
+     *
+     * @param metricsConfig the metrics config
+     */
+    public MetricsPlugin(final MetricsConfig metricsConfig) {
+        Properties props = Optional.ofNullable(metricsConfig).map(MetricsConfig::getProps).orElseGet(Properties::new);
+        this.routeLabel = LABEL_MODE_ROUTE.equalsIgnoreCase(props.getProperty(LABEL_MODE));
+        this.labelValueLimiter = new LabelValueLimiter(NumberUtils.toInt(props.getProperty(MAX_LABEL_VALUES), DEFAULT_MAX_LABEL_VALUES));
+    }
+    
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         MetricsReporter.counterIncrement(LabelNames.REQUEST_TOTAL);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{exchange.getRequest().getURI().getPath(), shenyuContext.getRpcType()});
-        LocalDateTime startDateTime = Optional.of(shenyuContext).map(ShenyuContext::getStartDateTime).orElseGet(LocalDateTime::now);
-        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startDateTime))
+        final long startNanos = System.nanoTime();
+        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, shenyuContext, startNanos))
                 .doOnError(throwable -> {
                     MetricsReporter.counterIncrement(LabelNames.REQUEST_THROW_TOTAL);
-                    responseCommitted(exchange, startDateTime);
+                    responseCommitted(exchange, shenyuContext, startNanos);
                 });
     }
 
@@ -61,20 +107,35 @@ public class MetricsPlugin implements ShenyuPlugin {
         return PluginEnum.METRICS.getName();
     }
     
-    private void responseCommitted(final ServerWebExchange exchange, final LocalDateTime startDateTime) {
+    private void responseCommitted(final ServerWebExchange exchange, final ShenyuContext shenyuContext, final long startNanos) {
         ServerHttpResponse response = exchange.getResponse();
         if (response.isCommitted()) {
-            recordTime(startDateTime);
+            record(exchange, shenyuContext, startNanos);
         } else {
             response.beforeCommit(() -> {
-                recordTime(startDateTime);
+                record(exchange, shenyuContext, startNanos);
                 return Mono.empty();
             });
         }
     }
     
-    private void recordTime(final LocalDateTime startDateTime) {
-        long millisBetween = DateUtils.acquireMillisBetween(startDateTime, LocalDateTime.now());
-        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, millisBetween);
+    private void record(final ServerWebExchange exchange, final ShenyuContext shenyuContext, final long startNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        String[] labelValues = {labelValueLimiter.limit(label(exchange)), StringUtils.defaultString(shenyuContext.getRpcType())};
+        MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, labelValues);
+        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, millis);
+        MetricsReporter.recordTime(LabelNames.REQUEST_LATENCY_NAME, labelValues, millis);
+        Long upstreamNanos = exchange.getAttribute(Constants.UPSTREAM_LATENCY);
+        if (Objects.nonNull(upstreamNanos)) {
+            MetricsReporter.recordTime(LabelNames.UPSTREAM_LATENCY_NAME, labelValues, TimeUnit.NANOSECONDS.toMillis(upstreamNanos));
+        }
+    }
+    
+    private String label(final ServerWebExchange exchange) {
+        if (!routeLabel) {
+            return exchange.getRequest().getURI().getPath();
+        }
+        String route = exchange.getAttribute(Constants.MATCHED_ROUTE);
+        return StringUtils.defaultIfBlank(route, UNMATCHED);
     }
 }
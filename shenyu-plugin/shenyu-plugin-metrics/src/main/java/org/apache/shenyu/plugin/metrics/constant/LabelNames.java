@@ -41,4 +41,44 @@ public final class LabelNames {
      * The constant EXECUTE_LATENCY_NAME.
      */
     public static final String EXECUTE_LATENCY_NAME = "shenyu_execute_latency_millis";
+    
+    /**
+     * The constant REQUEST_LATENCY_NAME.
+     */
+    public static final String REQUEST_LATENCY_NAME = "shenyu_request_latency_millis";
+    
+    /**
+     * The constant UPSTREAM_LATENCY_NAME.
+     */
+    public static final String UPSTREAM_LATENCY_NAME = "shenyu_upstream_latency_millis";
+    
+    /**
+     * The constant CACHE_HIT_TOTAL.
+     */
+    public static final String CACHE_HIT_TOTAL = "shenyu_cache_hit_total";
+    
+    /**
+     * The constant CACHE_MISS_TOTAL.
+     */
+    public static final String CACHE_MISS_TOTAL = "shenyu_cache_miss_total";
+    
+    /**
+     * The constant CACHE_EVICTION_TOTAL.
+     */
+    public static final String CACHE_EVICTION_TOTAL = "shenyu_cache_eviction_total";
+    
+    /**
+     * The constant LOG_ENQUEUED_TOTAL.
+     */
+    public static final String LOG_ENQUEUED_TOTAL = "shenyu_log_enqueued_total";
+    
+    /**
+     * The constant LOG_DROPPED_TOTAL.
+     */
+    public static final String LOG_DROPPED_TOTAL = "shenyu_log_dropped_total";
+    
+    /**
+     * The constant LOG_FLUSHED_TOTAL.
+     */
+    public static final String LOG_FLUSHED_TOTAL = "shenyu_log_flushed_total";
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import org.apache.shenyu.plugin.api.timing.PluginTimingRecorder;
+import org.apache.shenyu.plugin.api.timing.PluginTimingStats;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exports the sampled plugin timing of {@link PluginTimingRecorder}, the timing is read when scraped.
+ */
+public final class PluginTimingCollector extends Collector {
+    
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+    
+    private static final List<String> PLUGIN_LABEL = Collections.singletonList("plugin");
+    
+    private static final List<String> MATCH_LABELS = Arrays.asList("plugin", "type", "stage");
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        CounterMetricFamily executeCount = new CounterMetricFamily("shenyu_plugin_execute_total",
+                "the sampled executes of the plugin", PLUGIN_LABEL);
+        CounterMetricFamily executeSeconds = new CounterMetricFamily("shenyu_plugin_execute_seconds_total",
+                "the seconds of the sampled executes of the plugin, without the plugins after it", PLUGIN_LABEL);
+        CounterMetricFamily totalSeconds = new CounterMetricFamily("shenyu_plugin_total_seconds_total",
+                "the seconds of the sampled executes of the plugin, with the plugins after it", PLUGIN_LABEL);
+        CounterMetricFamily skipCount = new CounterMetricFamily("shenyu_plugin_skip_total",
+                "the sampled skips of the plugin", PLUGIN_LABEL);
+        CounterMetricFamily skipSeconds = new CounterMetricFamily("shenyu_plugin_skip_seconds_total",
+                "the seconds of the sampled skips of the plugin", PLUGIN_LABEL);
+        CounterMetricFamily matchCount = new CounterMetricFamily("shenyu_plugin_match_total",
+                "the sampled selector and rule matches of the plugin by the deciding stage", MATCH_LABELS);
+        CounterMetricFamily matchSeconds = new CounterMetricFamily("shenyu_plugin_match_seconds_total",
+                "the seconds of the sampled selector and rule matches of the plugin by the deciding stage", MATCH_LABELS);
+        for (Map.Entry<String, PluginTimingStats> entry : PluginTimingRecorder.getStats().entrySet()) {
+            String plugin = entry.getKey();
+            PluginTimingStats stats = entry.getValue();
+            List<String> pluginLabel = Collections.singletonList(plugin);
+            executeCount.addMetric(pluginLabel, stats.getExecuteCount());
+            executeSeconds.addMetric(pluginLabel, stats.getExecuteNanos() / NANOS_PER_SECOND);
+            totalSeconds.addMetric(pluginLabel, stats.getTotalNanos() / NANOS_PER_SECOND);
+            skipCount.addMetric(pluginLabel, stats.getSkipCount());
+            skipSeconds.addMetric(pluginLabel, stats.getSkipNanos() / NANOS_PER_SECOND);
+            addMatch(matchCount, matchSeconds, plugin, "selector", stats.getSelectorMatchCount(), stats.getSelectorMatchNanos());
+            addMatch(matchCount, matchSeconds, plugin, "rule", stats.getRuleMatchCount(), stats.getRuleMatchNanos());
+        }
+        return Arrays.asList(executeCount, executeSeconds, skipCount, skipSeconds, matchCount, matchSeconds, totalSeconds);
+    }
+    
+    private static void addMatch(final CounterMetricFamily matchCount, final CounterMetricFamily matchSeconds, final String plugin,
+                                 final String type, final Map<String, Long> counts, final Map<String, Long> nanos) {
+        counts.forEach((stage, count) -> {
+            List<String> labels = Arrays.asList(plugin, type, stage);
+            matchCount.addMetric(labels, count);
+            matchSeconds.addMetric(labels, nanos.get(stage) / NANOS_PER_SECOND);
+        });
+    }
+}
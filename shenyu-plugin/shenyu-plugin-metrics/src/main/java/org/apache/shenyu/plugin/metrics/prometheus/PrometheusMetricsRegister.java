@@ -63,11 +63,19 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     
     @Override
     public void registerHistogram(final String name, final String[] labelNames, final String document) {
+        registerHistogram(name, labelNames, null, document);
+    }
+    
+    @Override
+    public void registerHistogram(final String name, final String[] labelNames, final double[] buckets, final String document) {
         if (!HISTOGRAM_MAP.containsKey(name)) {
             Histogram.Builder builder = Histogram.build().name(name).help(document);
             if (null != labelNames) {
                 builder.labelNames(labelNames);
             }
+            if (null != buckets) {
+                builder.buckets(buckets);
+            }
             HISTOGRAM_MAP.putIfAbsent(name, builder.register());
         }
     }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the distinct values of a label, the values after the cap are reported as {@link #OVERFLOW}.
+ */
+public final class LabelValueLimiter {
+
+    /**
+     * The label value of the values after the cap.
+     */
+    public static final String OVERFLOW = "other";
+
+    private final int maxValues;
+
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Instantiates a new label value limiter.
+     *
+     * @param maxValues the max distinct values
+     */
+    public LabelValueLimiter(final int maxValues) {
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * Limit the label value.
+     *
+     * @param value the label value
+     * @return the value, or {@link #OVERFLOW} when the value is new and the cap is reached
+     */
+    public String limit(final String value) {
+        if (values.contains(value)) {
+            return value;
+        }
+        if (size.incrementAndGet() > maxValues) {
+            size.decrementAndGet();
+            return OVERFLOW;
+        }
+        if (!values.add(value)) {
+            size.decrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of distinct values.
+     *
+     * @return the number of distinct values
+     */
+    public int size() {
+        return size.get();
+    }
+}
@@ -30,6 +30,11 @@ import java.util.Optional;
  */
 public final class MetricsReporter {
     
+    /**
+     * The bucket upper bounds of the latency histograms, in milliseconds.
+     */
+    public static final double[] LATENCY_MILLIS_BUCKETS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    
     private static MetricsRegister metricsRegister;
     
     /**
@@ -42,7 +47,15 @@ public final class MetricsReporter {
         MetricsReporter.registerCounter(LabelNames.REQUEST_TOTAL, "shenyu request total count");
         MetricsReporter.registerCounter(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"path", "type"}, "shenyu http request type total count");
         MetricsReporter.registerCounter(LabelNames.REQUEST_THROW_TOTAL, "shenyu request error total count");
-        MetricsReporter.registerHistogram(LabelNames.EXECUTE_LATENCY_NAME, "the shenyu executor latency millis");
+        MetricsReporter.registerHistogram(LabelNames.EXECUTE_LATENCY_NAME, null, LATENCY_MILLIS_BUCKETS, "the shenyu executor latency millis");
+        MetricsReporter.registerHistogram(LabelNames.REQUEST_LATENCY_NAME, new String[]{"path", "type"}, LATENCY_MILLIS_BUCKETS, "shenyu request latency millis");
+        MetricsReporter.registerHistogram(LabelNames.UPSTREAM_LATENCY_NAME, new String[]{"path", "type"}, LATENCY_MILLIS_BUCKETS, "shenyu upstream response latency millis");
+        MetricsReporter.registerCounter(LabelNames.CACHE_HIT_TOTAL, new String[]{"type"}, "shenyu cache plugin hit count");
+        MetricsReporter.registerCounter(LabelNames.CACHE_MISS_TOTAL, new String[]{"type"}, "shenyu cache plugin miss count");
+        MetricsReporter.registerCounter(LabelNames.CACHE_EVICTION_TOTAL, new String[]{"type", "cause"}, "shenyu cache plugin eviction count");
+        MetricsReporter.registerCounter(LabelNames.LOG_ENQUEUED_TOTAL, new String[]{"client"}, "shenyu logging plugin logs put into the collector buffer");
+        MetricsReporter.registerCounter(LabelNames.LOG_DROPPED_TOTAL, new String[]{"client"}, "shenyu logging plugin logs dropped as the collector buffer was full");
+        MetricsReporter.registerCounter(LabelNames.LOG_FLUSHED_TOTAL, new String[]{"client"}, "shenyu logging plugin logs sent to the client");
     }
     
     /**
@@ -121,6 +134,18 @@ public final class MetricsReporter {
         Optional.ofNullable(metricsRegister).ifPresent(register -> register.registerHistogram(name, labelNames, document));
     }
     
+    /**
+     * Register histogram by label names and bucket upper bounds.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param buckets the bucket upper bounds
+     * @param document document for histogram
+     */
+    public static void registerHistogram(final String name, final String[] labelNames, final double[] buckets, final String document) {
+        Optional.ofNullable(metricsRegister).ifPresent(register -> register.registerHistogram(name, labelNames, buckets, document));
+    }
+    
     /**
      * Register histogram.
      *
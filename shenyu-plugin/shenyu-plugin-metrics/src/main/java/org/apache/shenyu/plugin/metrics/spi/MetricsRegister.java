@@ -52,6 +52,18 @@ public interface MetricsRegister {
      */
     void registerHistogram(String name, String[] labelNames, String document);
     
+    /**
+     * Register histogram with the bucket upper bounds.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param buckets the bucket upper bounds
+     * @param document document for histogram
+     */
+    default void registerHistogram(String name, String[] labelNames, double[] buckets, String document) {
+        registerHistogram(name, labelNames, document);
+    }
+    
     /**
      * Counter increment by count.
      *
@@ -17,12 +17,16 @@
 
 package org.apache.shenyu.plugin.metrics;
 
+import org.apache.shenyu.common.config.ShenyuConfig.MetricsConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.util.Properties;
 
 /**
  * The Test Case For MetricsPlugin.
@@ -84,4 +89,37 @@ public class MetricsPluginTest {
     public void testNamed() {
         Assertions.assertEquals(metricsPlugin.named(), PluginEnum.METRICS.getName());
     }
+
+    @Test
+    public void testRouteLabel() {
+        MetricsRegister metricsRegister = Mockito.mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        try {
+            Properties props = new Properties();
+            props.setProperty("label_mode", MetricsPlugin.LABEL_MODE_ROUTE);
+            props.setProperty("max_label_values", "1");
+            MetricsConfig metricsConfig = new MetricsConfig();
+            metricsConfig.setProps(props);
+            MetricsPlugin routeMetricsPlugin = new MetricsPlugin(metricsConfig);
+            Mockito.when(chain.execute(ArgumentMatchers.any())).thenAnswer(invocation -> {
+                exchange.getAttributes().put(Constants.MATCHED_ROUTE, "/http:/http/order/{id}");
+                exchange.getAttributes().put(Constants.UPSTREAM_LATENCY, 2_000_000L);
+                return Mono.empty();
+            });
+            StepVerifier.create(routeMetricsPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+            StepVerifier.create(exchange.getResponse().setComplete()).verifyComplete();
+            String[] labelValues = {"/http:/http/order/{id}", ""};
+            Mockito.verify(metricsRegister).counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, labelValues, 1);
+            Mockito.verify(metricsRegister).recordTime(ArgumentMatchers.eq(LabelNames.REQUEST_LATENCY_NAME), ArgumentMatchers.eq(labelValues), ArgumentMatchers.anyLong());
+            Mockito.verify(metricsRegister).recordTime(LabelNames.UPSTREAM_LATENCY_NAME, labelValues, 2);
+            // the label values are capped
+            MockServerWebExchange other = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+            other.getAttributes().put(Constants.CONTEXT, exchange.getAttribute(Constants.CONTEXT));
+            StepVerifier.create(routeMetricsPlugin.execute(other, chain)).expectSubscription().verifyComplete();
+            StepVerifier.create(other.getResponse().setComplete()).verifyComplete();
+            Mockito.verify(metricsRegister).counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"other", ""}, 1);
+        } finally {
+            MetricsReporter.clean();
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shenyu.plugin.api.timing.MatchStageEnum;
+import org.apache.shenyu.plugin.api.timing.PluginTimingRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Test Case For PluginTimingCollector.
+ */
+public final class PluginTimingCollectorTest {
+
+    @AfterEach
+    public void reset() {
+        PluginTimingRecorder.reset();
+    }
+
+    @Test
+    public void testCollect() {
+        PluginTimingRecorder.recordExecute("divide", 2_000_000_000L, 3_000_000_000L);
+        PluginTimingRecorder.recordSkip("divide", 1_000L);
+        PluginTimingRecorder.recordRuleMatch("divide", MatchStageEnum.TRIE, 500_000_000L);
+        List<MetricFamilySamples> families = new PluginTimingCollector().collect();
+        Assertions.assertEquals(7, families.size());
+        MetricFamilySamples executeSeconds = families.get(1);
+        Assertions.assertEquals(1, executeSeconds.samples.size());
+        Assertions.assertEquals("shenyu_plugin_execute_seconds_total", executeSeconds.samples.get(0).name);
+        Assertions.assertEquals(2D, executeSeconds.samples.get(0).value);
+        MetricFamilySamples matchSeconds = families.get(5);
+        Assertions.assertEquals(MatchStageEnum.values().length * 2, matchSeconds.samples.size());
+        Assertions.assertTrue(matchSeconds.samples.stream()
+                .anyMatch(sample -> sample.labelValues.equals(Arrays.asList("divide", "rule", "trie")) && sample.value == 0.5D));
+        MetricFamilySamples totalSeconds = families.get(6);
+        Assertions.assertEquals("shenyu_plugin_total_seconds_total", totalSeconds.samples.get(0).name);
+        Assertions.assertEquals(3D, totalSeconds.samples.get(0).value);
+    }
+}
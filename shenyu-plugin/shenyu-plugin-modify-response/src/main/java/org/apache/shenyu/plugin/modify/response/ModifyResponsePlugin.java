@@ -21,6 +21,7 @@ import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -30,6 +31,7 @@ import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.support.JsonRewriter;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.base.utils.ResponseUtils;
 import org.apache.shenyu.plugin.modify.response.handler.ModifyResponsePluginDataHandler;
@@ -39,6 +41,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
@@ -99,11 +102,31 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
             ClientResponse clientResponse = this.buildModifiedResponse(body);
+            JsonRewriter rewriter = ModifyResponsePluginDataHandler.obtainRewriter(this.ruleHandle);
+            if (rewriter.isEmpty()) {
+                return ResponseUtils.writeChunked(clientResponse, this.exchange, body);
+            }
+            if (rewriter.isSupported() && isPlainJson(this.getHeaders())) {
+                return ResponseUtils.writeChunked(clientResponse, this.exchange, rewriter.rewrite(body, this.bufferFactory()));
+            }
             Mono<byte[]> modifiedBody = clientResponse.bodyToMono(byte[].class)
                     .flatMap(originalBody -> Mono.just(modifyBody(originalBody)));
             return ResponseUtils.writeWith(clientResponse, this.exchange, modifiedBody, byte[].class);
         }
 
+        /**
+         * Only a json body without content encoding is rewritten while streaming, any other body is joined first,
+         * so that a body which is not json fails before the response is committed.
+         */
+        private static boolean isPlainJson(final HttpHeaders headers) {
+            MediaType contentType = headers.getContentType();
+            if (Objects.isNull(contentType) || !(MediaType.APPLICATION_JSON.isCompatibleWith(contentType) || contentType.getSubtype().endsWith("+json"))) {
+                return false;
+            }
+            String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+            return StringUtils.isBlank(contentEncoding) || "identity".equalsIgnoreCase(contentEncoding);
+        }
+
         private ClientResponse buildModifiedResponse(final Publisher<? extends DataBuffer> body) {
             HttpHeaders httpHeaders = new HttpHeaders();
             // add origin headers
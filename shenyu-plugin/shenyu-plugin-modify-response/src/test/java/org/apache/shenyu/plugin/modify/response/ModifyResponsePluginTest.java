@@ -21,21 +21,34 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.rule.impl.ModifyResponseRuleHandle;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.modify.response.handler.ModifyResponsePluginDataHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -100,6 +113,47 @@ public final class ModifyResponsePluginTest {
         StepVerifier.create(result).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testWriteWithBody() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ServerCodecConfigurer.class)).thenReturn(ServerCodecConfigurer.create());
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        final ParamMappingRuleHandle.ParamMapInfo add = new ParamMappingRuleHandle.ParamMapInfo();
+        add.setPath("$.data");
+        add.setKey("version");
+        add.setValue("2.6.0");
+        final ModifyResponseRuleHandle responseRuleHandle = new ModifyResponseRuleHandle();
+        responseRuleHandle.setAddBodyKeys(Collections.singletonList(add));
+        responseRuleHandle.setRemoveBodyKeys(Collections.singleton("$.code"));
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        ModifyResponsePlugin.ModifyResponseDecorator decorator = new ModifyResponsePlugin.ModifyResponseDecorator(exchange, responseRuleHandle);
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        Flux<DataBuffer> body = Flux.just("{\"code\":200,\"da", "ta\":{\"name\":\"shenyu\"}}")
+                .map(chunk -> bufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        StepVerifier.create(decorator.writeWith(body)).expectSubscription().verifyComplete();
+        StepVerifier.create(((MockServerHttpResponse) exchange.getResponse()).getBodyAsString())
+                .expectNext("{\"data\":{\"name\":\"shenyu\",\"version\":\"2.6.0\"}}")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testWriteWithNonJsonBody() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getBean(ServerCodecConfigurer.class)).thenReturn(ServerCodecConfigurer.create());
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        final ModifyResponseRuleHandle responseRuleHandle = new ModifyResponseRuleHandle();
+        responseRuleHandle.setRemoveBodyKeys(Collections.singleton("$.code"));
+        exchange.getResponse().setStatusCode(HttpStatus.BAD_GATEWAY);
+        exchange.getResponse().getHeaders().setContentType(MediaType.TEXT_HTML);
+        ModifyResponsePlugin.ModifyResponseDecorator decorator = new ModifyResponsePlugin.ModifyResponseDecorator(exchange, responseRuleHandle);
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        Flux<DataBuffer> body = Flux.just("<html><body>", "bad gateway</body></html>")
+                .map(chunk -> bufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        StepVerifier.create(decorator.writeWith(body)).expectError(ShenyuException.class).verify();
+        assertFalse(exchange.getResponse().isCommitted());
+    }
+
     @Test
     public void testGetOrder() {
         assertEquals(modifyResponsePlugin.getOrder(), PluginEnum.MODIFY_RESPONSE.getCode());
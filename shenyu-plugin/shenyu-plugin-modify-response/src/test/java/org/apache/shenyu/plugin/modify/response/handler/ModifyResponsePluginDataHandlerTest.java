@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -70,6 +71,22 @@ public final class ModifyResponsePluginDataHandlerTest {
         assertNull(modifyResponseRuleHandle);
     }
 
+    /**
+     * Obtain rewriter test, removing a rule with the same handle must not leave the other rule compiling on every call.
+     */
+    @Test
+    public void obtainRewriterTest() {
+        RuleData other = mock(RuleData.class);
+        when(other.getSelectorId()).thenReturn("2");
+        when(other.getName()).thenReturn("modify");
+        when(other.getHandle()).thenReturn(ruleData.getHandle());
+        modifyResponsePluginDataHandler.handlerRule(ruleData);
+        modifyResponsePluginDataHandler.handlerRule(other);
+        modifyResponsePluginDataHandler.removeRule(other);
+        ModifyResponseRuleHandle modifyResponseRuleHandle = ModifyResponsePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData));
+        assertSame(ModifyResponsePluginDataHandler.obtainRewriter(modifyResponseRuleHandle), ModifyResponsePluginDataHandler.obtainRewriter(modifyResponseRuleHandle));
+    }
+
     /**
      * Plugin named test.
      */
@@ -23,9 +23,11 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.support.JsonRewriter;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -36,21 +38,54 @@ public class ParamMappingPluginDataHandler implements PluginDataHandler {
 
     public static final Supplier<CommonHandleCache<String, ParamMappingRuleHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    /**
+     * handle -> the compiled body rewriter, rules with the same handle share one entry which is compiled again on a miss.
+     */
+    public static final Supplier<CommonHandleCache<ParamMappingRuleHandle, JsonRewriter>> CACHED_REWRITER = new BeanHolder<>(CommonHandleCache::new);
+
     @Override
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             ParamMappingRuleHandle paramMappingRuleHandle = GsonUtils.getInstance().fromJson(s, ParamMappingRuleHandle.class);
+            removeRewriter(CacheKeyUtils.INST.getKey(ruleData));
             CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), paramMappingRuleHandle);
+            CACHED_REWRITER.get().cachedHandle(paramMappingRuleHandle, compile(paramMappingRuleHandle));
         });
     }
 
     @Override
     public void removeRule(final RuleData ruleData) {
-        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            removeRewriter(CacheKeyUtils.INST.getKey(ruleData));
+            CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+        });
     }
 
     @Override
     public String pluginNamed() {
         return PluginEnum.PARAM_MAPPING.getName();
     }
+
+    /**
+     * Obtain the body rewriter compiled from the handle, the rewriter compiled on a miss is cached.
+     *
+     * @param handle the rule handle
+     * @return the body rewriter
+     */
+    public static JsonRewriter obtainRewriter(final ParamMappingRuleHandle handle) {
+        JsonRewriter rewriter = CACHED_REWRITER.get().obtainHandle(handle);
+        if (Objects.isNull(rewriter)) {
+            rewriter = compile(handle);
+            CACHED_REWRITER.get().cachedHandle(handle, rewriter);
+        }
+        return rewriter;
+    }
+
+    private static JsonRewriter compile(final ParamMappingRuleHandle handle) {
+        return JsonRewriter.compile(handle.getAddParameterKeys(), handle.getReplaceParameterKeys(), handle.getRemoveParameterKeys());
+    }
+
+    private static void removeRewriter(final String key) {
+        Optional.ofNullable(CACHED_HANDLE.get().obtainHandle(key)).ifPresent(CACHED_REWRITER.get()::removeHandle);
+    }
 }
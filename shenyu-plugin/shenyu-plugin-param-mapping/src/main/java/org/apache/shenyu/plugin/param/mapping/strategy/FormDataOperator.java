@@ -24,74 +24,43 @@ import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
-import org.apache.shenyu.plugin.base.support.BodyInserterContext;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ReactiveHttpOutputMessage;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.apache.shenyu.plugin.base.support.RequestBodyCache;
+import org.apache.shenyu.plugin.base.utils.ServerWebExchangeUtils;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.function.Function;
 
 /**
  * ApplicationFormStrategy.
  */
 public class FormDataOperator implements Operator {
 
-    private static final Logger LOG = LoggerFactory.getLogger(FormDataOperator.class);
-
     @Override
     public Mono<Void> apply(final ServerWebExchange exchange, final ShenyuPluginChain shenyuPluginChain, final ParamMappingRuleHandle paramMappingRuleHandle) {
-        return exchange.getFormData()
-                .switchIfEmpty(Mono.defer(() -> Mono.just(new LinkedMultiValueMap<>())))
-                .flatMap(multiValueMap -> {
-                    if (Objects.isNull(multiValueMap) || multiValueMap.isEmpty()) {
-                        return shenyuPluginChain.execute(exchange);
-                    }
-                    String original = GsonUtils.getInstance().toJson(multiValueMap);
-                    LOG.info("get from data success data:{}", original);
-                    String modify = operation(original, paramMappingRuleHandle);
-                    if (!StringUtils.hasLength(modify)) {
-                        return shenyuPluginChain.execute(exchange);
-                    }
-                    HttpHeaders headers = exchange.getRequest().getHeaders();
-                    HttpHeaders httpHeaders = new HttpHeaders();
-                    Charset charset = Objects.requireNonNull(headers.getContentType()).getCharset();
-                    charset = charset == null ? StandardCharsets.UTF_8 : charset;
-                    LinkedMultiValueMap<String, String> modifyMap = toLinkedMultiValueMap(modify);
-                    List<String> list = prepareParams(modifyMap, charset.name());
-                    String content = String.join("&", list);
-                    byte[] bodyBytes = content.getBytes(charset);
-                    int contentLength = bodyBytes.length;
-                    final BodyInserter<LinkedMultiValueMap<String, String>, ReactiveHttpOutputMessage> bodyInserter = BodyInserters.fromValue(modifyMap);
-                    httpHeaders.putAll(headers);
-                    httpHeaders.remove(HttpHeaders.CONTENT_LENGTH);
-                    httpHeaders.setContentLength(contentLength);
-                    CachedBodyOutputMessage cachedBodyOutputMessage = new CachedBodyOutputMessage(exchange, httpHeaders);
-                    return bodyInserter.insert(cachedBodyOutputMessage, new BodyInserterContext())
-                            .then(Mono.defer(() -> shenyuPluginChain.execute(exchange.mutate()
-                                    .request(new ModifyServerHttpRequestDecorator(httpHeaders, exchange.getRequest(), cachedBodyOutputMessage))
-                                    .build())
-                            )).onErrorResume((Function<Throwable, Mono<Void>>) throwable -> release(cachedBodyOutputMessage, throwable));
-                });
+        return ServerWebExchangeUtils.cacheRequestBody(exchange).flatMap(cached -> {
+            RequestBodyCache body = ServerWebExchangeUtils.getRequestBodyCache(cached);
+            MultiValueMap<String, String> multiValueMap = body.getFormData();
+            if (multiValueMap.isEmpty()) {
+                return shenyuPluginChain.execute(cached);
+            }
+            String modify = operation(GsonUtils.getInstance().toJson(multiValueMap), paramMappingRuleHandle);
+            if (!StringUtils.hasLength(modify)) {
+                return shenyuPluginChain.execute(cached);
+            }
+            Charset charset = body.getCharset();
+            List<String> list = prepareParams(toLinkedMultiValueMap(modify), charset.name());
+            byte[] bodyBytes = String.join("&", list).getBytes(charset);
+            return shenyuPluginChain.execute(ServerWebExchangeUtils.replaceRequestBody(cached, bodyBytes));
+        });
     }
 
     @Override
@@ -123,35 +92,4 @@ public class FormDataOperator implements Operator {
         return GsonUtils.getGson().fromJson(json, new TypeToken<LinkedMultiValueMap<String, String>>() {
         }.getType());
     }
-    
-    static class ModifyServerHttpRequestDecorator extends ServerHttpRequestDecorator {
-
-        private final HttpHeaders headers;
-
-        private final CachedBodyOutputMessage cachedBodyOutputMessage;
-
-        ModifyServerHttpRequestDecorator(final HttpHeaders headers,
-                                         final ServerHttpRequest delegate,
-                                         final CachedBodyOutputMessage cachedBodyOutputMessage) {
-            super(delegate);
-            this.headers = headers;
-            this.cachedBodyOutputMessage = cachedBodyOutputMessage;
-        }
-
-        @SuppressWarnings("NullableProblems")
-        @Override
-        public HttpHeaders getHeaders() {
-            long contentLength = headers.getContentLength();
-            if (contentLength == 0) {
-                headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
-            }
-            return headers;
-        }
-
-        @SuppressWarnings("NullableProblems")
-        @Override
-        public Flux<DataBuffer> getBody() {
-            return cachedBodyOutputMessage.getBody();
-        }
-    }
 }
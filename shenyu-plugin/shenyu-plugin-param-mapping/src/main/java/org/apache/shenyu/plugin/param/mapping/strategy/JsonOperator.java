@@ -17,99 +17,63 @@
 
 package org.apache.shenyu.plugin.param.mapping.strategy;
 
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
-import org.apache.shenyu.plugin.base.support.BodyInserterContext;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ReactiveHttpOutputMessage;
+import org.apache.shenyu.plugin.base.support.JsonRewriter;
+import org.apache.shenyu.plugin.base.support.RequestBodyCache;
+import org.apache.shenyu.plugin.base.utils.ServerWebExchangeUtils;
+import org.apache.shenyu.plugin.param.mapping.handler.ParamMappingPluginDataHandler;
 import org.springframework.http.codec.HttpMessageReader;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Objects;
 
 /**
  * ApplicationJsonStrategy.
  */
 public class JsonOperator implements Operator {
 
-    private static final Logger LOG = LoggerFactory.getLogger(JsonOperator.class);
-
-    private final List<HttpMessageReader<?>> messageReaders;
+    /**
+     * modifies the json tree of the cached body in place when the paths can not be rewritten by streaming.
+     */
+    private static final Configuration JSON_NODE_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider())
+            .mappingProvider(new JacksonMappingProvider())
+            .build();
 
     /**
      * JsonOperator.
      *
-     * @param messageReaders messageReaders
+     * @param messageReaders messageReaders, not used since the body is cached as bytes
      */
     public JsonOperator(final List<HttpMessageReader<?>> messageReaders) {
-        this.messageReaders = messageReaders;
     }
 
     @Override
     public Mono<Void> apply(final ServerWebExchange exchange, final ShenyuPluginChain shenyuPluginChain, final ParamMappingRuleHandle paramMappingRuleHandle) {
-        ServerRequest serverRequest = ServerRequest.create(exchange, messageReaders);
-        Mono<String> mono = serverRequest.bodyToMono(String.class).switchIfEmpty(Mono.defer(() -> Mono.just(""))).flatMap(originalBody -> {
-            LOG.info("get body data success data:{}", originalBody);
-            //process entity
-            String modify = operation(originalBody, paramMappingRuleHandle);
-            return Mono.just(modify);
-        });
-        BodyInserter<Mono<String>, ReactiveHttpOutputMessage> bodyInserter = BodyInserters.fromPublisher(mono, String.class);
-        HttpHeaders headers = new HttpHeaders();
-        headers.putAll(exchange.getRequest().getHeaders());
-        headers.remove(HttpHeaders.CONTENT_LENGTH);
-        CachedBodyOutputMessage outputMessage = new CachedBodyOutputMessage(exchange, headers);
-        return bodyInserter.insert(outputMessage, new BodyInserterContext())
-                .then(Mono.defer(() -> {
-                    ServerHttpRequestDecorator decorator = new ModifyServerHttpRequestDecorator(headers, exchange.getRequest(), outputMessage);
-                    return shenyuPluginChain.execute(exchange.mutate().request(decorator).build());
-                })).onErrorResume((Function<Throwable, Mono<Void>>) throwable -> release(outputMessage, throwable));
-    }
-
-    static class ModifyServerHttpRequestDecorator extends ServerHttpRequestDecorator {
-
-        private final HttpHeaders headers;
-
-        private final CachedBodyOutputMessage cachedBodyOutputMessage;
-
-        ModifyServerHttpRequestDecorator(final HttpHeaders headers,
-                                         final ServerHttpRequest delegate,
-                                         final CachedBodyOutputMessage cachedBodyOutputMessage) {
-            super(delegate);
-            this.headers = headers;
-            this.cachedBodyOutputMessage = cachedBodyOutputMessage;
-        }
-
-        @SuppressWarnings("NullableProblems")
-        @Override
-        public HttpHeaders getHeaders() {
-            long contentLength = headers.getContentLength();
-            HttpHeaders httpHeaders = new HttpHeaders();
-            httpHeaders.putAll(headers);
-            if (contentLength > 0) {
-                httpHeaders.setContentLength(contentLength);
+        return ServerWebExchangeUtils.cacheRequestBody(exchange).flatMap(cached -> {
+            RequestBodyCache body = ServerWebExchangeUtils.getRequestBodyCache(cached);
+            JsonRewriter rewriter = ParamMappingPluginDataHandler.obtainRewriter(paramMappingRuleHandle);
+            byte[] modify;
+            if (rewriter.isSupported() && StandardCharsets.UTF_8.equals(body.getCharset())) {
+                modify = rewriter.isEmpty() ? body.getBytes() : rewriter.rewrite(body.getBytes());
+            } else if (Objects.isNull(body.getJson())) {
+                modify = operation(body.getString(), paramMappingRuleHandle).getBytes(body.getCharset());
             } else {
-                httpHeaders.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+                DocumentContext context = JsonPath.using(JSON_NODE_CONFIGURATION).parse(body.getJson());
+                modify(context, paramMappingRuleHandle);
+                modify = JsonUtils.toJsonBytes(context.json());
             }
-            return httpHeaders;
-        }
-
-        @SuppressWarnings("NullableProblems")
-        @Override
-        public Flux<DataBuffer> getBody() {
-            return cachedBodyOutputMessage.getBody();
-        }
+            return shenyuPluginChain.execute(ServerWebExchangeUtils.replaceRequestBody(cached, modify));
+        });
     }
 }
@@ -22,8 +22,6 @@ import com.jayway.jsonpath.JsonPath;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -42,20 +40,6 @@ public interface Operator {
      */
     Mono<Void> apply(ServerWebExchange exchange, ShenyuPluginChain shenyuPluginChain, ParamMappingRuleHandle paramMappingRuleHandle);
 
-    /**
-     * Clean buffer.
-     *
-     * @param outputMessage output
-     * @param throwable     throwable
-     * @return mono
-     */
-    default Mono<Void> release(final CachedBodyOutputMessage outputMessage, final Throwable throwable) {
-        if (Boolean.TRUE.equals(outputMessage.getCache())) {
-            return outputMessage.getBody().map(DataBufferUtils::release).then(Mono.error(throwable));
-        }
-        return Mono.error(throwable);
-    }
-
     /**
      * Operation.
      *
@@ -65,13 +49,7 @@ public interface Operator {
      */
     default String operation(final String jsonValue, final ParamMappingRuleHandle paramMappingRuleHandle) {
         DocumentContext context = JsonPath.parse(jsonValue);
-        operation(context, paramMappingRuleHandle);
-        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getReplaceParameterKeys())) {
-            paramMappingRuleHandle.getReplaceParameterKeys().forEach(info -> context.renameKey(info.getPath(), info.getKey(), info.getValue()));
-        }
-        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getRemoveParameterKeys())) {
-            paramMappingRuleHandle.getRemoveParameterKeys().forEach(context::delete);
-        }
+        modify(context, paramMappingRuleHandle);
         return context.jsonString();
     }
 
@@ -86,4 +64,20 @@ public interface Operator {
             paramMappingRuleHandle.getAddParameterKeys().forEach(info -> context.put(info.getPath(), info.getKey(), info.getValue()));
         }
     }
+
+    /**
+     * Add, replace and remove the parameters of the handle.
+     *
+     * @param context            context
+     * @param paramMappingRuleHandle handle
+     */
+    default void modify(final DocumentContext context, final ParamMappingRuleHandle paramMappingRuleHandle) {
+        operation(context, paramMappingRuleHandle);
+        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getReplaceParameterKeys())) {
+            paramMappingRuleHandle.getReplaceParameterKeys().forEach(info -> context.renameKey(info.getPath(), info.getKey(), info.getValue()));
+        }
+        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getRemoveParameterKeys())) {
+            paramMappingRuleHandle.getRemoveParameterKeys().forEach(context::delete);
+        }
+    }
 }
@@ -22,8 +22,10 @@ import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -34,10 +36,12 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -83,5 +87,15 @@ public class JsonOperatorTest {
         when(this.chain.execute(any())).thenReturn(Mono.empty());
         StepVerifier.create(jsonOperator.apply(this.exchange, this.chain, paramMappingRuleHandle)).expectSubscription().verifyComplete();
     }
-}
 
+    @Test
+    public void testApplyBody() {
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        when(this.chain.execute(captor.capture())).thenReturn(Mono.empty());
+        StepVerifier.create(jsonOperator.apply(this.exchange, this.chain, paramMappingRuleHandle)).expectSubscription().verifyComplete();
+        ServerWebExchange forwarded = captor.getValue();
+        String body = DataBufferUtils.join(forwarded.getRequest().getBody()).map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8)).block();
+        assertEquals("{\"realName\":\"shenyu\",\"webName\":\"SHENYU\"}", body);
+        assertEquals(body.length(), forwarded.getRequest().getHeaders().getContentLength());
+    }
+}
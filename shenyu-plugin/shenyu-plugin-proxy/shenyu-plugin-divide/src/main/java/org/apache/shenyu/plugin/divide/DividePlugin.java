@@ -55,14 +55,9 @@ public class DividePlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(DividePlugin.class);
 
-    private static final String P2C = "p2c";
-
-    private static final String SHORTEST_RESPONSE = "shortestResponse";
-
-    private Long beginTime;
-
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        markMatchedRoute(exchange, selector, rule);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
         DivideRuleHandle ruleHandle = buildRuleHandle(rule);
@@ -105,6 +100,8 @@ public class DividePlugin extends AbstractShenyuPlugin {
         // set domain
         String domain = upstream.buildDomain();
         exchange.getAttributes().put(Constants.HTTP_DOMAIN, domain);
+        // the http client tracks the requests in flight and the response time of the upstream
+        exchange.getAttributes().put(Constants.HTTP_UPSTREAM, upstream);
         // set the http timeout
         exchange.getAttributes().put(Constants.HTTP_TIME_OUT, ruleHandle.getTimeout());
         exchange.getAttributes().put(Constants.HTTP_RETRY, ruleHandle.getRetry());
@@ -112,14 +109,6 @@ public class DividePlugin extends AbstractShenyuPlugin {
         exchange.getAttributes().put(Constants.RETRY_STRATEGY, StringUtils.defaultString(ruleHandle.getRetryStrategy(), RetryEnum.CURRENT.getName()));
         exchange.getAttributes().put(Constants.LOAD_BALANCE, StringUtils.defaultString(ruleHandle.getLoadBalance(), LoadBalanceEnum.RANDOM.getName()));
         exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, selector.getId());
-        if (ruleHandle.getLoadBalance().equals(P2C)) {
-            return chain.execute(exchange).doOnSuccess(e -> responseTrigger(upstream
-            )).doOnError(throwable -> responseTrigger(upstream));
-        } else if (ruleHandle.getLoadBalance().equals(SHORTEST_RESPONSE)) {
-            beginTime = System.currentTimeMillis();
-            return chain.execute(exchange).doOnSuccess(e -> successResponseTrigger(upstream
-            ));
-        }
         return chain.execute(exchange);
     }
 
@@ -151,32 +140,4 @@ public class DividePlugin extends AbstractShenyuPlugin {
     private DivideRuleHandle buildRuleHandle(final RuleData rule) {
         return DividePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
     }
-
-    private void responseTrigger(final Upstream upstream) {
-        long now = System.currentTimeMillis();
-        upstream.getInflight().decrementAndGet();
-        upstream.setResponseStamp(now);
-        long stamp = upstream.getResponseStamp();
-        long td = now - stamp;
-        if (td < 0) {
-            td = 0;
-        }
-        double w = Math.exp((double) -td / (double) 600);
-
-        long lag = now - upstream.getLastPicked();
-        if (lag < 0) {
-            lag = 0;
-        }
-        long oldLag = upstream.getLag();
-        if (oldLag == 0) {
-            w = 0;
-        }
-        lag = (int) ((double) oldLag * w + (double) lag * (1.0 - w));
-        upstream.setLag(lag);
-    }
-
-    private void successResponseTrigger(final Upstream upstream) {
-        upstream.getSucceededElapsed().addAndGet(System.currentTimeMillis() - beginTime);
-        upstream.getSucceeded().incrementAndGet();
-    }
 }
@@ -51,16 +51,13 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -211,31 +208,16 @@ public final class DividePluginTest {
         assertEquals(PluginEnum.DIVIDE.getCode(), dividePlugin.getOrder());
     }
 
+    /**
+     * The selected upstream is handed to the http client, which tracks its requests in flight.
+     */
     @Test
-    public void responseTriggerTest() throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
-        Upstream upstream = Upstream.builder()
-                .url("upstream")
-                .build();
-        assertEquals(0, upstream.getLag());
-        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", Upstream.class);
-        method.setAccessible(true);
-        method.invoke(DividePlugin.class.newInstance(), upstream);
-        assertNotEquals(0, upstream.getLag());
-    }
-
-    @Test
-    public void successResponseTriggerTest() throws Exception {
-        dividePlugin = DividePlugin.class.newInstance();
-        Field field = DividePlugin.class.getDeclaredField("beginTime");
-        field.setAccessible(true);
-        field.set(dividePlugin, 0L);
-        Method method = DividePlugin.class.getDeclaredMethod("successResponseTrigger", Upstream.class);
-        method.setAccessible(true);
-        Upstream upstream = Upstream.builder()
-                .url("upstream")
-                .build();
-        method.invoke(dividePlugin, upstream);
-        assertEquals(1, upstream.getSucceeded().get());
+    public void selectedUpstreamTest() {
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(dividePlugin.doExecute(exchange, chain, selectorData, ruleData)).expectSubscription().verifyComplete();
+        Upstream upstream = exchange.getAttribute(Constants.HTTP_UPSTREAM);
+        assertNotNull(upstream);
+        assertEquals(upstream.buildDomain(), exchange.getAttribute(Constants.HTTP_DOMAIN));
     }
 
     /**
@@ -26,6 +26,7 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ResultEnum;
+import org.apache.shenyu.loadbalancer.entity.UpstreamRequest;
 import org.apache.shenyu.plugin.alibaba.dubbo.proxy.AlibabaDubboProxyService;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.dubbo.common.AbstractDubboPlugin;
@@ -77,7 +78,15 @@ public class AlibabaDubboPlugin extends AbstractDubboPlugin {
         RpcContext.getContext().setAttachment(Constants.DUBBO_RULE_ID, rule.getId());
         RpcContext.getContext().setAttachment(Constants.DUBBO_REMOTE_ADDRESS, Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress());
         return Mono.create(monoSink -> {
-            ResponseFuture future = alibabaDubboProxyService.genericInvoker(param, metaData);
+            final ResponseFuture future;
+            try {
+                future = alibabaDubboProxyService.genericInvoker(param, metaData);
+            } catch (RuntimeException e) {
+                UpstreamRequest.take().complete(false);
+                throw e;
+            }
+            // the gray load balance bound the request to this thread while invoking
+            final UpstreamRequest upstreamRequest = UpstreamRequest.take();
             future.setCallback(new ResponseCallback() {
 
                 @Override
@@ -88,11 +97,13 @@ public class AlibabaDubboPlugin extends AbstractDubboPlugin {
                         this.caught(result.getException());
                         return;
                     }
+                    upstreamRequest.complete(true);
                     monoSink.success(result.getValue());
                 }
 
                 @Override
                 public void caught(final Throwable ex) {
+                    upstreamRequest.complete(false);
                     LOG.error("dubbo failed using async genericInvoker() metaData={} param={}", metaData, param, ex);
                     monoSink.error(ex);
                 }
@@ -30,6 +30,7 @@ import org.apache.shenyu.common.dto.convert.rule.impl.DubboRuleHandle;
 import org.apache.shenyu.common.dto.convert.selector.DubboUpstream;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.entity.UpstreamRequest;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
 import org.apache.shenyu.plugin.alibaba.dubbo.handler.AlibabaDubboPluginDataHandler;
 
@@ -77,6 +78,8 @@ public class AlibabaDubboGrayLoadBalance implements LoadBalance {
             if (CollectionUtils.isEmpty(invokerGrays)) {
                 return select(invokers, url, invocation, dubboRuleHandle.getLoadbalance());
             }
+            // the invocation runs on this thread, the proxy service takes the request back to complete it
+            UpstreamRequest.startOnCurrentThread(upstream);
             return select(invokerGrays, url, invocation, dubboRuleHandle.getLoadbalance());
         }
         return select(invokers, url, invocation, dubboRuleHandle.getLoadbalance());
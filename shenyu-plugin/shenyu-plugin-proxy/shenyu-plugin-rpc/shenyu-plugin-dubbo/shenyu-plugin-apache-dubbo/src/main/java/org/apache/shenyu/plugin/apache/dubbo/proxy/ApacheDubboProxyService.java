@@ -32,6 +32,7 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.apache.shenyu.loadbalancer.entity.UpstreamRequest;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
 import org.springframework.web.server.ServerWebExchange;
@@ -94,8 +95,15 @@ public class ApacheDubboProxyService {
     @SuppressWarnings("unchecked")
     private CompletableFuture<Object> invokeAsync(final GenericService genericService, final String method, final String[] parameterTypes, final Object[] args) throws GenericException {
         //Compatible with asynchronous calls of lower Dubbo versions
-        genericService.$invoke(method, parameterTypes, args);
+        try {
+            genericService.$invoke(method, parameterTypes, args);
+        } catch (RuntimeException e) {
+            UpstreamRequest.take().complete(false);
+            throw e;
+        }
+        final UpstreamRequest upstreamRequest = UpstreamRequest.take();
         Object resultFromFuture = RpcContext.getContext().getFuture();
-        return resultFromFuture instanceof CompletableFuture ? (CompletableFuture<Object>) resultFromFuture : CompletableFuture.completedFuture(resultFromFuture);
+        CompletableFuture<Object> future = resultFromFuture instanceof CompletableFuture ? (CompletableFuture<Object>) resultFromFuture : CompletableFuture.completedFuture(resultFromFuture);
+        return future.whenComplete((result, throwable) -> upstreamRequest.complete(Objects.isNull(throwable)));
     }
 }
@@ -86,6 +86,7 @@ public abstract class AbstractDubboPlugin extends AbstractShenyuPlugin {
                                    final ShenyuPluginChain chain,
                                    final SelectorData selector,
                                    final RuleData rule) {
+        markMatchedRoute(exchange, selector, rule);
         String param = exchange.getAttribute(Constants.PARAM_TRANSFORM);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
@@ -58,6 +58,7 @@ public class TarsPlugin extends AbstractShenyuPlugin {
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        markMatchedRoute(exchange, selector, rule);
         String body = exchange.getAttribute(Constants.PARAM_TRANSFORM);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
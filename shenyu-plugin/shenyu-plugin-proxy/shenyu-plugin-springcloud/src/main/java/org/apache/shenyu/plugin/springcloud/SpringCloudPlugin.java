@@ -62,6 +62,7 @@ public class SpringCloudPlugin extends AbstractShenyuPlugin {
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                    final SelectorData selector, final RuleData rule) {
+        markMatchedRoute(exchange, selector, rule);
         if (Objects.isNull(rule)) {
             return Mono.empty();
         }
@@ -82,6 +83,7 @@ public class SpringCloudPlugin extends AbstractShenyuPlugin {
         }
         final String domain = upstream.buildDomain();
         setDomain(URI.create(domain + shenyuContext.getRealUrl()), exchange);
+        exchange.getAttributes().put(Constants.HTTP_UPSTREAM, upstream);
         //set time out.
         exchange.getAttributes().put(Constants.HTTP_TIME_OUT, ruleHandle.getTimeout());
         return chain.execute(exchange);
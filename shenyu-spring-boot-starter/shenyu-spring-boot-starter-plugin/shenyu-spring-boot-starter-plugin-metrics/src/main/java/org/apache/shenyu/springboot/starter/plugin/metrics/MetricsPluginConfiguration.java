@@ -35,11 +35,12 @@ public class MetricsPluginConfiguration {
     /**
      * Logging plugin.
      *
+     * @param shenyuConfig the shenyu config
      * @return the shenyu plugin
      */
     @Bean
-    public ShenyuPlugin metricsPlugin() {
-        return new MetricsPlugin();
+    public ShenyuPlugin metricsPlugin(final ShenyuConfig shenyuConfig) {
+        return new MetricsPlugin(shenyuConfig.getMetrics());
     }
     
     /**
@@ -18,6 +18,7 @@
 package org.apache.shenyu.sync.data.api;
 
 import java.util.List;
+import java.util.Objects;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -65,6 +66,18 @@ public interface PluginDataSubscriber {
     default void onSelectorSubscribe(SelectorData selectorData) {
     }
     
+    /**
+     * On selector subscribe of a batch, e.g. a full or partial snapshot of the selectors.
+     * The default subscribes the selectors one by one.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void onSelectorSubscribeBatch(List<SelectorData> selectorDataList) {
+        if (Objects.nonNull(selectorDataList)) {
+            selectorDataList.forEach(this::onSelectorSubscribe);
+        }
+    }
+    
     /**
      * Un selector subscribe.
      *
@@ -95,6 +108,18 @@ public interface PluginDataSubscriber {
     default void onRuleSubscribe(RuleData ruleData) {
     }
     
+    /**
+     * On rule subscribe of a batch, e.g. a full or partial snapshot of the rules.
+     * The default subscribes the rules one by one.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void onRuleSubscribeBatch(List<RuleData> ruleDataList) {
+        if (Objects.nonNull(ruleDataList)) {
+            ruleDataList.forEach(this::onRuleSubscribe);
+        }
+    }
+    
     /**
      * On rule subscribe.
      *
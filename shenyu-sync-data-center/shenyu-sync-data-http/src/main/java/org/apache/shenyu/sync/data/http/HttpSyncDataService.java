@@ -129,6 +129,11 @@ public class HttpSyncDataService implements SyncDataService {
         StringBuilder params = new StringBuilder();
         for (ConfigGroupEnum groupKey : groups) {
             params.append("groupKeys").append("=").append(groupKey.name()).append("&");
+            // md5,revision, ask for the changes since the cached revision
+            ConfigData<?> cacheConfig = factory.cacheConfigData(groupKey);
+            if (Objects.nonNull(cacheConfig) && cacheConfig.getRevision() > 0) {
+                params.append(groupKey.name()).append("=").append(cacheConfig.getMd5()).append(",").append(cacheConfig.getRevision()).append("&");
+            }
         }
         String url = server + Constants.SHENYU_ADMIN_PATH_CONFIGS_FETCH + "?" + StringUtils.removeEnd(params.toString(), "&");
         LOG.info("request configs: [{}]", url);
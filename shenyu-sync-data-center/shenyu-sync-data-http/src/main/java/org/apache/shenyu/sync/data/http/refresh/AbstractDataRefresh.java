@@ -18,9 +18,12 @@
 package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConfigChange;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,14 +81,52 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
 
         boolean updated = false;
         ConfigData<T> result = fromJson(jsonObject);
+        List<ConfigChange<T>> changes = result.getChanges();
+        if (Objects.nonNull(changes)) {
+            // a delta since the cached revision, only the config data is cached
+            ConfigData<?> cached = cacheConfigData();
+            if (Objects.isNull(cached) || cached.getRevision() >= result.getRevision()) {
+                return false;
+            }
+            result.setChanges(null);
+        }
         if (this.updateCacheIfNeed(result)) {
             updated = true;
-            refresh(result.getData());
+            if (Objects.isNull(changes)) {
+                refresh(result.getData());
+            } else {
+                changes.forEach(this::apply);
+            }
         }
 
         return updated;
     }
 
+    /**
+     * Apply the data created or updated since the cached revision.
+     *
+     * @param data the data
+     */
+    protected abstract void doUpdate(List<T> data);
+
+    /**
+     * Apply the data deleted since the cached revision.
+     *
+     * @param data the data
+     */
+    protected abstract void doDelete(List<T> data);
+
+    private void apply(final ConfigChange<T> change) {
+        if (CollectionUtils.isEmpty(change.getData())) {
+            return;
+        }
+        if (DataEventTypeEnum.DELETE.name().equals(change.getEventType())) {
+            doDelete(change.getData());
+        } else {
+            doUpdate(change.getData());
+        }
+    }
+
     /**
      * Update cache if need boolean.
      *
@@ -110,6 +151,7 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
         ResultHolder holder = new ResultHolder(false);
         GROUP_CACHE.merge(groupEnum, newVal, (oldVal, value) -> {
             if (StringUtils.equals(oldVal.getMd5(), newVal.getMd5())) {
+                oldVal.setRevision(newVal.getRevision());
                 LOG.info("Get the same config, the [{}] config cache will not be updated, md5:{}", groupEnum, oldVal.getMd5());
                 return oldVal;
             }
@@ -76,4 +76,14 @@ public class AppAuthDataRefresh extends AbstractDataRefresh<AppAuthData> {
             data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
         }
     }
+
+    @Override
+    protected void doUpdate(final List<AppAuthData> data) {
+        data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
+    }
+
+    @Override
+    protected void doDelete(final List<AppAuthData> data) {
+        data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.unSubscribe(authData)));
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -69,9 +70,10 @@ public final class DataRefreshFactory {
      * Cache config data.
      *
      * @param group the group
-     * @return the config data
+     * @return the config data, null when the group is not synced over http
      */
     public ConfigData<?> cacheConfigData(final ConfigGroupEnum group) {
-        return ENUM_MAP.get(group).cacheConfigData();
+        DataRefresh dataRefresh = ENUM_MAP.get(group);
+        return Objects.isNull(dataRefresh) ? null : dataRefresh.cacheConfigData();
     }
 }
@@ -75,4 +75,14 @@ public class MetaDataRefresh extends AbstractDataRefresh<MetaData> {
             data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(metaData)));
         }
     }
+
+    @Override
+    protected void doUpdate(final List<MetaData> data) {
+        data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(metaData)));
+    }
+
+    @Override
+    protected void doDelete(final List<MetaData> data) {
+        data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.unSubscribe(metaData)));
+    }
 }
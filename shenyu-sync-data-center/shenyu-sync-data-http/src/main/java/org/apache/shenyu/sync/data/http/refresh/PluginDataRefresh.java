@@ -76,4 +76,14 @@ public class PluginDataRefresh extends AbstractDataRefresh<PluginData> {
         }
         data.forEach(pluginDataSubscriber::onSubscribe);
     }
+
+    @Override
+    protected void doUpdate(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::onSubscribe);
+    }
+
+    @Override
+    protected void doDelete(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::unSubscribe);
+    }
 }
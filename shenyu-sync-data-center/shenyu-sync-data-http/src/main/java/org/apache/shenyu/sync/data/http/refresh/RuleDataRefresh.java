@@ -76,7 +76,17 @@ public class RuleDataRefresh extends AbstractDataRefresh<RuleData> {
         } else {
             // update cache for UpstreamCacheManager
             pluginDataSubscriber.refreshRuleDataAll();
-            data.forEach(pluginDataSubscriber::onRuleSubscribe);
+            pluginDataSubscriber.onRuleSubscribeBatch(data);
         }
     }
+
+    @Override
+    protected void doUpdate(final List<RuleData> data) {
+        pluginDataSubscriber.onRuleSubscribeBatch(data);
+    }
+
+    @Override
+    protected void doDelete(final List<RuleData> data) {
+        data.forEach(pluginDataSubscriber::unRuleSubscribe);
+    }
 }
@@ -76,7 +76,17 @@ public class SelectorDataRefresh extends AbstractDataRefresh<SelectorData> {
         } else {
             // update cache for UpstreamCacheManager
             pluginDataSubscriber.refreshSelectorDataAll();
-            data.forEach(pluginDataSubscriber::onSelectorSubscribe);
+            pluginDataSubscriber.onSelectorSubscribeBatch(data);
         }
     }
+
+    @Override
+    protected void doUpdate(final List<SelectorData> data) {
+        pluginDataSubscriber.onSelectorSubscribeBatch(data);
+    }
+
+    @Override
+    protected void doDelete(final List<SelectorData> data) {
+        data.forEach(pluginDataSubscriber::unSelectorSubscribe);
+    }
 }
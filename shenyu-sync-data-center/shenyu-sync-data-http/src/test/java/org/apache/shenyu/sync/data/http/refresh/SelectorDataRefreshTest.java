@@ -18,18 +18,27 @@
 package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
+import org.apache.shenyu.common.dto.ConfigChange;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -78,4 +87,27 @@ public final class SelectorDataRefreshTest {
         selectorDataList.add(selectorData);
         selectorDataRefresh.refresh(selectorDataList);
     }
+
+    @Test
+    public void testRefreshChanges() {
+        PluginDataSubscriber pluginDataSubscriber = mock(PluginDataSubscriber.class);
+        SelectorDataRefresh selectorDataRefresh = new SelectorDataRefresh(pluginDataSubscriber);
+        AbstractDataRefresh.GROUP_CACHE.put(ConfigGroupEnum.SELECTOR, new ConfigData<>("md5-1", 1L, Collections.emptyList()).setRevision(1));
+        List<SelectorData> changed = Collections.singletonList(SelectorData.builder().id("1").build());
+        ConfigChange<SelectorData> update = new ConfigChange<>(DataEventTypeEnum.UPDATE.name(), changed);
+        ConfigChange<SelectorData> delete = new ConfigChange<>(DataEventTypeEnum.DELETE.name(), changed);
+        ConfigData<SelectorData> delta = new ConfigData<SelectorData>("md5-2", 2L, null).setRevision(2).setChanges(Arrays.asList(update, delete));
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.add(ConfigGroupEnum.SELECTOR.name(), GsonUtils.getGson().toJsonTree(delta));
+
+        assertThat(selectorDataRefresh.refresh(jsonObject), is(true));
+        verify(pluginDataSubscriber).onSelectorSubscribeBatch(anyList());
+        verify(pluginDataSubscriber).unSelectorSubscribe(any(SelectorData.class));
+        verify(pluginDataSubscriber, never()).refreshSelectorDataAll();
+        assertThat(selectorDataRefresh.cacheConfigData().getRevision(), is(2L));
+        assertThat(selectorDataRefresh.cacheConfigData().getChanges(), nullValue());
+
+        // the changes were applied already
+        assertThat(selectorDataRefresh.refresh(jsonObject), is(false));
+    }
 }
@@ -17,7 +17,8 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
-import org.apache.shenyu.common.dto.WebsocketData;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.timer.AbstractRoundTask;
@@ -32,13 +33,18 @@ import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
 import org.java_websocket.handshake.ServerHandshake;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -51,6 +57,12 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
      */
     private static final Logger LOG = LoggerFactory.getLogger(ShenyuWebsocketClient.class);
 
+    private static final String GROUP_TYPE = "groupType";
+
+    private static final String EVENT_TYPE = "eventType";
+
+    private static final String DATA = "data";
+
     private volatile boolean alreadySync = Boolean.FALSE;
 
     private final WebsocketDataHandler websocketDataHandler;
@@ -75,7 +87,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
                                  final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
                                  final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers
     ) {
-        super(serverUri);
+        super(serverUri, new Draft_6455(new PerMessageDeflateExtension()));
         this.websocketDataHandler = new WebsocketDataHandler(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers);
         this.timer = WheelTimerFactory.getSharedTimer();
         this.connection();
@@ -98,7 +110,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
                                  final List<AuthDataSubscriber> authDataSubscribers,
                                  final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
                                  final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers) {
-        super(serverUri, headers);
+        super(serverUri, new Draft_6455(new PerMessageDeflateExtension()), headers);
         this.websocketDataHandler = new WebsocketDataHandler(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers);
         this.timer = WheelTimerFactory.getSharedTimer();
         this.connection();
@@ -185,15 +197,39 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
 
     /**
      * handle admin message.
+     * The group and event type lead the message, the data is decoded straight from the message into the data objects.
      *
      * @param result result
      */
     private void handleResult(final String result) {
-        LOG.info("handleResult({})", result);
-        WebsocketData<?> websocketData = GsonUtils.getInstance().fromJson(result, WebsocketData.class);
-        ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(websocketData.getGroupType());
-        String eventType = websocketData.getEventType();
-        String json = GsonUtils.getInstance().toJson(websocketData.getData());
-        websocketDataHandler.executor(groupEnum, json, eventType);
+        String groupType = null;
+        String eventType = null;
+        JsonElement data = null;
+        try (JsonReader reader = new JsonReader(new StringReader(result))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (GROUP_TYPE.equals(name)) {
+                    groupType = reader.nextString();
+                } else if (EVENT_TYPE.equals(name)) {
+                    eventType = reader.nextString();
+                } else if (DATA.equals(name) && Objects.nonNull(groupType) && Objects.nonNull(eventType)) {
+                    LOG.debug("websocket receive [{}] {} data, {} chars", groupType, eventType, result.length());
+                    websocketDataHandler.executor(ConfigGroupEnum.acquireByName(groupType), reader, eventType);
+                    return;
+                } else if (DATA.equals(name)) {
+                    data = GsonUtils.getGson().fromJson(reader, JsonElement.class);
+                } else {
+                    reader.skipValue();
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("websocket read message error", e);
+            return;
+        }
+        // the data came before the group or event type
+        if (Objects.nonNull(data)) {
+            websocketDataHandler.executor(ConfigGroupEnum.acquireByName(groupType), data.toString(), eventType);
+        }
     }
 }
@@ -17,10 +17,14 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import java.lang.reflect.Type;
 import java.util.List;
 
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 
 /**
  * The type Abstract data handler.
@@ -29,13 +33,26 @@ import org.apache.shenyu.common.enums.DataEventTypeEnum;
  */
 public abstract class AbstractDataHandler<T> implements DataHandler {
 
+    private final Type dataListType;
+
+    /**
+     * Instantiates a new data handler.
+     *
+     * @param dataType the type of the data
+     */
+    protected AbstractDataHandler(final Class<T> dataType) {
+        this.dataListType = TypeToken.getParameterized(List.class, dataType).getType();
+    }
+
     /**
      * Convert list.
      *
      * @param json the json
      * @return the list
      */
-    protected abstract List<T> convert(String json);
+    protected List<T> convert(final String json) {
+        return GsonUtils.getGson().fromJson(json, dataListType);
+    }
 
     /**
      * Do refresh.
@@ -60,8 +77,15 @@ public abstract class AbstractDataHandler<T> implements DataHandler {
 
     @Override
     public void handle(final String json, final String eventType) {
-        List<T> dataList = convert(json);
+        handle(convert(json), eventType);
+    }
+
+    @Override
+    public void handle(final JsonReader reader, final String eventType) {
+        handle(GsonUtils.getGson().<List<T>>fromJson(reader, dataListType), eventType);
+    }
 
+    private void handle(final List<T> dataList, final String eventType) {
         if (CollectionUtils.isEmpty(dataList)) {
             return;
         }
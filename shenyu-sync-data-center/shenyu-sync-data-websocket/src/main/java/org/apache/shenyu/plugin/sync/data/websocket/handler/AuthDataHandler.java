@@ -19,7 +19,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
 import org.apache.shenyu.common.dto.AppAuthData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 
 /**
@@ -30,14 +29,10 @@ public class AuthDataHandler extends AbstractDataHandler<AppAuthData> {
     private final List<AuthDataSubscriber> authDataSubscribers;
 
     public AuthDataHandler(final List<AuthDataSubscriber> authDataSubscribers) {
+        super(AppAuthData.class);
         this.authDataSubscribers = authDataSubscribers;
     }
 
-    @Override
-    public List<AppAuthData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, AppAuthData.class);
-    }
-
     @Override
     protected void doRefresh(final List<AppAuthData> dataList) {
         authDataSubscribers.forEach(AuthDataSubscriber::refresh);
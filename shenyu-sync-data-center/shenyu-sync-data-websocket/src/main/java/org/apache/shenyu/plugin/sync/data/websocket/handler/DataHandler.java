@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.stream.JsonReader;
+
 /**
  * The interface Data handler.
  *
@@ -30,4 +32,12 @@ public interface DataHandler {
      * @param eventType the event type
      */
     void handle(String json, String eventType);
+
+    /**
+     * Handle the data read straight from the message, the reader is positioned at the data array.
+     *
+     * @param reader    the reader of the data
+     * @param eventType the event type
+     */
+    void handle(JsonReader reader, String eventType);
 }
@@ -18,7 +18,6 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import org.apache.shenyu.common.dto.DiscoverySyncData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
 
 import java.util.List;
@@ -28,14 +27,10 @@ public class DiscoveryUpstreamDataHandler extends AbstractDataHandler<DiscoveryS
     private final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers;
 
     public DiscoveryUpstreamDataHandler(final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers) {
+        super(DiscoverySyncData.class);
         this.discoveryUpstreamDataSubscribers = discoveryUpstreamDataSubscribers;
     }
 
-    @Override
-    protected List<DiscoverySyncData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, DiscoverySyncData.class);
-    }
-
     @Override
     protected void doRefresh(final List<DiscoverySyncData> dataList) {
         dataList.forEach(data -> {
@@ -20,7 +20,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 import java.util.List;
 
 import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 
 /**
@@ -31,14 +30,10 @@ public class MetaDataHandler extends AbstractDataHandler<MetaData> {
     private final List<MetaDataSubscriber> metaDataSubscribers;
 
     public MetaDataHandler(final List<MetaDataSubscriber> metaDataSubscribers) {
+        super(MetaData.class);
         this.metaDataSubscribers = metaDataSubscribers;
     }
 
-    @Override
-    public List<MetaData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, MetaData.class);
-    }
-
     @Override
     protected void doRefresh(final List<MetaData> dataList) {
         metaDataSubscribers.forEach(MetaDataSubscriber::refresh);
@@ -18,7 +18,6 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import org.apache.shenyu.common.dto.PluginData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 import java.util.List;
@@ -31,14 +30,10 @@ public class PluginDataHandler extends AbstractDataHandler<PluginData> {
     private final PluginDataSubscriber pluginDataSubscriber;
 
     public PluginDataHandler(final PluginDataSubscriber pluginDataSubscriber) {
+        super(PluginData.class);
         this.pluginDataSubscriber = pluginDataSubscriber;
     }
 
-    @Override
-    public List<PluginData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, PluginData.class);
-    }
-
     @Override
     protected void doRefresh(final List<PluginData> dataList) {
         pluginDataSubscriber.refreshPluginDataSelf(dataList);
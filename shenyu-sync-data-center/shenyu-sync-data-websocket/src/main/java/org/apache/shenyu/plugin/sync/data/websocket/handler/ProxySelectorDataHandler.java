@@ -18,7 +18,6 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import org.apache.shenyu.common.dto.ProxySelectorData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 
 import java.util.List;
@@ -32,14 +31,10 @@ public class ProxySelectorDataHandler extends AbstractDataHandler<ProxySelectorD
     private final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers;
 
     public ProxySelectorDataHandler(final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers) {
+        super(ProxySelectorData.class);
         this.proxySelectorDataSubscribers = proxySelectorDataSubscribers;
     }
 
-    @Override
-    protected List<ProxySelectorData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, ProxySelectorData.class);
-    }
-
     @Override
     protected void doRefresh(final List<ProxySelectorData> dataList) {
         proxySelectorDataSubscribers.forEach(ProxySelectorDataSubscriber::refresh);
@@ -19,7 +19,6 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
 import org.apache.shenyu.common.dto.RuleData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 /**
@@ -30,23 +29,19 @@ public class RuleDataHandler extends AbstractDataHandler<RuleData> {
     private final PluginDataSubscriber pluginDataSubscriber;
 
     public RuleDataHandler(final PluginDataSubscriber pluginDataSubscriber) {
+        super(RuleData.class);
         this.pluginDataSubscriber = pluginDataSubscriber;
     }
 
-    @Override
-    public List<RuleData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, RuleData.class);
-    }
-
     @Override
     protected void doRefresh(final List<RuleData> dataList) {
         pluginDataSubscriber.refreshRuleDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        pluginDataSubscriber.onRuleSubscribeBatch(dataList);
     }
 
     @Override
     protected void doUpdate(final List<RuleData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        pluginDataSubscriber.onRuleSubscribeBatch(dataList);
     }
 
     @Override
@@ -18,7 +18,6 @@
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 
 import java.util.List;
@@ -31,23 +30,19 @@ public class SelectorDataHandler extends AbstractDataHandler<SelectorData> {
     private final PluginDataSubscriber pluginDataSubscriber;
 
     public SelectorDataHandler(final PluginDataSubscriber pluginDataSubscriber) {
+        super(SelectorData.class);
         this.pluginDataSubscriber = pluginDataSubscriber;
     }
 
-    @Override
-    public List<SelectorData> convert(final String json) {
-        return GsonUtils.getInstance().fromList(json, SelectorData.class);
-    }
-
     @Override
     protected void doRefresh(final List<SelectorData> dataList) {
         pluginDataSubscriber.refreshSelectorDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorSubscribeBatch(dataList);
     }
 
     @Override
     protected void doUpdate(final List<SelectorData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorSubscribeBatch(dataList);
     }
 
     @Override
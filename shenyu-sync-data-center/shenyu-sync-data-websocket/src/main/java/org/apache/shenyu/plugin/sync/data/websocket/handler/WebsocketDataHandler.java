@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.stream.JsonReader;
 import java.util.EnumMap;
 import java.util.List;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
@@ -65,4 +66,14 @@ public class WebsocketDataHandler {
         ENUM_MAP.get(type).handle(json, eventType);
     }
 
+    /**
+     * Executor, decoding the data straight from the message.
+     *
+     * @param type      the type
+     * @param reader    the reader positioned at the data
+     * @param eventType the event type
+     */
+    public void executor(final ConfigGroupEnum type, final JsonReader reader, final String eventType) {
+        ENUM_MAP.get(type).handle(reader, eventType);
+    }
 }
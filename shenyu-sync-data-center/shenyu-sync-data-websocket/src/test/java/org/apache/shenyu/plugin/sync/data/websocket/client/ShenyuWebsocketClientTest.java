@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
+import com.google.gson.JsonObject;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
@@ -101,6 +102,17 @@ public class ShenyuWebsocketClientTest {
         verify(pluginDataSubscriber).onSubscribe(any());
     }
     
+    @Test
+    public void testOnMessageDataFirst() {
+        doNothing().when(pluginDataSubscriber).onSubscribe(any());
+        JsonObject message = new JsonObject();
+        message.add("data", GsonUtils.getGson().toJsonTree(websocketData.getData()));
+        message.addProperty("groupType", websocketData.getGroupType());
+        message.addProperty("eventType", websocketData.getEventType());
+        shenyuWebsocketClient.onMessage(message.toString());
+        verify(pluginDataSubscriber).onSubscribe(any());
+    }
+    
     @Test
     public void testOnClose() {
         shenyuWebsocketClient = spy(shenyuWebsocketClient);
@@ -62,14 +62,14 @@ public final class RuleDataHandlerTest {
         List<RuleData> ruleDataList = createFakeRuleDateObjects(3);
         ruleDataHandler.doRefresh(ruleDataList);
         verify(subscriber).refreshRuleDataSelf(ruleDataList);
-        ruleDataList.forEach(verify(subscriber)::onRuleSubscribe);
+        verify(subscriber).onRuleSubscribeBatch(ruleDataList);
     }
 
     @Test
     public void testDoUpdate() {
         List<RuleData> ruleDataList = createFakeRuleDateObjects(4);
         ruleDataHandler.doUpdate(ruleDataList);
-        ruleDataList.forEach(verify(subscriber)::onRuleSubscribe);
+        verify(subscriber).onRuleSubscribeBatch(ruleDataList);
     }
 
     @Test
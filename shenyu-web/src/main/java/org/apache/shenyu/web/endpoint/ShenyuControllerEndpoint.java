@@ -23,11 +23,14 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.timing.PluginTimingRecorder;
+import org.apache.shenyu.plugin.api.timing.PluginTimingStats;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
 import org.apache.shenyu.plugin.base.cache.MetaDataCache;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrieStats;
 import org.apache.shenyu.web.handler.ShenyuWebHandler;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -161,4 +164,36 @@ public class ShenyuControllerEndpoint {
         return Flux.just(ruleTrie.getKeyRootKeys());
     }
 
+    /**
+     * get the node count and estimated memory of the selector trie.
+     *
+     * @return selector trie stats
+     */
+    @GetMapping("/selectorTrieStats")
+    public Flux<ShenyuTrieStats> getSelectorTrieStats() {
+        ShenyuTrie selectorTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
+        return Flux.just(selectorTrie.stats());
+    }
+
+    /**
+     * get the node count and estimated memory of the rule trie.
+     *
+     * @return rule trie stats
+     */
+    @GetMapping("/ruleTrieStats")
+    public Flux<ShenyuTrieStats> getRuleTrieStats() {
+        ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
+        return Flux.just(ruleTrie.stats());
+    }
+
+    /**
+     * get the sampled time each plugin takes to skip, match and execute.
+     *
+     * @return plugin name -> plugin timing
+     */
+    @GetMapping("/pluginTiming")
+    public Flux<Map<String, PluginTimingStats>> getPluginTiming() {
+        return Flux.just(PluginTimingRecorder.getStats());
+    }
+
 }
@@ -19,11 +19,14 @@ package org.apache.shenyu.web.handler;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.config.PluginTimingConfig;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.timing.PluginTimingRecorder;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -37,8 +40,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -88,6 +93,8 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 this.scheduler = Schedulers.boundedElastic();
             }
         }
+        PluginTimingConfig pluginTiming = shenyuConfig.getPluginTiming();
+        PluginTimingRecorder.configure(pluginTiming.getEnabled(), pluginTiming.getSampleRate());
     }
 
     /**
@@ -98,7 +105,11 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
-        Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+        boolean timed = PluginTimingRecorder.sample();
+        if (timed) {
+            exchange.getAttributes().put(Constants.PLUGIN_TIMING_SAMPLED, Boolean.TRUE);
+        }
+        Mono<Void> execute = new DefaultShenyuPluginChain(plugins, timed).execute(exchange);
         if (scheduled) {
             return execute.subscribeOn(scheduler);
         }
@@ -233,14 +244,21 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         private int index;
 
         private final List<ShenyuPlugin> plugins;
+
+        private final boolean timed;
+
+        private final Deque<TimingFrame> frames;
     
         /**
          * Instantiates a new Default shenyu plugin chain.
          *
          * @param plugins the plugins
+         * @param timed whether to record the time each plugin takes
          */
-        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins) {
+        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins, final boolean timed) {
             this.plugins = plugins;
+            this.timed = timed;
+            this.frames = timed ? new ArrayDeque<>() : null;
         }
 
         /**
@@ -252,8 +270,14 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         @Override
         public Mono<Void> execute(final ServerWebExchange exchange) {
             return Mono.defer(() -> {
+                if (timed) {
+                    chained();
+                }
                 if (this.index < plugins.size()) {
                     ShenyuPlugin plugin = plugins.get(this.index++);
+                    if (timed) {
+                        return timedExecute(plugin, exchange);
+                    }
                     boolean skip = plugin.skip(exchange);
                     if (skip) {
                         return this.execute(exchange);
@@ -263,5 +287,67 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 return Mono.empty();
             });
         }
+
+        /**
+         * Execute the plugin and record the time it takes, it runs in the subscription of the chain.
+         * The execute time lasts until the plugin goes on with the chain, the total time until the plugin completes.
+         *
+         * @param plugin the plugin
+         * @param exchange the current server exchange
+         * @return {@code Mono<Void>} to indicate when request handling is complete
+         */
+        private Mono<Void> timedExecute(final ShenyuPlugin plugin, final ServerWebExchange exchange) {
+            long start = System.nanoTime();
+            boolean skip = plugin.skip(exchange);
+            long skipped = System.nanoTime();
+            PluginTimingRecorder.recordSkip(plugin.named(), skipped - start);
+            if (skip) {
+                return this.execute(exchange);
+            }
+            TimingFrame frame = new TimingFrame(skipped);
+            frames.push(frame);
+            return plugin.execute(exchange, this).doFinally(signal -> {
+                long end = System.nanoTime();
+                frames.removeFirstOccurrence(frame);
+                PluginTimingRecorder.recordExecute(plugin.named(), frame.chainedOr(end) - frame.start, end - frame.start);
+            });
+        }
+
+        /**
+         * The plugin on the top of the frames went on with the chain.
+         */
+        private void chained() {
+            TimingFrame frame = frames.peek();
+            if (Objects.nonNull(frame)) {
+                frame.chained(System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * The timing of a plugin being executed, the chain is executed by one subscription at a time.
+     */
+    private static final class TimingFrame {
+
+        private final long start;
+
+        private long chained;
+
+        private boolean isChained;
+
+        TimingFrame(final long start) {
+            this.start = start;
+        }
+
+        void chained(final long nanos) {
+            if (!isChained) {
+                isChained = true;
+                chained = nanos;
+            }
+        }
+
+        long chainedOr(final long end) {
+            return isChained ? chained : end;
+        }
     }
 }
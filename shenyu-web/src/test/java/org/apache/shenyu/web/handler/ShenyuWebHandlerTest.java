@@ -24,6 +24,8 @@ import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.timing.PluginTimingRecorder;
+import org.apache.shenyu.plugin.api.timing.PluginTimingStats;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -40,11 +42,14 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -87,6 +92,58 @@ public final class ShenyuWebHandlerTest {
 
     }
 
+    @Test
+    public void handleTimed() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getPluginTiming().setEnabled(true);
+        shenyuConfig.getPluginTiming().setSampleRate(1D);
+        try {
+            Mono<Void> handle = new ShenyuWebHandler(listPlugins, shenyuLoaderService, shenyuConfig).handle(exchange);
+            StepVerifier.create(handle).expectSubscription().verifyComplete();
+            assertTrue(PluginTimingRecorder.isSampled(exchange));
+            PluginTimingStats executed = PluginTimingRecorder.getStats().get("test-plugin1");
+            assertEquals(1L, executed.getSkipCount());
+            assertEquals(1L, executed.getExecuteCount());
+            PluginTimingStats skipped = PluginTimingRecorder.getStats().get("test-plugin2");
+            assertEquals(1L, skipped.getSkipCount());
+            assertEquals(0L, skipped.getExecuteCount());
+        } finally {
+            PluginTimingRecorder.configure(false, 1D);
+            PluginTimingRecorder.reset();
+        }
+        assertFalse(PluginTimingRecorder.sample());
+    }
+
+    @Test
+    public void handleTimedAsync() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getPluginTiming().setEnabled(true);
+        shenyuConfig.getPluginTiming().setSampleRate(1D);
+        List<ShenyuPlugin> plugins = new ArrayList<>();
+        plugins.add(new DelayPlugin("test-delay1", 1, Duration.ofMillis(50)));
+        plugins.add(new DelayPlugin("test-delay2", 2, Duration.ofMillis(100)));
+        try {
+            Mono<Void> handle = new ShenyuWebHandler(plugins, shenyuLoaderService, shenyuConfig).handle(exchange);
+            StepVerifier.create(handle).expectSubscription().verifyComplete();
+            PluginTimingStats first = PluginTimingRecorder.getStats().get("test-delay1");
+            assertEquals(1L, first.getExecuteCount());
+            assertTrue(first.getExecuteNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertTrue(first.getTotalNanos() >= TimeUnit.MILLISECONDS.toNanos(150));
+            PluginTimingStats second = PluginTimingRecorder.getStats().get("test-delay2");
+            assertTrue(second.getExecuteNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(second.getTotalNanos() >= second.getExecuteNanos());
+        } finally {
+            PluginTimingRecorder.configure(false, 1D);
+            PluginTimingRecorder.reset();
+        }
+    }
+
     @Test
     public void putExtPlugins() {
         shenyuWebHandler.putExtPlugins(Collections.emptyList());
@@ -153,6 +210,36 @@ public final class ShenyuWebHandlerTest {
         assertEquals(pluginDataSorted.get(0), plugin2);
     }
 
+    static class DelayPlugin implements ShenyuPlugin {
+
+        private final String name;
+
+        private final int order;
+
+        private final Duration delay;
+
+        DelayPlugin(final String name, final int order, final Duration delay) {
+            this.name = name;
+            this.order = order;
+            this.delay = delay;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return Mono.delay(delay).then(chain.execute(exchange));
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return name;
+        }
+    }
+
     static class TestPlugin1 implements ShenyuPlugin {
 
         @Override